@@ -0,0 +1,175 @@
+package com.dormitory.SpringBoot.controller;
+
+import com.dormitory.SpringBoot.services.ContentStorageService;
+import com.dormitory.SpringBoot.storage.LocalDiskObjectStorage;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.startup.Tomcat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 파일(/uploads/**) 서빙 부하 비교 벤치마크
+ * ✅ 기존 정적 리소스 핸들러(ResourceHttpRequestHandler, WebConfig의 file: 매핑)와 UploadController를
+ *    같은 내장 Tomcat에 올려 실제 HTTP로 동시 요청 (@Threads 8 - 클라이언트 8개)
+ * ✅ 전체 다운로드 / 조건부 재요청(If-None-Match, If-Modified-Since) / 범위 요청(앞 64KB)
+ * ✅ 파일 크기: 썸네일 수준(64KB) / 원본 사진 수준(4MB)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=UploadServing
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class UploadServingBenchmark {
+
+    @Param({"resourceHandler", "uploadController"})
+    private String handler;
+
+    @Param({"65536", "4194304"})
+    private int fileSize;
+
+    private Path baseDirectory;
+    private Tomcat tomcat;
+    private HttpClient client;
+    private URI fileUri;
+    private String etag;
+    private String lastModified;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        baseDirectory = Files.createTempDirectory("upload-serving-");
+        byte[] content = new byte[fileSize];
+        new Random(42).nextBytes(content);
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        String relativePath = ContentStorageService.CAS_PREFIX + hash.substring(0, 2) + "/" + hash.substring(2, 4)
+                + "/" + hash + ".jpg";
+        Path file = baseDirectory.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+
+        tomcat = startTomcat();
+        String prefix = "resourceHandler".equals(handler) ? "/static/" : "/uploads/";
+        fileUri = URI.create("http://127.0.0.1:" + tomcat.getConnector().getLocalPort() + prefix + relativePath);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        // 조건부 요청용 검증자 확보 + 응답 확인
+        HttpResponse<byte[]> first = client.send(HttpRequest.newBuilder(fileUri).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (first.statusCode() != 200 || first.body().length != fileSize) {
+            throw new IllegalStateException(handler + " 응답 이상 - 상태: " + first.statusCode()
+                    + ", 크기: " + first.body().length);
+        }
+        etag = first.headers().firstValue("ETag").orElse(null);
+        lastModified = first.headers().firstValue("Last-Modified").orElse(null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws LifecycleException, IOException {
+        tomcat.stop();
+        tomcat.destroy();
+        FileSystemUtils.deleteRecursively(baseDirectory);
+    }
+
+    @Benchmark
+    public int fullDownload() throws Exception {
+        return client.send(HttpRequest.newBuilder(fileUri).GET().build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public int conditionalRevalidation() throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(fileUri).GET();
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        if (lastModified != null) {
+            request.header("If-Modified-Since", lastModified);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public int rangeRequest() throws Exception {
+        return client.send(HttpRequest.newBuilder(fileUri).GET().header("Range", "bytes=0-65535").build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * 기존 핸들러(/static/**)와 UploadController(/uploads/**)를 등록한 내장 Tomcat (NIO, sendfile 기본 활성)
+     */
+    private Tomcat startTomcat() throws Exception {
+        Tomcat server = new Tomcat();
+        server.setBaseDir(baseDirectory.resolve(".tomcat").toString());
+        server.setPort(0);
+        server.getConnector();
+        Context context = server.addContext("", null);
+
+        ResourceHttpRequestHandler resourceHandler = new ResourceHttpRequestHandler();
+        resourceHandler.setLocations(List.of(new FileSystemResource(baseDirectory.toString() + "/")));
+        resourceHandler.setServletContext(context.getServletContext());
+        resourceHandler.afterPropertiesSet();
+        Tomcat.addServlet(context, "resourceHandler", new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, request.getPathInfo().substring(1));
+                try {
+                    resourceHandler.handleRequest(request, response);
+                } catch (jakarta.servlet.ServletException e) {
+                    throw new IOException(e);
+                }
+            }
+        });
+        context.addServletMappingDecoded("/static/*", "resourceHandler");
+
+        ContentStorageService storage = new ContentStorageService();
+        ReflectionTestUtils.setField(storage, "uploadBasePath", baseDirectory.toAbsolutePath().normalize());
+        ReflectionTestUtils.setField(storage, "objectStorage", new LocalDiskObjectStorage(baseDirectory));
+        UploadController controller = new UploadController();
+        ReflectionTestUtils.setField(controller, "contentStorageService", storage);
+        ReflectionTestUtils.setField(controller, "immutableMaxAgeSeconds", 31536000L);
+        ReflectionTestUtils.setField(controller, "legacyMaxAgeSeconds", 3600L);
+        ReflectionTestUtils.setField(controller, "redirectMaxAgeSeconds", 300L);
+        Tomcat.addServlet(context, "uploadController", new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, request.getPathInfo());
+                controller.serveUpload(request, response);
+            }
+        });
+        context.addServletMappingDecoded("/uploads/*", "uploadController");
+
+        server.start();
+        return server;
+    }
+}
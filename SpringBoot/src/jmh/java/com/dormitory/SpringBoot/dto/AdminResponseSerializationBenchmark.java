@@ -0,0 +1,61 @@
+package com.dormitory.SpringBoot.dto;
+
+import com.dormitory.SpringBoot.config.JacksonConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자 점호 목록 응답 JSON 직렬화 벤치마크
+ * ✅ /api/inspections/admin/all, /admin/date/{date} 응답과 같은 형태 (ApiResponse + AdminResponse 목록)
+ * ✅ 애플리케이션과 같은 ObjectMapper 설정 (JacksonConfig)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AdminResponseSerializationBenchmark {
+
+    // 하루 한 개 동 / 하루 전체 / 전체 기록
+    @Param({"200", "5000", "50000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<InspectionRequest.AdminResponse>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 21, 0);
+        List<InspectionRequest.AdminResponse> inspections = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime submittedAt = base.plusMinutes(i % 150);
+            boolean pass = i % 4 != 0;
+            InspectionRequest.AdminResponse inspection = new InspectionRequest.AdminResponse(
+                    (long) i + 1, String.format("2025%05d", i), "학생" + i, String.valueOf(100 * (i % 10 + 1) + i % 12),
+                    "cas/ab/cd/" + Integer.toHexString(i * 31 + 7) + ".jpg", pass ? 8 : 4, pass ? "PASS" : "FAIL",
+                    pass ? "정리 상태가 양호합니다." : "침구와 바닥 정리가 필요합니다. 책상 위 물건을 정돈해 주세요.",
+                    null, i % 30 == 0, submittedAt, submittedAt, submittedAt);
+            inspection.setDormitoryBuilding((i % 24 + 1) + "동");
+            inspections.add(inspection);
+        }
+        response = ApiResponse.success("전체 점호 기록 조회 성공", inspections);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
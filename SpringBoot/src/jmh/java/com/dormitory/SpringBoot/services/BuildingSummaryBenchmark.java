@@ -0,0 +1,94 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.domain.BuildingTableConfig;
+import com.dormitory.SpringBoot.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기숙사동 층/호실 현황 그리드 계산 벤치마크 (InspectionService.buildBuildingSummary)
+ * ✅ 명부 색인(호실 → 거주자)과 당일 사용자별 점호 상태로 호실 상태 코드 그리드 구성
+ * ✅ DB 접근 없이 계산 부분만 측정 (명부는 RoomRosterIndex.replaceAll로 채움)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BuildingSummaryBenchmark {
+
+    private static final String BUILDING = "1동";
+
+    @Param({"5", "15"})
+    private int floors;
+
+    @Param({"12", "40"})
+    private int roomsPerFloor;
+
+    private InspectionService inspectionService;
+    private BuildingTableConfig config;
+    private Map<String, String> userStatusMap;
+    private LocalDate date;
+
+    @Setup
+    public void setUp() {
+        config = new BuildingTableConfig();
+        config.setId(1L);
+        config.setBuildingName(BUILDING);
+        config.setStartFloor(1);
+        config.setEndFloor(floors);
+        config.setStartRoom(1);
+        config.setEndRoom(roomsPerFloor);
+        config.setRoomNumberFormat("FLOOR_ROOM");
+        config.setIsActive(true);
+
+        // 호실당 2명, 약 5%는 빈 방, 제출자 중 일부는 불합격/대기
+        Random random = new Random(42);
+        List<User> users = new ArrayList<>();
+        userStatusMap = new HashMap<>();
+        String[] statuses = {"PASS", "PASS", "PASS", "FAIL", "PENDING"};
+        for (int floor = 1; floor <= floors; floor++) {
+            for (int room = 1; room <= roomsPerFloor; room++) {
+                if (random.nextInt(100) < 5) {
+                    continue;
+                }
+                String roomNumber = config.generateRoomNumber(floor, room);
+                for (int resident = 0; resident < 2; resident++) {
+                    User user = new User(BUILDING + "-" + roomNumber + "-" + resident, "password", false);
+                    user.setName("name");
+                    user.setDormitoryBuilding(BUILDING);
+                    user.setRoomNumber(roomNumber);
+                    users.add(user);
+                    if (random.nextInt(100) < 85) {
+                        userStatusMap.put(user.getId(), statuses[random.nextInt(statuses.length)]);
+                    }
+                }
+            }
+        }
+
+        RoomRosterIndex rosterIndex = new RoomRosterIndex();
+        rosterIndex.replaceAll(users);
+
+        inspectionService = new InspectionService();
+        ReflectionTestUtils.setField(inspectionService, "rosterIndex", rosterIndex);
+        date = LocalDate.of(2025, 3, 1);
+    }
+
+    @Benchmark
+    public Map<String, Object> buildSummary() {
+        return inspectionService.buildBuildingSummary(BUILDING, date, config, userStatusMap);
+    }
+}
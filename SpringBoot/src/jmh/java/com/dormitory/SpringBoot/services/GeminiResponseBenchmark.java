@@ -0,0 +1,82 @@
+package com.dormitory.SpringBoot.services;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gemini 응답 처리 벤치마크
+ * ✅ 응답 JSON 파싱 → 방 사진 여부 판정 → 점수/피드백 추출 (GeminiService.parseGeminiResponse)
+ * ✅ 텍스트에서 점수/피드백 추출만 따로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeminiResponseBenchmark {
+
+    private static final String ANALYSIS_TEXT = """
+            점수: 7점
+            피드백: 침대 위 이불이 정돈되어 있고 바닥에 물건이 거의 없어 전반적으로 깔끔합니다. \
+            책상 위 물건이 다소 흩어져 있으니 정리하면 더 좋겠습니다. 쓰레기통이 가득 차 있어 비워주세요.
+            """;
+
+    private GeminiService geminiService;
+    private String responseBody;
+
+    @Setup
+    public void setUp() {
+        geminiService = new GeminiService();
+        ReflectionTestUtils.setField(geminiService, "fallbackScore", 7);
+        ReflectionTestUtils.setField(geminiService, "fallbackEnabled", true);
+
+        // generateContent 응답 형식 (candidates → content → parts → text)
+        responseBody = """
+                {
+                  "candidates": [
+                    {
+                      "content": {
+                        "parts": [ { "text": %s } ],
+                        "role": "model"
+                      },
+                      "finishReason": "STOP",
+                      "index": 0,
+                      "safetyRatings": [
+                        { "category": "HARM_CATEGORY_HARASSMENT", "probability": "NEGLIGIBLE" },
+                        { "category": "HARM_CATEGORY_HATE_SPEECH", "probability": "NEGLIGIBLE" },
+                        { "category": "HARM_CATEGORY_SEXUALLY_EXPLICIT", "probability": "NEGLIGIBLE" },
+                        { "category": "HARM_CATEGORY_DANGEROUS_CONTENT", "probability": "NEGLIGIBLE" }
+                      ]
+                    }
+                  ],
+                  "usageMetadata": { "promptTokenCount": 1830, "candidatesTokenCount": 96, "totalTokenCount": 1926 },
+                  "modelVersion": "gemini-2.5-flash"
+                }
+                """.formatted(quote(ANALYSIS_TEXT));
+    }
+
+    @Benchmark
+    public GeminiService.AnalysisResult parseResponse() {
+        return geminiService.parseGeminiResponse(responseBody);
+    }
+
+    @Benchmark
+    public int extractScore() {
+        return geminiService.extractScoreFromText(ANALYSIS_TEXT);
+    }
+
+    @Benchmark
+    public String extractFeedback() {
+        return geminiService.extractFeedbackFromText(ANALYSIS_TEXT);
+    }
+
+    private static String quote(String text) {
+        return "\"" + text.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+    }
+}
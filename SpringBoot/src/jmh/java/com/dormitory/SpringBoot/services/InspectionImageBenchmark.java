@@ -0,0 +1,75 @@
+package com.dormitory.SpringBoot.services;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 점호 사진 업로드 처리 벤치마크
+ * ✅ EXIF 추출 (ExifService.extractExifData)
+ * ✅ Gemini 요청용 Base64 인코딩 (GeminiService.encodeMultipartFileToBase64)
+ * 사진은 고정 시드 노이즈로 생성한 JPEG (휴대폰 사진과 비슷한 압축 크기)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InspectionImageBenchmark {
+
+    // 긴 변 픽셀 수 (웹 표시용 / 일반 휴대폰 사진)
+    @Param({"1280", "4032"})
+    private int longEdge;
+
+    private ExifService exifService;
+    private GeminiService geminiService;
+    private MockMultipartFile imageFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        exifService = new ExifService();
+        geminiService = new GeminiService();
+        imageFile = new MockMultipartFile("image", "room.jpg", "image/jpeg", sampleJpeg(longEdge, longEdge * 3 / 4));
+    }
+
+    @Benchmark
+    public Map<String, Object> extractExif() {
+        return exifService.extractExifData(imageFile);
+    }
+
+    @Benchmark
+    public String encodeBase64() {
+        return geminiService.encodeMultipartFileToBase64(imageFile);
+    }
+
+    static byte[] sampleJpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        // 블록 단위 색 + 약한 노이즈 (완전한 노이즈는 실제 사진보다 훨씬 커짐)
+        for (int y = 0; y < height; y += 8) {
+            for (int x = 0; x < width; x += 8) {
+                int base = random.nextInt(0xFFFFFF);
+                for (int dy = 0; dy < 8 && y + dy < height; dy++) {
+                    for (int dx = 0; dx < 8 && x + dx < width; dx++) {
+                        image.setRGB(x + dx, y + dy, base ^ random.nextInt(0x0F0F0F));
+                    }
+                }
+            }
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,47 @@
+package com.dormitory.SpringBoot.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 개인정보 암호화/복호화 벤치마크
+ * ✅ 가입/정보 수정 시 암호화, 사용자/점호 목록 응답마다 이름 복호화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EncryptionUtilBenchmark {
+
+    // 이름 / 이메일 / 긴 문장
+    @Param({"홍길동", "student20250001@dormitory.ac.kr", "기숙사 생활 중 불편한 점이 있어 호실 변경을 요청드립니다. 확인 부탁드립니다."})
+    private String plainText;
+
+    private EncryptionUtil encryptionUtil;
+    private String encrypted;
+
+    @Setup
+    public void setUp() {
+        encryptionUtil = new EncryptionUtil();
+        ReflectionTestUtils.setField(encryptionUtil, "secretKey", "aBcDeFgHiJkLmNoPqRsTuVwXyZ123456");
+        encrypted = encryptionUtil.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return encryptionUtil.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryptionUtil.decrypt(encrypted);
+    }
+}
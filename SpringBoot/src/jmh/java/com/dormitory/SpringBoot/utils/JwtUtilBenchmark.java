@@ -0,0 +1,55 @@
+package com.dormitory.SpringBoot.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 벤치마크
+ * ✅ 인증이 필요한 모든 요청에서 JwtAuthenticationFilter가 토큰 검증 + 사용자 ID/권한 추출 수행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret",
+                "8hZ$9#sL@pQ&vG!k*J^X%mN(tY5@uE!pQ&vG!k*J^X%mN(tY5@uE!pQ&vG!k*J^X%mN(tY5@uE");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", 86_400_000L);
+        token = jwtUtil.generateToken("20250001", false);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtil.generateToken("20250001", false);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtUtil.isTokenValid(token);
+    }
+
+    /**
+     * 필터와 같은 순서로 검증 후 사용자 ID/관리자 여부 추출
+     */
+    @Benchmark
+    public void validateAndParse(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.isTokenValid(token));
+        blackhole.consume(jwtUtil.getUserIdFromToken(token));
+        blackhole.consume(jwtUtil.getIsAdminFromToken(token));
+    }
+}
@@ -0,0 +1,118 @@
+package com.dormitory.SpringBoot.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Instant;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * 비동기 처리 설정
+ * ✅ 점호 도메인 이벤트 리스너 전용 스레드 풀 (크기/큐 제한)
+ * ✅ 이미지 파생본(썸네일) 생성 전용 스레드 풀 (CPU/메모리 사용이 커서 분리)
+ * ✅ 관리자 대시보드(전체 기숙사 현황) 병렬 계산용 ForkJoinPool (병렬도 제한)
+ * ✅ 스레드 풀 작업에는 요청 스레드의 추적 컨텍스트/MDC(traceId, spanId)를 전달
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncConfig.class);
+
+    public static final String INSPECTION_EVENT_EXECUTOR = "inspectionEventExecutor";
+
+    public static final String IMAGE_RENDITION_EXECUTOR = "imageRenditionExecutor";
+
+    public static final String DASHBOARD_POOL = "dashboardPool";
+
+    @Value("${inspection.events.pool.core-size:2}")
+    private int coreSize;
+
+    @Value("${inspection.events.pool.max-size:4}")
+    private int maxSize;
+
+    @Value("${inspection.events.pool.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${inspection.events.pool.requeue-delay-ms:500}")
+    private long requeueDelayMs;
+
+    @Value("${file.rendition.pool.size:2}")
+    private int renditionPoolSize;
+
+    @Value("${file.rendition.pool.queue-capacity:200}")
+    private int renditionQueueCapacity;
+
+    @Value("${inspection.dashboard.parallelism:0}")
+    private int dashboardParallelism;
+
+    /**
+     * 점호 이벤트 처리용 Executor
+     * 큐가 가득 차면 스케줄러로 잠시 뒤 다시 넣음 (커밋한 요청 스레드에서 실행하지 않고, 이벤트도 버리지 않음)
+     */
+    @Bean(name = INSPECTION_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor inspectionEventExecutor(ObjectProvider<TaskScheduler> taskScheduler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("inspection-event-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            if (pool.isShutdown()) {
+                logger.warn("점호 이벤트 Executor 종료 중이라 작업을 버립니다.");
+                return;
+            }
+            logger.warn("점호 이벤트 대기열이 가득 차 {}ms 뒤 다시 넣습니다. (대기: {})", requeueDelayMs, pool.getQueue().size());
+            taskScheduler.getObject().schedule(() -> pool.execute(task), Instant.now().plusMillis(requeueDelayMs));
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이미지 파생본 생성용 Executor
+     * 큐가 가득 차면 요청을 버림 (파생본이 없으면 원본으로 대체 서빙되므로 업로드 요청을 막지 않음)
+     */
+    @Bean(name = IMAGE_RENDITION_EXECUTOR)
+    public ThreadPoolTaskExecutor imageRenditionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(renditionPoolSize);
+        executor.setMaxPoolSize(renditionPoolSize);
+        executor.setQueueCapacity(renditionQueueCapacity);
+        executor.setThreadNamePrefix("image-rendition-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setRejectedExecutionHandler((task, pool) ->
+                logger.warn("이미지 파생본 생성 대기열이 가득 차 요청을 건너뜁니다. (대기: {})", pool.getQueue().size()));
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 대시보드 계산용 ForkJoinPool
+     * 공용 풀(commonPool)과 분리해 다른 병렬 작업과 CPU를 다투지 않도록 병렬도를 제한 (0이면 CPU 수 - 1)
+     */
+    @Bean(name = DASHBOARD_POOL, destroyMethod = "shutdown")
+    public ForkJoinPool dashboardPool() {
+        int parallelism = dashboardParallelism > 0
+                ? dashboardParallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("dashboard-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+}
@@ -0,0 +1,96 @@
+package com.dormitory.SpringBoot.config;
+
+import com.dormitory.SpringBoot.services.QueryDiagnostics;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 분리 DataSource 설정 (datasource.replica.enabled=true일 때만)
+ * ✅ 주 DB: PrimaryDataSourceConfig의 primaryDataSource (풀 이름: primary)
+ * ✅ 복제본: datasource.replica.* / datasource.replica.hikari.* (풀 이름: replica)
+ * ✅ 두 풀 모두 Bean으로 등록되어 Actuator Hikari 지표가 풀 이름별로 수집됨
+ * ✅ 복제본은 @ReplicaRead로 표시한 조회 메서드만 사용 (ReplicaReadAspect)
+ * ✅ 비활성화 시 PrimaryDataSourceConfig의 단일 DataSource 사용 (@ReplicaRead는 효과 없음)
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceRoutingConfig.class);
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:}") String username,
+            @Value("${datasource.replica.password:}") String password,
+            @Value("${datasource.replica.driver-class-name:}") String driverClassName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        // 계정/드라이버를 지정하지 않으면 주 DB 설정 사용
+        dataSource.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+        dataSource.setPassword(password.isEmpty() ? properties.determinePassword() : password);
+        dataSource.setDriverClassName(driverClassName.isEmpty()
+                ? properties.determineDriverClassName() : driverClassName);
+        dataSource.setReadOnly(true);
+        logger.info("[DataSourceRouting] 복제본 DataSource 구성 - URL: {}", url);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+            @Value("${datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${datasource.replica.lag-column:Seconds_Behind_Source}") String lagColumn,
+            @Value("${datasource.replica.max-lag-seconds:5}") long maxLagSeconds) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, lagQuery, lagColumn, maxLagSeconds);
+        // 기동 시 한 번 확인 (확인 실패 시 주 DB 사용)
+        monitor.check();
+        return monitor;
+    }
+
+    @Bean
+    public RoutingDataSource routingDataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                               @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+                                               ReplicaLagMonitor replicaLagMonitor) {
+        RoutingDataSource routing = new RoutingDataSource(replicaLagMonitor);
+        routing.setTargetDataSources(Map.of(
+                RoutingDataSource.Route.PRIMARY, primaryDataSource,
+                RoutingDataSource.Route.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        return routing;
+    }
+
+    @Bean
+    public ReplicaReadAspect replicaReadAspect(ObjectProvider<PlatformTransactionManager> transactionManager) {
+        return new ReplicaReadAspect(transactionManager);
+    }
+
+    /**
+     * JPA/JDBC가 사용하는 DataSource
+     * 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 커넥션을 얻어 readOnly 여부로 라우팅되게 함
+     * (커넥션 점유 시간/느린 SQL 측정은 실제 커넥션을 얻는 라우팅 DataSource 바로 바깥에서)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(RoutingDataSource routingDataSource, QueryDiagnostics queryDiagnostics) {
+        return new LazyConnectionDataSourceProxy(new InstrumentedDataSource(routingDataSource, queryDiagnostics));
+    }
+}
@@ -0,0 +1,159 @@
+package com.dormitory.SpringBoot.config;
+
+import com.dormitory.SpringBoot.services.QueryDiagnostics;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 커넥션 점유 시간 / 느린 SQL 측정용 DataSource 래퍼
+ * ✅ getConnection ~ close 시간을 커넥션을 얻은 애플리케이션 메서드별로 기록 (QueryDiagnostics)
+ * ✅ Statement 실행(execute*) 시간을 재고, 임계치를 넘으면 SQL + 바인드 타입 목록을 느린 SQL 버퍼에 보관
+ * ✅ 바인드 값 자체는 보관하지 않음 (개인정보)
+ *
+ * 풀(Hikari) 바로 바깥에 두어야 실제 커넥션 획득/반환 시점이 측정됨
+ * (복제본 라우팅 사용 시 LazyConnectionDataSourceProxy 안쪽)
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final QueryDiagnostics diagnostics;
+
+    public InstrumentedDataSource(DataSource targetDataSource, QueryDiagnostics diagnostics) {
+        super(targetDataSource);
+        this.diagnostics = diagnostics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection, diagnostics.resolveCaller(), System.nanoTime()));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final String caller;
+        private final long acquiredAt;
+        private boolean closed;
+
+        ConnectionHandler(Connection target, String caller, long acquiredAt) {
+            this.target = target;
+            this.caller = caller;
+            this.acquiredAt = acquiredAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        diagnostics.recordConnectionHold(caller, System.nanoTime() - acquiredAt);
+                    }
+                    return InstrumentedDataSource.invoke(target, method, args);
+                }
+                case "prepareStatement" -> {
+                    Object statement = InstrumentedDataSource.invoke(target, method, args);
+                    return wrapStatement(statement, PreparedStatement.class, (String) args[0]);
+                }
+                case "prepareCall" -> {
+                    Object statement = InstrumentedDataSource.invoke(target, method, args);
+                    return wrapStatement(statement, CallableStatement.class, (String) args[0]);
+                }
+                case "createStatement" -> {
+                    Object statement = InstrumentedDataSource.invoke(target, method, args);
+                    return wrapStatement(statement, Statement.class, null);
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                    return InstrumentedDataSource.invoke(target, method, args);
+                }
+            }
+        }
+
+        private Object wrapStatement(Object statement, Class<? extends Statement> type, String sql) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler((Statement) statement, sql));
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String sql;
+        private final List<String> bindShape = new ArrayList<>();
+        private int batchSize;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                recordBind(index, name.equals("setNull") ? "null"
+                        : args[1] != null ? args[1].getClass().getSimpleName() : "null");
+            } else if (name.equals("clearParameters")) {
+                bindShape.clear();
+            } else if (name.equals("addBatch")) {
+                batchSize++;
+            } else if (name.startsWith("execute")) {
+                String executedSql = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+                long start = System.nanoTime();
+                try {
+                    return InstrumentedDataSource.invoke(target, method, args);
+                } finally {
+                    diagnostics.recordStatement(executedSql, bindShape, batchSize, System.nanoTime() - start);
+                    if (name.equals("executeBatch")) {
+                        batchSize = 0;
+                    }
+                }
+            }
+            return InstrumentedDataSource.invoke(target, method, args);
+        }
+
+        private void recordBind(int index, String type) {
+            while (bindShape.size() < index) {
+                bindShape.add("?");
+            }
+            bindShape.set(index - 1, type);
+        }
+    }
+}
@@ -1,12 +1,38 @@
 package com.dormitory.SpringBoot.config;
 
+import com.dormitory.SpringBoot.services.QueryDiagnostics;
+import com.dormitory.SpringBoot.utils.TracingUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
 
 @Configuration
 @EnableJpaRepositories(basePackages = "com.dormitory.SpringBoot.repository") // "dormitory" -> "dormitory" 수정
 @EnableJpaAuditing
 public class JpaConfig {
     // JPA 관련 설정이 필요하면 여기에 추가
-}
\ No newline at end of file
+
+    /**
+     * 모든 리포지토리 프록시에 실행 시간/행 수 기록 + 추적 span 인터셉터 등록 (db.repository.query, db.repository.rows)
+     * BeanPostProcessor는 다른 Bean보다 먼저 생성되므로 static + ObjectProvider로 지연 조회
+     */
+    @Bean
+    public static BeanPostProcessor repositoryQueryMetricsPostProcessor(ObjectProvider<QueryDiagnostics> queryDiagnostics,
+                                                                        ObjectProvider<TracingUtil> tracing) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new RepositoryQueryInterceptor(
+                                    repositoryInformation.getRepositoryInterface().getSimpleName(), queryDiagnostics, tracing))));
+                }
+                return bean;
+            }
+        };
+    }
+}
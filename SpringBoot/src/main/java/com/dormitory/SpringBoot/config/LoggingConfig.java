@@ -0,0 +1,56 @@
+package com.dormitory.SpringBoot.config;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import com.dormitory.SpringBoot.filter.RequestIdFilter;
+import com.dormitory.SpringBoot.logging.RateLimitingTurboFilter;
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.context.integration.Slf4jThreadLocalAccessor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로깅 파이프라인 설정 (appender 구성은 logback-spring.xml)
+ * ✅ 비동기 appender 대기열 크기/여유 공간, 샘플링으로 생략된 로그 건수를 지표로 노출
+ *    (logging.async.queue.size, logging.async.queue.remaining, logging.sampled.suppressed)
+ * ✅ 스레드 풀 작업에도 요청 ID(MDC requestId)가 전달되도록 컨텍스트 전파 대상에 등록
+ */
+@Configuration
+public class LoggingConfig {
+
+    private static final String[] ASYNC_APPENDERS = {"ASYNC_CONSOLE", "ASYNC_FILE"};
+
+    static {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(new Slf4jThreadLocalAccessor(RequestIdFilter.MDC_KEY));
+    }
+
+    @Bean
+    public MeterBinder loggingPipelineMetrics() {
+        return registry -> {
+            if (LoggerFactory.getILoggerFactory() instanceof LoggerContext context) {
+                for (String name : ASYNC_APPENDERS) {
+                    Appender<?> appender = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).getAppender(name);
+                    if (appender instanceof AsyncAppenderBase<?> async) {
+                        Gauge.builder("logging.async.queue.size", async, AsyncAppenderBase::getNumberOfElementsInQueue)
+                                .description("비동기 appender 대기 중인 로그 건수")
+                                .tag("appender", name)
+                                .register(registry);
+                        Gauge.builder("logging.async.queue.remaining", async, AsyncAppenderBase::getRemainingCapacity)
+                                .description("비동기 appender 대기열 여유 공간")
+                                .tag("appender", name)
+                                .register(registry);
+                    }
+                }
+            }
+            FunctionCounter.builder("logging.sampled.suppressed", RateLimitingTurboFilter.class,
+                            type -> RateLimitingTurboFilter.getSuppressedCount())
+                    .description("샘플링(초당 건수 제한)으로 생략된 로그 건수")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.dormitory.SpringBoot.config;
+
+import com.dormitory.SpringBoot.services.QueryDiagnostics;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+
+/**
+ * 주 DB 연결 풀 설정
+ * ✅ spring.datasource.* / spring.datasource.hikari.* 로 풀 구성 (풀 이름: primary) - 복제본 사용 여부와 관계없이 하나만 정의
+ * ✅ 복제본 미사용(datasource.replica.enabled=false) 시 JPA/JDBC는 InstrumentedDataSource를 거쳐 이 풀을 사용
+ *    (복제본 사용 시에는 DataSourceRoutingConfig가 라우팅 DataSource로 감쌈)
+ * ✅ Hikari 풀은 그대로 Bean으로 등록되어 Actuator Hikari 지표/진단 API에서 조회 가능
+ */
+@Configuration
+public class PrimaryDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 단일 DataSource (복제본 미사용 시) - 커넥션 점유 시간/느린 SQL 기록
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "false", matchIfMissing = true)
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 QueryDiagnostics queryDiagnostics) {
+        return new InstrumentedDataSource(primaryDataSource, queryDiagnostics);
+    }
+}
@@ -0,0 +1,101 @@
+package com.dormitory.SpringBoot.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 복제본 지연 감시
+ * ✅ 주기적으로 복제본에서 지연 조회 쿼리(MySQL: SHOW REPLICA STATUS)를 실행해 지연(초)을 확인
+ * ✅ 지연이 허용치를 넘거나, 복제가 멈췄거나(값 없음), 조회에 실패하면 복제본 사용 중단 → 주 DB로 대체
+ * ✅ 지연 조회 쿼리가 비어 있으면 연결 확인만 수행 (로컬 H2 등 복제 상태가 없는 환경)
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replicaDataSource;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+
+    private volatile boolean replicaUsable = false;
+    private volatile Long lastLagSeconds;
+    private volatile String lastError;
+    private volatile LocalDateTime lastCheckedAt;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, String lagColumn, long maxLagSeconds) {
+        this.replicaDataSource = replicaDataSource;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * 복제본 상태 확인
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-ms:5000}")
+    public void check() {
+        boolean usable;
+        Long lag = null;
+        String error = null;
+
+        try (Connection connection = replicaDataSource.getConnection()) {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                usable = connection.isValid(2);
+                lag = usable ? 0L : null;
+            } else {
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                    if (resultSet.next()) {
+                        Object value = resultSet.getObject(lagColumn);
+                        lag = value instanceof Number number ? number.longValue() : null;
+                    }
+                }
+                if (lag == null) {
+                    error = "복제 상태 없음 (복제 중단 또는 복제본 아님)";
+                }
+                usable = lag != null && lag <= maxLagSeconds;
+            }
+        } catch (Exception e) {
+            usable = false;
+            error = e.getMessage();
+        }
+
+        if (usable != replicaUsable) {
+            if (usable) {
+                logger.info("[ReplicaLag] 복제본 사용 재개 - 지연: {}초", lag);
+            } else {
+                logger.warn("[ReplicaLag] 복제본 사용 중단, 주 DB로 대체 - 지연: {}초 (허용: {}초), 오류: {}",
+                        lag, maxLagSeconds, error);
+            }
+        }
+
+        lastLagSeconds = lag;
+        lastError = error;
+        lastCheckedAt = LocalDateTime.now();
+        replicaUsable = usable;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("usable", replicaUsable);
+        status.put("lagSeconds", lastLagSeconds);
+        status.put("maxLagSeconds", maxLagSeconds);
+        status.put("lastCheckedAt", lastCheckedAt);
+        status.put("lastError", lastError);
+        return status;
+    }
+}
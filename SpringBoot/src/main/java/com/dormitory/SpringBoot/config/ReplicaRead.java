@@ -0,0 +1,19 @@
+package com.dormitory.SpringBoot.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 복제본(replica)에서 읽어도 되는 조회 메서드 표시
+ * ✅ 복제 지연을 허용하는 관리자 목록/통계 조회에만 사용
+ * ✅ 표시하지 않은 readOnly 트랜잭션(리포지토리 기본 메서드 포함)은 주 DB 사용
+ * ✅ 이미 트랜잭션 안에서 호출되면 바깥 트랜잭션을 따름 (주 DB)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReplicaRead {
+}
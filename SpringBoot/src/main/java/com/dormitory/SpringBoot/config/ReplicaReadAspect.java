@@ -0,0 +1,78 @@
+package com.dormitory.SpringBoot.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * @ReplicaRead 메서드를 복제본 readOnly 트랜잭션으로 실행 (DataSourceRoutingConfig에서 등록)
+ * ✅ 트랜잭션 인터셉터보다 바깥에서 readOnly 트랜잭션을 직접 시작하고 복제본 사용을 허용
+ * ✅ 복제본에서 읽은 엔티티/쿼리 결과는 2차 캐시에 넣지 않음 (CacheMode.GET - 캐시 읽기만)
+ * ✅ 이미 트랜잭션 안이면 그대로 실행 (바깥 트랜잭션이 커넥션을 정함)
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReplicaReadAspect {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 어드바이저 조회 시점에 트랜잭션 매니저가 먼저 생성되지 않도록 지연 조회
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    private volatile TransactionTemplate readOnlyTransaction;
+
+    public ReplicaReadAspect(ObjectProvider<PlatformTransactionManager> transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    @Around("@annotation(com.dormitory.SpringBoot.config.ReplicaRead)")
+    public Object onReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        try {
+            return RoutingDataSource.onReplica(() -> readOnlyTransaction().execute(status -> {
+                entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+                try {
+                    return joinPoint.proceed();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new CheckedInvocationException(e);
+                }
+            }));
+        } catch (CheckedInvocationException e) {
+            throw e.getCause();
+        }
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = readOnlyTransaction;
+        if (template == null) {
+            template = new TransactionTemplate(transactionManager.getObject());
+            template.setReadOnly(true);
+            readOnlyTransaction = template;
+        }
+        return template;
+    }
+
+    /**
+     * 트랜잭션 콜백 밖으로 검사 예외를 전달하기 위한 래퍼
+     */
+    private static class CheckedInvocationException extends RuntimeException {
+        CheckedInvocationException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
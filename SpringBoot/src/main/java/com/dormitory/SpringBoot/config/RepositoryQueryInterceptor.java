@@ -0,0 +1,108 @@
+package com.dormitory.SpringBoot.config;
+
+import com.dormitory.SpringBoot.services.QueryDiagnostics;
+import com.dormitory.SpringBoot.utils.TracingUtil;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.BaseStream;
+
+/**
+ * 리포지토리 메서드 실행 시간/반환 행 수 기록 (JpaConfig에서 모든 리포지토리 프록시에 등록)
+ * ✅ 행 수: 컬렉션 크기, Page/Slice 현재 페이지 건수, Optional/단건 0~1
+ * ✅ count/exists 등 숫자·논리값 반환과 Stream 반환은 행 수를 기록하지 않음
+ * ✅ 메서드마다 추적 span(리포지토리.메서드) 생성
+ */
+public class RepositoryQueryInterceptor implements MethodInterceptor {
+
+    private final String repositoryName;
+    private final ObjectProvider<QueryDiagnostics> diagnostics;
+    private final ObjectProvider<TracingUtil> tracing;
+
+    public RepositoryQueryInterceptor(String repositoryName, ObjectProvider<QueryDiagnostics> diagnostics,
+                                      ObjectProvider<TracingUtil> tracing) {
+        this.repositoryName = repositoryName;
+        this.diagnostics = diagnostics;
+        this.tracing = tracing;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String methodName = invocation.getMethod().getName();
+        if (invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        TracingUtil tracingUtil = tracing.getIfAvailable();
+        if (tracingUtil == null) {
+            return measure(invocation, methodName);
+        }
+        try {
+            return tracingUtil.inSpan(repositoryName + "." + methodName, () -> {
+                try {
+                    return measure(invocation, methodName);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new CheckedInvocationException(e);
+                }
+            }, "db.repository", repositoryName);
+        } catch (CheckedInvocationException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Object measure(MethodInvocation invocation, String methodName) throws Throwable {
+        long start = System.nanoTime();
+        Object result = null;
+        boolean error = true;
+        try {
+            result = invocation.proceed();
+            error = false;
+            return result;
+        } finally {
+            QueryDiagnostics queryDiagnostics = diagnostics.getIfAvailable();
+            if (queryDiagnostics != null) {
+                queryDiagnostics.recordRepositoryCall(repositoryName, methodName, System.nanoTime() - start,
+                        error || invocation.getMethod().getReturnType() == void.class ? -1 : countRows(result), error);
+            }
+        }
+    }
+
+    private static long countRows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Number || result instanceof Boolean || result instanceof Iterable<?>
+                || result instanceof BaseStream<?, ?>) {
+            return -1;
+        }
+        return 1;
+    }
+
+    /**
+     * span 람다(Supplier) 밖으로 검사 예외를 전달하기 위한 래퍼
+     */
+    private static class CheckedInvocationException extends RuntimeException {
+        CheckedInvocationException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.dormitory.SpringBoot.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ * ✅ @ReplicaRead로 표시한 readOnly 트랜잭션만 복제본(replica), 그 외는 주 DB(primary)로 연결
+ *    (리포지토리 기본 메서드의 클래스 단위 readOnly나 표시 없는 readOnly 트랜잭션은 주 DB -
+ *     커밋 직후 읽기나 캐시 적재가 복제 지연 데이터를 읽지 않도록)
+ * ✅ 복제 지연이 허용치를 넘거나 복제본 확인에 실패하면 주 DB로 대체
+ * ✅ 커밋 직후 데이터를 다시 읽어 캐시/색인을 만드는 경우 onPrimary로 주 DB 강제
+ *
+ * 트랜잭션의 readOnly 여부는 커넥션을 실제로 사용할 때 판단해야 하므로
+ * LazyConnectionDataSourceProxy로 감싸서 사용 (DataSourceRoutingConfig)
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private static final ThreadLocal<Boolean> REPLICA_ALLOWED = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final AtomicLong primaryRoutes = new AtomicLong();
+    private final AtomicLong replicaRoutes = new AtomicLong();
+    private final AtomicLong fallbackRoutes = new AtomicLong();
+
+    public RoutingDataSource(ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!readOnly || !Boolean.TRUE.equals(REPLICA_ALLOWED.get()) || Boolean.TRUE.equals(FORCE_PRIMARY.get())) {
+            primaryRoutes.incrementAndGet();
+            return Route.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            fallbackRoutes.incrementAndGet();
+            return Route.PRIMARY;
+        }
+        replicaRoutes.incrementAndGet();
+        return Route.REPLICA;
+    }
+
+    /**
+     * 작업 안에서 새로 얻는 커넥션은 readOnly 여부와 관계없이 주 DB 사용
+     * (이미 커넥션을 얻은 트랜잭션 안에서는 효과 없음 - 트랜잭션 밖에서 호출)
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        return withFlag(FORCE_PRIMARY, work);
+    }
+
+    /**
+     * 작업 안의 readOnly 트랜잭션이 복제본을 사용하도록 허용 (ReplicaReadAspect에서 호출)
+     */
+    static <T> T onReplica(Supplier<T> work) {
+        return withFlag(REPLICA_ALLOWED, work);
+    }
+
+    private static <T> T withFlag(ThreadLocal<Boolean> flag, Supplier<T> work) {
+        Boolean previous = flag.get();
+        flag.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                flag.remove();
+            } else {
+                flag.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 라우팅 현황 (진단용)
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("primaryRoutes", primaryRoutes.get());
+        status.put("replicaRoutes", replicaRoutes.get());
+        status.put("fallbackRoutes", fallbackRoutes.get());
+        status.put("replica", lagMonitor.getStatus());
+        return status;
+    }
+}
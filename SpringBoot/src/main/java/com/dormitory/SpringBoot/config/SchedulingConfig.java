@@ -0,0 +1,13 @@
+package com.dormitory.SpringBoot.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화 설정
+ * ✅ 공지사항 조회수 일괄 반영 등 백그라운드 작업에 사용
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
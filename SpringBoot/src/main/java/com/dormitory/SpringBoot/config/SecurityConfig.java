@@ -1,6 +1,7 @@
 package com.dormitory.SpringBoot.config;
 
 import com.dormitory.SpringBoot.filter.JwtAuthenticationFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -12,6 +13,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
 import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
@@ -24,11 +27,13 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.security.config.Customizer;
 import org.springframework.http.HttpMethod;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Spring Security 설정
  * ✅ 수정: 비밀번호 변경 경로 명시적 허용 추가
  * ✅ 수정: 사용자 정보 관련 경로 USER/ADMIN 모두 허용
+ * ✅ /actuator/prometheus는 수집 네트워크(management.prometheus.scrape-networks)에서 직접 온 요청만 인증 없이 허용
  */
 @Configuration
 @EnableWebSecurity
@@ -37,6 +42,10 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    // Prometheus 수집 허용 네트워크 (CIDR, 쉼표 구분 - 비우면 인증 필요)
+    @Value("${management.prometheus.scrape-networks:127.0.0.1/32,::1/128}")
+    private String[] scrapeNetworks;
+
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
@@ -114,6 +123,7 @@ public class SecurityConfig {
                         // ✅ 인증 없이 허용되는 경로들
                         .requestMatchers("/api/auth/**").permitAll()  // 로그인, 회원가입, 토큰 검증
                         .requestMatchers("/hello", "/actuator/health").permitAll()  // 헬스체크
+                        .requestMatchers(prometheusScrapeRequest()).permitAll()  // 지표 수집 (수집 네트워크만)
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()  // Swagger
                         .requestMatchers("/uploads/**").permitAll()  // 파일 업로드
 
@@ -147,4 +157,20 @@ public class SecurityConfig {
 
         return http.build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 수집 네트워크에서 직접 온 /actuator/prometheus 요청
+     * (프록시를 거친 요청은 원격 주소가 프록시이므로 전달 헤더가 있으면 제외)
+     */
+    private RequestMatcher prometheusScrapeRequest() {
+        List<IpAddressMatcher> networks = Arrays.stream(scrapeNetworks)
+                .map(String::trim)
+                .filter(network -> !network.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+        return request -> "/actuator/prometheus".equals(request.getRequestURI())
+                && request.getHeader("X-Forwarded-For") == null
+                && request.getHeader("Forwarded") == null
+                && networks.stream().anyMatch(network -> network.matches(request));
+    }
+}
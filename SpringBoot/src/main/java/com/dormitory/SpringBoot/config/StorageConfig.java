@@ -0,0 +1,117 @@
+package com.dormitory.SpringBoot.config;
+
+import com.dormitory.SpringBoot.storage.LocalDiskObjectStorage;
+import com.dormitory.SpringBoot.storage.ObjectStorage;
+import com.dormitory.SpringBoot.storage.S3ObjectStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 업로드 파일 저장소 설정
+ * ✅ file.storage.type=local (기본) : 로컬 디스크
+ * ✅ file.storage.type=s3 : S3 호환 저장소 (AWS S3, MinIO 등) - 다중 인스턴스 공유
+ */
+@Configuration
+public class StorageConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageConfig.class);
+
+    /**
+     * 업로드 기본 경로 (로컬 저장소 및 임시 파일 위치)
+     */
+    @Bean
+    public Path uploadBasePath() {
+        Path path = Paths.get(resolveUploadPath()).toAbsolutePath().normalize();
+        logger.info("[StorageConfig] 업로드 기본 경로: {}", path);
+        return path;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
+    public ObjectStorage localDiskObjectStorage(Path uploadBasePath) {
+        logger.info("[StorageConfig] 로컬 디스크 저장소 사용");
+        return new LocalDiskObjectStorage(uploadBasePath);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+    public ObjectStorage s3ObjectStorage(
+            @Value("${file.storage.s3.endpoint:}") String endpoint,
+            @Value("${file.storage.s3.region:ap-northeast-2}") String region,
+            @Value("${file.storage.s3.bucket}") String bucket,
+            @Value("${file.storage.s3.access-key}") String accessKey,
+            @Value("${file.storage.s3.secret-key}") String secretKey,
+            @Value("${file.storage.s3.path-style-access:true}") boolean pathStyleAccess,
+            @Value("${file.storage.s3.multipart-threshold-bytes:8388608}") long multipartThresholdBytes,
+            @Value("${file.storage.s3.part-size-bytes:8388608}") long partSizeBytes) {
+
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(accessKey, secretKey));
+        S3Configuration s3Configuration = S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyleAccess)
+                .build();
+
+        var clientBuilder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(s3Configuration);
+        var presignerBuilder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(s3Configuration);
+
+        // MinIO 등 S3 호환 저장소 엔드포인트
+        if (endpoint != null && !endpoint.isEmpty()) {
+            clientBuilder.endpointOverride(URI.create(endpoint));
+            presignerBuilder.endpointOverride(URI.create(endpoint));
+        }
+
+        logger.info("[StorageConfig] S3 호환 저장소 사용 - 엔드포인트: {}, 버킷: {}",
+                endpoint == null || endpoint.isEmpty() ? "AWS" : endpoint, bucket);
+        return new S3ObjectStorage(clientBuilder.build(), presignerBuilder.build(), bucket,
+                multipartThresholdBytes, partSizeBytes);
+    }
+
+    /**
+     * 업로드 경로 결정
+     * 1. 환경변수 FILE_UPLOAD_PATH가 설정되어 있으면 사용
+     * 2. /app/uploads 경로가 존재하면 사용 (Railway Volume)
+     * 3. 그 외에는 현재 작업 디렉토리의 uploads 폴더 사용 (로컬 개발)
+     */
+    private String resolveUploadPath() {
+        String envPath = System.getenv("FILE_UPLOAD_PATH");
+        if (envPath != null && !envPath.isEmpty()) {
+            return envPath;
+        }
+
+        File railwayVolume = new File("/app/uploads");
+        if (railwayVolume.exists() || isRunningOnRailway()) {
+            return "/app/uploads";
+        }
+
+        return System.getProperty("user.dir") + "/uploads";
+    }
+
+    /**
+     * Railway 환경인지 확인
+     */
+    private boolean isRunningOnRailway() {
+        return System.getenv("RAILWAY_ENVIRONMENT") != null ||
+                System.getenv("RAILWAY_PROJECT_ID") != null;
+    }
+}
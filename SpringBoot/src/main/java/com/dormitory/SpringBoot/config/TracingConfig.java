@@ -0,0 +1,38 @@
+package com.dormitory.SpringBoot.config;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 분산 추적 내보내기 설정
+ * ✅ HTTP 요청/보안 필터 span은 Spring Boot(Micrometer Tracing + OpenTelemetry)가 자동 생성
+ * ✅ JWT 인증, 점호 제출 단계, EXIF, Gemini, 파일 저장, 리포지토리 span은 TracingUtil로 생성
+ * ✅ OTLP 수집기로 보내려면 management.otlp.tracing.endpoint 지정 (Spring Boot 자동 구성)
+ * ✅ tracing.file.enabled=true면 완료된 span을 JSON Lines 파일에 추가 기록 (기본 비활성화, 로컬 분석용)
+ *    - 크기 제한 + 회전 (tracing.file.max-size, tracing.file.max-files)
+ */
+@Configuration
+public class TracingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(TracingConfig.class);
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "tracing.file.enabled", havingValue = "true")
+    public SpanExporter fileSpanExporter(@Value("${tracing.file.path:logs/traces.jsonl}") String path,
+                                         @Value("${tracing.file.max-size:50MB}") DataSize maxSize,
+                                         @Value("${tracing.file.max-files:5}") int maxFiles) throws IOException {
+        Path file = Paths.get(path).toAbsolutePath();
+        logger.info("[Tracing] span 파일 기록 - 경로: {}, 최대 크기: {}, 보관 파일 수: {}", file, maxSize, maxFiles);
+        return new RollingFileSpanExporter(file, maxSize.toBytes(), maxFiles);
+    }
+}
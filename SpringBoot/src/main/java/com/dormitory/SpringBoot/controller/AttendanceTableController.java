@@ -2,6 +2,7 @@ package com.dormitory.SpringBoot.controller;
 
 import com.dormitory.SpringBoot.dto.ApiResponse;
 import com.dormitory.SpringBoot.dto.AttendanceRequest;
+import com.dormitory.SpringBoot.services.AttendanceBitmapIndex;
 import com.dormitory.SpringBoot.services.AttendanceTableService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +17,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 점호 출석 테이블 관리 컨트롤러
@@ -30,6 +33,9 @@ public class AttendanceTableController {
     @Autowired
     private AttendanceTableService attendanceTableService;
 
+    @Autowired
+    private AttendanceBitmapIndex attendanceBitmapIndex;
+
     /**
      * 출석 테이블 생성 (관리자 전용)
      */
@@ -164,4 +170,83 @@ public class AttendanceTableController {
                 .body(ApiResponse.internalServerError(e.getMessage()));
         }
     }
+
+    /**
+     * 미제출 학생 조회 (관리자 전용)
+     * ✅ 메모리 비트맵 연산으로 계산 (DB 조회 없음)
+     */
+    @GetMapping("/not-submitted")
+    @Operation(summary = "미제출 학생 조회", description = "특정 날짜에 점호를 제출하지 않은 학생 목록을 조회합니다. (관리자 전용)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> getNotSubmitted(
+            @Parameter(description = "점호 날짜 (yyyy-MM-dd, 기본값: 오늘)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "기숙사동 (미지정 시 전체)")
+            @RequestParam(required = false) String building) {
+
+        LocalDate day = date != null ? date : LocalDate.now();
+        try {
+            List<Map<String, Object>> students = attendanceBitmapIndex.getNotSubmitted(day, building);
+            return ResponseEntity.ok(ApiResponse.success("미제출 학생 조회 성공", students));
+
+        } catch (Exception e) {
+            logger.error("미제출 학생 조회 실패 - 날짜: {}, 동: {}, 오류: {}", day, building, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.internalServerError(e.getMessage()));
+        }
+    }
+
+    /**
+     * 연속 실패 학생 조회 (관리자 전용)
+     */
+    @GetMapping("/consecutive-failures")
+    @Operation(summary = "연속 실패 학생 조회", description = "기준 날짜까지 N일 연속으로 점호에 실패한 학생 목록을 조회합니다. (관리자 전용)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> getConsecutiveFailures(
+            @Parameter(description = "연속 일수")
+            @RequestParam(defaultValue = "3") int days,
+            @Parameter(description = "기준 날짜 (yyyy-MM-dd, 기본값: 오늘)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "기숙사동 (미지정 시 전체)")
+            @RequestParam(required = false) String building) {
+
+        if (days < 1 || days > 366) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("연속 일수는 1~366 사이여야 합니다."));
+        }
+
+        LocalDate day = date != null ? date : LocalDate.now();
+        try {
+            List<Map<String, Object>> students = attendanceBitmapIndex.getConsecutiveFailures(day, days, building);
+            return ResponseEntity.ok(ApiResponse.success("연속 실패 학생 조회 성공", students));
+
+        } catch (Exception e) {
+            logger.error("연속 실패 학생 조회 실패 - 날짜: {}, 일수: {}, 오류: {}", day, days, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.internalServerError(e.getMessage()));
+        }
+    }
+
+    /**
+     * 날짜별 제출 현황 요약 (관리자 전용)
+     */
+    @GetMapping("/submission-summary")
+    @Operation(summary = "제출 현황 요약", description = "특정 날짜의 점호 제출/미제출/통과 인원을 조회합니다. (관리자 전용)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> getSubmissionSummary(
+            @Parameter(description = "점호 날짜 (yyyy-MM-dd, 기본값: 오늘)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "기숙사동 (미지정 시 전체)")
+            @RequestParam(required = false) String building) {
+
+        LocalDate day = date != null ? date : LocalDate.now();
+        try {
+            Map<String, Object> summary = attendanceBitmapIndex.getSummary(day, building);
+            return ResponseEntity.ok(ApiResponse.success("제출 현황 조회 성공", summary));
+
+        } catch (Exception e) {
+            logger.error("제출 현황 조회 실패 - 날짜: {}, 동: {}, 오류: {}", day, building, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.internalServerError(e.getMessage()));
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.dormitory.SpringBoot.controller;
 
 import com.dormitory.SpringBoot.domain.Complaint;
 import com.dormitory.SpringBoot.dto.ApiResponse;
+import com.dormitory.SpringBoot.search.SearchResult;
 import com.dormitory.SpringBoot.services.ComplaintService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -293,17 +294,24 @@ public class ComplaintController {
     }
 
     /**
-     * 민원 검색
+     * 민원 검색 (관련도 순, size 지정 시 페이지 단위)
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<?>> searchComplaints(@RequestParam String keyword) {
+    public ResponseEntity<ApiResponse<?>> searchComplaints(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "0") int size) {
         try {
-            List<Complaint> complaints = complaintService.searchComplaints(keyword);
+            SearchResult<Complaint> result = complaintService.searchComplaints(keyword, Math.max(page, 0), size);
+            List<Complaint> complaints = result.getItems();
 
             Map<String, Object> data = new HashMap<>();
             data.put("complaints", complaints);
             data.put("count", complaints.size());
             data.put("keyword", keyword);
+            data.put("total", result.getTotal());
+            data.put("page", result.getPage());
+            data.put("hasNext", result.hasNext());
 
             return ResponseEntity.ok(ApiResponse.success("민원 검색 성공", data));
         } catch (Exception e) {
@@ -1,15 +1,39 @@
 package com.dormitory.SpringBoot.controller;
 
+import com.dormitory.SpringBoot.config.RoutingDataSource;
+import com.dormitory.SpringBoot.repository.ComplaintRepository;
+import com.dormitory.SpringBoot.repository.DocumentRepository;
+import com.dormitory.SpringBoot.repository.NoticeRepository;
+import com.dormitory.SpringBoot.services.FlightRecorderService;
 import com.dormitory.SpringBoot.services.GeminiService;
+import com.dormitory.SpringBoot.services.QueryDiagnostics;
+import com.dormitory.SpringBoot.services.SearchIndexService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.IntSupplier;
 
 /**
  * 진단 및 테스트용 컨트롤러
@@ -23,6 +47,33 @@ public class DiagnosticController {
     @Autowired
     private GeminiService geminiService;
 
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private ObjectProvider<HikariDataSource> hikariDataSources;
+
+    @Autowired
+    private ObjectProvider<RoutingDataSource> routingDataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private FlightRecorderService flightRecorderService;
+
+    @Autowired
+    private QueryDiagnostics queryDiagnostics;
+
     /**
      * Gemini API 연결 상태 확인
      */
@@ -219,4 +270,327 @@ public class DiagnosticController {
         
         return ResponseEntity.ok(health);
     }
-}
\ No newline at end of file
+
+    /**
+     * DB 연결 풀/읽기 복제본 라우팅 상태 (관리자 전용)
+     * ✅ 풀별 활성/유휴/대기 커넥션 수, 라우팅 횟수, 복제 지연
+     * ✅ 커넥션을 얻은 메서드별 점유 시간 (p50/p95/p99)
+     */
+    @GetMapping("/datasource/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getDataSourceStatus() {
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        Map<String, Object> pools = new LinkedHashMap<>();
+        hikariDataSources.orderedStream().forEach(dataSource -> {
+            Map<String, Object> pool = new LinkedHashMap<>();
+            pool.put("maximumPoolSize", dataSource.getMaximumPoolSize());
+            HikariPoolMXBean mxBean = dataSource.getHikariPoolMXBean();
+            if (mxBean != null) {
+                pool.put("active", mxBean.getActiveConnections());
+                pool.put("idle", mxBean.getIdleConnections());
+                pool.put("total", mxBean.getTotalConnections());
+                pool.put("threadsAwaitingConnection", mxBean.getThreadsAwaitingConnection());
+            }
+            pools.put(dataSource.getPoolName(), pool);
+        });
+        result.put("pools", pools);
+
+        RoutingDataSource routing = routingDataSource.getIfAvailable();
+        result.put("replicaRouting", routing != null ? routing.getStatus() : "disabled");
+        result.put("connectionHold", queryDiagnostics.getConnectionHoldStats());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 최근 느린 SQL (관리자 전용)
+     * ✅ 임계치를 넘은 SQL, 바인드 타입 목록, 배치 크기, 호출 메서드 (최신순)
+     */
+    @GetMapping("/datasource/slow-queries")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getSlowQueries() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("thresholdMs", queryDiagnostics.getSlowQueryMs());
+        result.put("queries", queryDiagnostics.getSlowQueries());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 느린 SQL 기록 비우기 (관리자 전용)
+     */
+    @DeleteMapping("/datasource/slow-queries")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> clearSlowQueries() {
+        queryDiagnostics.clearSlowQueries();
+        Map<String, Object> result = new HashMap<>();
+        result.put("status", "SUCCESS");
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 리포지토리 메서드별 실행 시간/반환 행 수 (관리자 전용, 총 실행 시간 상위 top개)
+     */
+    @GetMapping("/datasource/repository-queries")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getRepositoryQueryStats(@RequestParam(defaultValue = "20") int top) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("queries", queryDiagnostics.getRepositoryStats(top));
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Hibernate 2차 캐시/쿼리 캐시 적중률 (관리자 전용)
+     */
+    @GetMapping("/cache/second-level")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getSecondLevelCacheStatus() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(regionName);
+            regions.put(regionName, cacheStats(region.getHitCount(), region.getMissCount(), region.getPutCount()));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        result.put("secondLevel", cacheStats(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount()));
+        result.put("query", cacheStats(statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        result.put("regions", regions);
+        return ResponseEntity.ok(result);
+    }
+
+    private static Map<String, Object> cacheStats(long hits, long misses, long puts) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("puts", puts);
+        stats.put("hitRatio", hits + misses > 0 ? Math.round((double) hits / (hits + misses) * 10000.0) / 100.0 : 0.0);
+        return stats;
+    }
+
+    /**
+     * 검색 색인 상태 확인 (관리자 전용)
+     */
+    @GetMapping("/search/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getSearchIndexStatus() {
+        return ResponseEntity.ok(searchIndexService.getStatus());
+    }
+
+    /**
+     * 검색 색인 재구축 (관리자 전용)
+     */
+    @PostMapping("/search/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildSearchIndex() {
+        long startTime = System.currentTimeMillis();
+        searchIndexService.rebuild();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("status", searchIndexService.isReady() ? "SUCCESS" : "FAIL");
+        result.put("elapsedMs", System.currentTimeMillis() - startTime);
+        result.put("index", searchIndexService.getStatus());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 검색 성능 비교 - 메모리 색인 vs DB LIKE 검색 (관리자 전용)
+     * ✅ 같은 검색어를 반복 실행해 평균/최소/최대 소요 시간과 일치 건수 비교
+     */
+    @GetMapping("/search/benchmark")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Map<String, Object>> benchmarkSearch(@RequestParam String keyword,
+                                                               @RequestParam(defaultValue = "20") int iterations) {
+        try {
+            int runs = Math.max(1, Math.min(iterations, 1000));
+            String trimmed = keyword.trim();
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("keyword", trimmed);
+            result.put("iterations", runs);
+            result.put("index", searchIndexService.getStatus());
+
+            if (!searchIndexService.isReady()) {
+                result.put("status", "INDEX_NOT_READY");
+                return ResponseEntity.ok(result);
+            }
+
+            result.put("notices", compare(runs,
+                    () -> searchIndexService.searchNotices(trimmed, 0, 0).getTotal(),
+                    () -> noticeRepository.findByTitleOrContentContainingIgnoreCase(trimmed).size()));
+            result.put("complaints", compare(runs,
+                    () -> searchIndexService.searchComplaints(trimmed, 0, 0).getTotal(),
+                    () -> complaintRepository.searchByKeyword(trimmed).size()));
+            result.put("documents", compare(runs,
+                    () -> searchIndexService.searchDocuments(trimmed, 0, 0).getTotal(),
+                    () -> documentRepository.findByTitleOrContentContainingIgnoreCase(trimmed).size()));
+            result.put("status", "SUCCESS");
+
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            logger.error("검색 성능 비교 중 오류 발생", e);
+            Map<String, Object> error = new HashMap<>();
+            error.put("status", "ERROR");
+            error.put("message", e.getMessage());
+            return ResponseEntity.ok(error);
+        }
+    }
+
+    private Map<String, Object> compare(int runs, IntSupplier indexSearch, IntSupplier databaseSearch) {
+        Map<String, Object> comparison = new LinkedHashMap<>();
+        comparison.put("index", measure(runs, indexSearch));
+        comparison.put("database", measure(runs, databaseSearch));
+        return comparison;
+    }
+
+    /**
+     * 1회 예열 후 runs회 실행 시간 측정 (ms)
+     */
+    private Map<String, Object> measure(int runs, IntSupplier search) {
+        int hits = search.getAsInt();
+        long total = 0;
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            search.getAsInt();
+            long elapsed = System.nanoTime() - start;
+            total += elapsed;
+            min = Math.min(min, elapsed);
+            max = Math.max(max, elapsed);
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits);
+        stats.put("avgMs", total / runs / 1_000_000.0);
+        stats.put("minMs", min / 1_000_000.0);
+        stats.put("maxMs", max / 1_000_000.0);
+        return stats;
+    }
+
+    /**
+     * JFR 녹화 시작 (관리자 전용)
+     * ✅ profile: default(저부하) | profile(상세 샘플링), durationSeconds 후 자동 종료
+     */
+    @PostMapping("/jfr/recordings")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> startFlightRecording(
+            @RequestParam(defaultValue = "profile") String profile,
+            @RequestParam(defaultValue = "60") long durationSeconds) {
+        try {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("status", "SUCCESS");
+            result.put("recording", flightRecorderService.start(profile, durationSeconds));
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            logger.error("JFR 녹화 시작 중 오류 발생", e);
+            Map<String, Object> error = new HashMap<>();
+            error.put("status", "ERROR");
+            error.put("message", e.getMessage());
+            return ResponseEntity.ok(error);
+        }
+    }
+
+    /**
+     * JFR 녹화 목록 (관리자 전용)
+     */
+    @GetMapping("/jfr/recordings")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> listFlightRecordings() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("profiles", flightRecorderService.availableProfiles());
+        result.put("recordings", flightRecorderService.list());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * JFR 녹화 조기 종료 (관리자 전용)
+     */
+    @PostMapping("/jfr/recordings/{id}/stop")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> stopFlightRecording(@PathVariable long id) {
+        try {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("status", "SUCCESS");
+            result.put("recording", flightRecorderService.stop(id));
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            logger.error("JFR 녹화 종료 중 오류 발생 - ID: {}", id, e);
+            Map<String, Object> error = new HashMap<>();
+            error.put("status", "ERROR");
+            error.put("message", e.getMessage());
+            return ResponseEntity.ok(error);
+        }
+    }
+
+    /**
+     * JFR 녹화 삭제 (관리자 전용)
+     */
+    @DeleteMapping("/jfr/recordings/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> deleteFlightRecording(@PathVariable long id) {
+        try {
+            flightRecorderService.delete(id);
+            Map<String, Object> result = new HashMap<>();
+            result.put("status", "SUCCESS");
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            logger.error("JFR 녹화 삭제 중 오류 발생 - ID: {}", id, e);
+            Map<String, Object> error = new HashMap<>();
+            error.put("status", "ERROR");
+            error.put("message", e.getMessage());
+            return ResponseEntity.ok(error);
+        }
+    }
+
+    /**
+     * 완료된 JFR 파일 다운로드 (관리자 전용) - JDK Mission Control 등으로 분석
+     */
+    @GetMapping("/jfr/recordings/{id}/file")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Resource> downloadFlightRecording(@PathVariable long id) {
+        try {
+            Path file = flightRecorderService.getRecordingFile(id);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                    .body(new FileSystemResource(file));
+
+        } catch (RuntimeException e) {
+            logger.warn("JFR 파일 다운로드 실패 - ID: {}, 사유: {}", id, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * JFR 녹화 요약 (관리자 전용)
+     * ✅ 할당 상위 지점, 실행 샘플 상위 메서드, 잠금 경합 상위 top개
+     */
+    @GetMapping("/jfr/recordings/{id}/summary")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> summarizeFlightRecording(@PathVariable long id,
+                                                                        @RequestParam(defaultValue = "10") int top) {
+        try {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("status", "SUCCESS");
+            result.putAll(flightRecorderService.summarize(id, top));
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            logger.error("JFR 녹화 요약 중 오류 발생 - ID: {}", id, e);
+            Map<String, Object> error = new HashMap<>();
+            error.put("status", "ERROR");
+            error.put("message", e.getMessage());
+            return ResponseEntity.ok(error);
+        }
+    }
+}
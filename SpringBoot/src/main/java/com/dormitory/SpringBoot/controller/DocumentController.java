@@ -2,6 +2,7 @@ package com.dormitory.SpringBoot.controller;
 
 import com.dormitory.SpringBoot.domain.Document;
 import com.dormitory.SpringBoot.dto.ApiResponse;
+import com.dormitory.SpringBoot.search.SearchResult;
 import com.dormitory.SpringBoot.services.DocumentService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -378,6 +379,39 @@ public class DocumentController {
         }
     }
 
+    /**
+     * 서류 검색 (관리자용, 관련도 순, size 지정 시 페이지 단위)
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> searchDocuments(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "0") int size) {
+        try {
+            SearchResult<Document> result = documentService.searchDocuments(keyword, Math.max(page, 0), size);
+            List<Document> documents = result.getItems();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("documents", documents);
+            response.put("count", documents.size());
+            response.put("keyword", keyword);
+            response.put("total", result.getTotal());
+            response.put("page", result.getPage());
+            response.put("hasNext", result.hasNext());
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            logger.error("서류 검색 실패: keyword={}", keyword, e);
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "서류 검색 실패: " + e.getMessage());
+
+            return ResponseEntity.internalServerError().body(errorResponse);
+        }
+    }
+
     /**
      * 서류 통계 조회 (관리자용)
      */
@@ -17,6 +17,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +65,18 @@ public class InspectionController {
         }
     }
 
+    @GetMapping("/my/stats")
+    @Operation(summary = "내 점호 통계 조회", description = "로그인한 사용자의 점호 누적 통계(평균/최고/최저 점수, 연속 기록)를 조회합니다.")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getMyInspectionStats(@AuthenticationPrincipal String userId) {
+        try {
+            Map<String, Object> stats = inspectionService.getUserStatistics(userId);
+            return ResponseEntity.ok(ApiResponse.success("점호 통계 조회 성공", stats));
+        } catch (Exception e) {
+            logger.error("사용자 점호 통계 조회 중 오류 발생 - 사용자: {}", userId, e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
     @GetMapping("/today")
     @Operation(summary = "오늘 점호 상태 확인", description = "사용자의 오늘 점호 완료 상태를 확인합니다.")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getTodayInspection(@AuthenticationPrincipal String userId) {
@@ -182,6 +196,91 @@ public class InspectionController {
         }
     }
 
+    /**
+     * 일별/월별/기숙사동별 점호 통계 조회 (일별 집계 테이블 기준)
+     */
+    @GetMapping("/statistics/{period}")
+    @Operation(summary = "기간별 점호 통계 조회",
+            description = "daily/monthly는 기간(기본 최근 30일/12개월), building은 날짜(기본 오늘) 기준으로 조회합니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> getPeriodStatistics(
+            @Parameter(description = "daily, monthly, building 중 하나", required = true)
+            @PathVariable String period,
+            @Parameter(description = "시작 날짜 (yyyy-MM-dd)")
+            @RequestParam(required = false) String startDate,
+            @Parameter(description = "종료 날짜 또는 building 조회 날짜 (yyyy-MM-dd)")
+            @RequestParam(required = false) String endDate) {
+        try {
+            LocalDate end = endDate != null && !endDate.isEmpty() ? LocalDate.parse(endDate) : LocalDate.now();
+            List<Map<String, Object>> statistics;
+
+            switch (period) {
+                case "daily" -> {
+                    LocalDate start = startDate != null && !startDate.isEmpty()
+                            ? LocalDate.parse(startDate) : end.minusDays(29);
+                    statistics = inspectionService.getDailyStatistics(start, end);
+                }
+                case "monthly" -> {
+                    LocalDate start = startDate != null && !startDate.isEmpty()
+                            ? LocalDate.parse(startDate) : end.minusMonths(11).withDayOfMonth(1);
+                    statistics = inspectionService.getMonthlyStatistics(start, end);
+                }
+                case "building" -> statistics = inspectionService.getBuildingStatistics(end);
+                default -> {
+                    return ResponseEntity.badRequest()
+                            .body(ApiResponse.error("지원하지 않는 통계 단위입니다: " + period));
+                }
+            }
+
+            return ResponseEntity.ok(ApiResponse.success("통계 조회 성공", statistics));
+
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)"));
+        } catch (Exception e) {
+            logger.error("기간별 점호 통계 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.internalServerError(e.getMessage()));
+        }
+    }
+
+    /**
+     * 관리자용 - 특정 사용자 점호 통계 조회
+     */
+    @GetMapping("/admin/users/{userId}/stats")
+    @Operation(summary = "사용자 점호 통계 조회", description = "관리자가 특정 사용자의 점호 누적 통계를 조회합니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> getUserInspectionStats(
+            @Parameter(description = "조회할 사용자 ID", required = true)
+            @PathVariable String userId) {
+        try {
+            Map<String, Object> stats = inspectionService.getUserStatistics(userId);
+            return ResponseEntity.ok(ApiResponse.success("사용자 점호 통계 조회 성공", stats));
+        } catch (Exception e) {
+            logger.error("사용자 점호 통계 조회 중 오류 발생 - 사용자: {}", userId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.internalServerError(e.getMessage()));
+        }
+    }
+
+    /**
+     * 관리자용 - 사용자 점호 통계 전체 재구축
+     */
+    @PostMapping("/admin/user-stats/rebuild")
+    @Operation(summary = "사용자 점호 통계 재구축", description = "모든 사용자의 점호 누적 통계를 점호 기록에서 다시 계산합니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> rebuildUserInspectionStats() {
+        try {
+            Map<String, Object> data = new HashMap<>();
+            data.put("rebuiltUsers", inspectionService.rebuildUserStatistics());
+            return ResponseEntity.ok(ApiResponse.success("사용자 점호 통계 재구축 완료", data));
+        } catch (Exception e) {
+            logger.error("사용자 점호 통계 재구축 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.internalServerError(e.getMessage()));
+        }
+    }
+
     /**
      * ✅ 수정: 관리자용 - 점호 기록 삭제 (void 반환 대응)
      */
@@ -309,19 +408,24 @@ public class InspectionController {
     /**
      * ✅ 기숙사별 점호 현황 테이블 데이터 조회
      * 층/호실 매트릭스 형태로 점호 상태 반환
+     * ✅ view=summary: 호실별 상태 코드/인원만 배열로 반환 (상세는 호실별 조회 사용)
      */
     @GetMapping("/admin/building-status/{building}")
-    @Operation(summary = "기숙사별 점호 현황 조회", description = "특정 기숙사의 층/호실별 점호 현황을 테이블 형태로 조회합니다.")
+    @Operation(summary = "기숙사별 점호 현황 조회", description = "특정 기숙사의 층/호실별 점호 현황을 테이블 형태로 조회합니다. view=summary면 상태 코드 그리드만 반환합니다.")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<?>> getBuildingInspectionStatus(
             @Parameter(description = "기숙사 동 이름", required = true)
             @PathVariable String building,
             @Parameter(description = "조회할 날짜 (yyyy-MM-dd), 없으면 오늘")
-            @RequestParam(required = false) String date) {
+            @RequestParam(required = false) String date,
+            @Parameter(description = "응답 형식 (full: 거주자 상세 포함, summary: 상태 코드 그리드)")
+            @RequestParam(defaultValue = "full") String view) {
         try {
-            logger.info("기숙사별 점호 현황 조회 - 동: {}, 날짜: {}", building, date);
+            logger.info("기숙사별 점호 현황 조회 - 동: {}, 날짜: {}, 형식: {}", building, date, view);
 
-            Map<String, Object> statusData = inspectionService.getBuildingInspectionStatus(building, date);
+            Map<String, Object> statusData = "summary".equalsIgnoreCase(view)
+                    ? inspectionService.getBuildingInspectionSummary(building, date)
+                    : inspectionService.getBuildingInspectionStatus(building, date);
 
             return ResponseEntity.ok(ApiResponse.success("기숙사별 점호 현황 조회 성공", statusData));
 
@@ -332,6 +436,30 @@ public class InspectionController {
         }
     }
 
+    /**
+     * ✅ 전체 기숙사 점호 현황 요약 (캠퍼스 대시보드)
+     * 모든 동의 요약 그리드를 한 번에 병렬 계산하여 반환 (동별 계산 시간 포함)
+     */
+    @GetMapping("/admin/campus-status")
+    @Operation(summary = "전체 기숙사 점호 현황 요약", description = "모든 기숙사 동의 호실별 상태 코드 그리드를 한 번에 조회합니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> getCampusInspectionSummary(
+            @Parameter(description = "조회할 날짜 (yyyy-MM-dd), 없으면 오늘")
+            @RequestParam(required = false) String date) {
+        try {
+            logger.info("전체 기숙사 점호 현황 요약 조회 - 날짜: {}", date);
+
+            Map<String, Object> campusData = inspectionService.getCampusInspectionSummary(date);
+
+            return ResponseEntity.ok(ApiResponse.success("전체 기숙사 점호 현황 조회 성공", campusData));
+
+        } catch (Exception e) {
+            logger.error("전체 기숙사 점호 현황 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.internalServerError(e.getMessage()));
+        }
+    }
+
     /**
      * ✅ 전체 기숙사 목록 조회
      * 등록된 사용자들의 기숙사 동 목록을 반환
@@ -370,8 +498,8 @@ public class InspectionController {
             @Parameter(description = "호실 번호", required = true) @PathVariable int room,
             @Parameter(description = "조회할 날짜 (yyyy-MM-dd), 없으면 오늘") @RequestParam(required = false) String date) {
         try {
-            // 방 번호 형식: 층수 + 호실 (예: 2층 1호실 = 201)
-            String roomNumber = String.valueOf(floor * 100 + room);
+            // 방 번호 형식: 기숙사 테이블 설정 기준 (예: 2층 1호실 = 201 또는 2001)
+            String roomNumber = inspectionService.resolveRoomNumber(building, floor, room);
             logger.info("호실별 점호 상세 조회 - 동: {}, 방번호: {}, 날짜: {}", building, roomNumber, date);
 
             Map<String, Object> roomDetail = inspectionService.getRoomInspectionDetail(building, roomNumber, date);
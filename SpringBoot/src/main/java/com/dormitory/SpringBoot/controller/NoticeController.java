@@ -1,10 +1,15 @@
 package com.dormitory.SpringBoot.controller;
 
 import com.dormitory.SpringBoot.domain.Notice;
+import com.dormitory.SpringBoot.search.SearchResult;
+import com.dormitory.SpringBoot.services.NoticeFeedService;
 import com.dormitory.SpringBoot.services.NoticeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,6 +23,7 @@ import java.util.Map;
 /**
  * 공지사항 관련 API 컨트롤러
  * ✅ 수정: 관리자 권한 명시적 설정 + PUT 요청 multipart 지원
+ * ✅ 목록 조회는 버전 ETag / since 변경분 응답 지원
  */
 @RestController
 @RequestMapping("/api/notices")
@@ -31,18 +37,37 @@ public class NoticeController {
 
     /**
      * 모든 공지사항 조회 (모든 사용자)
+     * ✅ ETag(피드 버전)가 같으면 304, since=버전 지정 시 이후 변경분만 반환
      */
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllNotices() {
+    public ResponseEntity<Map<String, Object>> getAllNotices(
+            @RequestParam(value = "since", required = false) Long since,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            List<Notice> notices = noticeService.getAllNotices();
+            NoticeFeedService.Feed feed = noticeService.getNoticeFeed(since);
+
+            // 변경 없음 - 본문 없이 304
+            if (matchesETag(ifNoneMatch, feed.getETag()) || (since != null && since == feed.getVersion())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(feed.getETag())
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .build();
+            }
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("notices", notices);
-            response.put("count", notices.size());
-
-            return ResponseEntity.ok(response);
+            response.put("notices", feed.getNotices());
+            response.put("count", feed.getNotices().size());
+            response.put("version", feed.getVersion());
+            response.put("full", feed.isFull());
+            if (!feed.isFull()) {
+                response.put("deletedIds", feed.getDeletedIds());
+            }
+
+            return ResponseEntity.ok()
+                    .eTag(feed.getETag())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(response);
         } catch (Exception e) {
             logger.error("공지사항 목록 조회 실패", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -269,18 +294,25 @@ public class NoticeController {
     }
 
     /**
-     * 공지사항 검색
+     * 공지사항 검색 (관련도 순, size 지정 시 페이지 단위)
      */
     @GetMapping("/search")
-    public ResponseEntity<Map<String, Object>> searchNotices(@RequestParam("keyword") String keyword) {
+    public ResponseEntity<Map<String, Object>> searchNotices(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "0") int size) {
         try {
-            List<Notice> notices = noticeService.searchNotices(keyword);
+            SearchResult<Notice> result = noticeService.searchNotices(keyword, Math.max(page, 0), size);
+            List<Notice> notices = result.getItems();
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("notices", notices);
             response.put("count", notices.size());
             response.put("keyword", keyword);
+            response.put("total", result.getTotal());
+            response.put("page", result.getPage());
+            response.put("hasNext", result.hasNext());
 
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -317,4 +349,24 @@ public class NoticeController {
             return ResponseEntity.internalServerError().body(errorResponse);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * If-None-Match 헤더와 ETag 비교 (목록/와일드카드/약한 비교 허용)
+     */
+    private boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        String expected = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -4,6 +4,7 @@ import com.dormitory.SpringBoot.domain.RoomTemplate;
 import com.dormitory.SpringBoot.domain.RoomTemplate.RoomType;
 import com.dormitory.SpringBoot.dto.ApiResponse;
 import com.dormitory.SpringBoot.services.RoomTemplateService;
+import com.dormitory.SpringBoot.utils.ImageRenditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -276,6 +277,7 @@ public class RoomTemplateController {
         response.put("roomType", template.getRoomType().name());
         response.put("roomTypeDisplay", template.getRoomType().getDisplayName());
         response.put("imagePath", template.getImagePath());
+        response.put("thumbnailPath", ImageRenditions.thumbnailPathOf(template.getImagePath()));
         response.put("description", template.getDescription());
         response.put("buildingName", template.getBuildingName());
         response.put("isActive", template.getIsActive());
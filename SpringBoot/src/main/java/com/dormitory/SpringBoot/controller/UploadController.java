@@ -0,0 +1,263 @@
+package com.dormitory.SpringBoot.controller;
+
+import com.dormitory.SpringBoot.services.ContentStorageService;
+import com.dormitory.SpringBoot.utils.ImageRenditions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 업로드 파일(/uploads/**) 전용 서빙 컨트롤러
+ * ✅ 강한 ETag + 조건부 요청(If-None-Match) 304 응답
+ * ✅ 내용 주소(cas/) 파일은 immutable 장기 캐시, 이전 방식 파일은 짧은 캐시
+ * ✅ 단일 바이트 범위(Range) 요청 지원 (206 / 416)
+ * ✅ Tomcat sendfile 지원 시 커널 zero-copy, 아니면 FileChannel.transferTo 사용
+ * ✅ S3 호환 저장소 사용 시 사전 서명 URL로 302 리다이렉트
+ * ✅ 아직 생성되지 않은 썸네일 요청은 원본으로 307 리다이렉트
+ * ✅ 작성 중인 임시 파일(숨김 경로, .part, 예전 .tmp 스테이징 폴더)은 404
+ */
+@RestController
+public class UploadController {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadController.class);
+
+    // Tomcat NIO sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private ContentStorageService contentStorageService;
+
+    @Value("${file.serve.immutable-max-age-seconds:31536000}")
+    private long immutableMaxAgeSeconds;
+
+    @Value("${file.serve.legacy-max-age-seconds:3600}")
+    private long legacyMaxAgeSeconds;
+
+    // 리다이렉트 응답 캐시 시간 (사전 서명 URL 만료 전에 끝나야 함)
+    @Value("${file.serve.redirect-max-age-seconds:300}")
+    private long redirectMaxAgeSeconds;
+
+    /**
+     * 업로드 파일 조회 (GET/HEAD)
+     */
+    @RequestMapping(value = "/uploads/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serveUpload(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String relativePath = extractRelativePath(request);
+
+        if (isStagingPath(relativePath)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        Path file;
+        try {
+            file = contentStorageService.resolve(relativePath);
+        } catch (IllegalArgumentException e) {
+            logger.warn("잘못된 업로드 파일 경로 요청: {}", relativePath);
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        // 파생본(썸네일 등)이 아직 생성되지 않았으면 원본으로 임시 리다이렉트 (캐시 금지)
+        if (ImageRenditions.isRendition(relativePath) && !contentStorageService.exists(relativePath)) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            response.setStatus(HttpServletResponse.SC_TEMPORARY_REDIRECT);
+            response.setHeader(HttpHeaders.LOCATION, request.getContextPath() + "/uploads/"
+                    + UriUtils.encodePath(ImageRenditions.originalPathOf(relativePath), StandardCharsets.UTF_8));
+            return;
+        }
+
+        // 원격 저장소(S3 등) 파일은 사전 서명 URL로 리다이렉트 (바이트가 JVM을 거치지 않음)
+        Optional<URI> presignedUrl = contentStorageService.presignedReadUrl(relativePath);
+        if (presignedUrl.isPresent()) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=" + redirectMaxAgeSeconds);
+            response.setStatus(HttpServletResponse.SC_FOUND);
+            response.setHeader(HttpHeaders.LOCATION, presignedUrl.get().toString());
+            return;
+        }
+
+        if (!Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long length = attributes.size();
+        boolean immutable = ContentStorageService.isContentAddressed(relativePath);
+        String etag = buildETag(file, attributes, immutable);
+
+        // 공통 캐시 헤더
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable
+                ? "public, max-age=" + immutableMaxAgeSeconds + ", immutable"
+                : "public, max-age=" + legacyMaxAgeSeconds);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, attributes.lastModifiedTime().toMillis());
+
+        // 1. 조건부 요청 - 변경 없음
+        if (matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(mediaType.toString());
+
+        // 2. 범위 요청 처리 (If-Range가 현재 ETag와 다르면 전체 응답)
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && length > 0 && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+
+            // 다중 범위는 지원하지 않고 전체 응답
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                long rangeStart = range.getRangeStart(length);
+                long rangeEnd = range.getRangeEnd(length);
+                if (rangeStart >= length || rangeStart > rangeEnd) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                start = rangeStart;
+                end = rangeEnd;
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long contentLength = length == 0 ? 0 : end - start + 1;
+        response.setContentLengthLong(contentLength);
+
+        if (RequestMethod.HEAD.name().equals(request.getMethod()) || contentLength == 0) {
+            return;
+        }
+
+        // 3. 본문 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat이 응답 완료 후 커널 sendfile로 전송
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = contentLength;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+            out.flush();
+        }
+    }
+
+    /**
+     * 요청 URI에서 /uploads/ 이후 상대 경로 추출 (디코딩된 경로 사용)
+     */
+    private String extractRelativePath(HttpServletRequest request) {
+        Object attribute = request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        String path = UriUtils.decode(attribute != null ? attribute.toString() : request.getRequestURI(),
+                StandardCharsets.UTF_8);
+        if (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        if (path.startsWith("uploads/")) {
+            path = path.substring("uploads/".length());
+        }
+        return path;
+    }
+
+    /**
+     * 업로드 중인 임시 파일 경로인지 확인
+     * (숨김 경로 - 예전 .tmp 스테이징 폴더, 로컬 저장소의 .{이름}.part 복사본 - 또는 .part 파일)
+     */
+    private static boolean isStagingPath(String relativePath) {
+        for (String segment : relativePath.replace('\\', '/').split("/")) {
+            if (segment.startsWith(".") || segment.endsWith(".part")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * ETag 생성
+     * 내용 주소 파일은 파일명(SHA-256, 파생본은 접미사 포함)이 곧 내용 식별자, 이전 방식 파일은 크기+수정시각 사용
+     */
+    private String buildETag(Path file, BasicFileAttributes attributes, boolean immutable) {
+        if (immutable) {
+            String fileName = file.getFileName().toString();
+            int dot = fileName.lastIndexOf('.');
+            return "\"" + (dot >= 0 ? fileName.substring(0, dot) : fileName) + "\"";
+        }
+        return "\"" + Long.toHexString(attributes.size()) + "-"
+                + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더와 ETag 비교 (목록/와일드카드/약한 비교 허용)
+     */
+    private boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
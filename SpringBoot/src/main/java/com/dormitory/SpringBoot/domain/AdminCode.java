@@ -1,6 +1,8 @@
 package com.dormitory.SpringBoot.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 /**
@@ -9,6 +11,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "admin_code")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.AdminCode")
 public class AdminCode {
 
     @Id
@@ -177,6 +177,16 @@ public class AttendanceTable {
         this.status = status;
     }
 
+    /**
+     * 점호 제출 취소 처리 (반려/삭제 시)
+     */
+    public void markAsNotSubmitted(String status) {
+        this.isSubmitted = false;
+        this.submissionTime = null;
+        this.score = null;
+        this.status = status;
+    }
+
     /**
      * 관리자 노트 추가
      */
@@ -1,6 +1,8 @@
 package com.dormitory.SpringBoot.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,6 +18,8 @@ import java.time.LocalDateTime;
 @Table(name = "building_table_config", 
        uniqueConstraints = @UniqueConstraint(columnNames = {"building_name"}))
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.BuildingTableConfig")
 public class BuildingTableConfig {
 
     @Id
@@ -1,5 +1,6 @@
 package com.dormitory.SpringBoot.domain;
 
+import com.dormitory.SpringBoot.utils.ImageRenditions;
 import jakarta.persistence.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -156,6 +157,14 @@ public class Complaint {
         this.imagePath = imagePath;
     }
 
+    /**
+     * 목록 화면용 썸네일 경로 (이미지가 아니거나 파생본 대상이 아니면 null)
+     */
+    @Transient
+    public String getThumbnailPath() {
+        return ImageRenditions.thumbnailPathOf(imagePath);
+    }
+
     public String getStatus() {
         return status;
     }
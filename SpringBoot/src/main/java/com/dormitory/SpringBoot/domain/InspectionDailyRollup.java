@@ -0,0 +1,150 @@
+package com.dormitory.SpringBoot.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일자 × 기숙사동별 점호 집계 엔티티 (마감된 날짜만 저장)
+ * ✅ 통계 조회는 원본 점호 테이블 대신 이 테이블을 읽음 (조회 비용이 일 수에 비례)
+ * ✅ 기숙사동 정보가 없는 사용자의 점호는 빈 문자열("") 동으로 집계
+ */
+@Entity
+@Table(name = "inspection_daily_rollups",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"stat_date", "building"}))
+public class InspectionDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "building", nullable = false, length = 50)
+    private String building;
+
+    @Column(name = "total_count", nullable = false)
+    private Long totalCount = 0L;
+
+    @Column(name = "pass_count", nullable = false)
+    private Long passCount = 0L;
+
+    @Column(name = "fail_count", nullable = false)
+    private Long failCount = 0L;
+
+    @Column(name = "rejected_count", nullable = false)
+    private Long rejectedCount = 0L;
+
+    @Column(name = "re_inspection_count", nullable = false)
+    private Long reInspectionCount = 0L;
+
+    @Column(name = "score_sum", nullable = false)
+    private Long scoreSum = 0L;
+
+    @Column(name = "finalized_at", nullable = false)
+    private LocalDateTime finalizedAt;
+
+    // 기본 생성자
+    public InspectionDailyRollup() {}
+
+    // 생성자
+    public InspectionDailyRollup(LocalDate statDate, String building) {
+        this.statDate = statDate;
+        this.building = building;
+    }
+
+    // Getter and Setter methods
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public void setStatDate(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+
+    public String getBuilding() {
+        return building;
+    }
+
+    public void setBuilding(String building) {
+        this.building = building;
+    }
+
+    public Long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(Long totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public Long getPassCount() {
+        return passCount;
+    }
+
+    public void setPassCount(Long passCount) {
+        this.passCount = passCount;
+    }
+
+    public Long getFailCount() {
+        return failCount;
+    }
+
+    public void setFailCount(Long failCount) {
+        this.failCount = failCount;
+    }
+
+    public Long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void setRejectedCount(Long rejectedCount) {
+        this.rejectedCount = rejectedCount;
+    }
+
+    public Long getReInspectionCount() {
+        return reInspectionCount;
+    }
+
+    public void setReInspectionCount(Long reInspectionCount) {
+        this.reInspectionCount = reInspectionCount;
+    }
+
+    public Long getScoreSum() {
+        return scoreSum;
+    }
+
+    public void setScoreSum(Long scoreSum) {
+        this.scoreSum = scoreSum;
+    }
+
+    public LocalDateTime getFinalizedAt() {
+        return finalizedAt;
+    }
+
+    public void setFinalizedAt(LocalDateTime finalizedAt) {
+        this.finalizedAt = finalizedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "InspectionDailyRollup{" +
+                "statDate=" + statDate +
+                ", building='" + building + '\'' +
+                ", totalCount=" + totalCount +
+                ", passCount=" + passCount +
+                ", failCount=" + failCount +
+                ", rejectedCount=" + rejectedCount +
+                '}';
+    }
+}
@@ -0,0 +1,71 @@
+package com.dormitory.SpringBoot.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 점호 반려 기록 엔티티 (반려된 점호 1건당 1행)
+ * ✅ 반려된 점호는 점호 테이블에서 삭제되므로 반려 건수는 이 테이블에서 집계
+ * ✅ 출석 테이블은 날짜 × 호실당 1행이라 같은 호실의 여러 반려를 구분하지 못함
+ */
+@Entity
+@Table(name = "inspection_rejections", indexes = {
+        @Index(name = "idx_inspection_rejections_date", columnList = "inspection_date")
+})
+public class InspectionRejection {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "inspection_id", nullable = false)
+    private Long inspectionId;
+
+    @Column(name = "user_id", nullable = false, length = 50)
+    private String userId;
+
+    @Column(name = "inspection_date", nullable = false)
+    private LocalDateTime inspectionDate;
+
+    @Column(name = "reason", length = 500)
+    private String reason;
+
+    @Column(name = "rejected_at", nullable = false)
+    private LocalDateTime rejectedAt;
+
+    // 기본 생성자
+    public InspectionRejection() {}
+
+    public InspectionRejection(Inspection inspection, String reason) {
+        this.inspectionId = inspection.getId();
+        this.userId = inspection.getUserId();
+        this.inspectionDate = inspection.getInspectionDate();
+        this.reason = reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+        this.rejectedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getInspectionId() {
+        return inspectionId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getInspectionDate() {
+        return inspectionDate;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public LocalDateTime getRejectedAt() {
+        return rejectedAt;
+    }
+}
@@ -0,0 +1,33 @@
+package com.dormitory.SpringBoot.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * 마감 이후 점호가 변경된 날짜 엔티티 (재집계 대기)
+ * ✅ 변경마다 change_count 증가 - 재집계 중 다시 변경되면 값이 달라 다음 주기에 재집계
+ * ✅ DB에 저장되므로 어느 인스턴스에서 변경해도 모든 인스턴스가 원본으로 집계
+ */
+@Entity
+@Table(name = "inspection_rollup_dirty_days")
+public class InspectionRollupDirtyDay {
+
+    @Id
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "change_count", nullable = false)
+    private Long changeCount;
+
+    // 기본 생성자
+    public InspectionRollupDirtyDay() {}
+
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public Long getChangeCount() {
+        return changeCount;
+    }
+}
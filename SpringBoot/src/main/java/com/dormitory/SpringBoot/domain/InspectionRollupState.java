@@ -0,0 +1,39 @@
+package com.dormitory.SpringBoot.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * 점호 일별 집계 마감 상태 엔티티 (전체 1행)
+ * ✅ 마감 완료된 마지막 날짜를 DB에 저장 - 재시작/여러 인스턴스에서 같은 기준 사용
+ * ✅ 마감 작업은 이 행을 잠그고 진행 (인스턴스 간 동시 마감 방지)
+ */
+@Entity
+@Table(name = "inspection_rollup_state")
+public class InspectionRollupState {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Integer id;
+
+    @Column(name = "finalized_through", nullable = false)
+    private LocalDate finalizedThrough;
+
+    // 기본 생성자
+    public InspectionRollupState() {}
+
+    public Integer getId() {
+        return id;
+    }
+
+    public LocalDate getFinalizedThrough() {
+        return finalizedThrough;
+    }
+
+    public void setFinalizedThrough(LocalDate finalizedThrough) {
+        this.finalizedThrough = finalizedThrough;
+    }
+}
@@ -1,6 +1,8 @@
 package com.dormitory.SpringBoot.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -17,6 +19,8 @@ import java.util.stream.Collectors;
  */
 @Entity
 @Table(name = "inspection_settings")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.InspectionSettings")
 public class InspectionSettings {
 
     // ✅ 한국 시간대 상수
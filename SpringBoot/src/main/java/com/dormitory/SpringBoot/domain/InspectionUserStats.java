@@ -0,0 +1,199 @@
+package com.dormitory.SpringBoot.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 점호 누적 통계 엔티티 (사용자당 1행)
+ * ✅ 점호 제출/반려/수정 시 같은 트랜잭션에서 증분 갱신 (이력 전체를 다시 읽지 않음)
+ * ✅ 연속 기록은 마지막 상태(lastStatus)가 연속된 횟수(currentStreak)로 표현
+ */
+@Entity
+@Table(name = "inspection_user_stats")
+public class InspectionUserStats {
+
+    @Id
+    @Column(name = "user_id", nullable = false, length = 50)
+    private String userId;
+
+    @Column(name = "inspection_count", nullable = false)
+    private Long inspectionCount = 0L;
+
+    @Column(name = "score_sum", nullable = false)
+    private Long scoreSum = 0L;
+
+    @Column(name = "min_score")
+    private Integer minScore;
+
+    @Column(name = "max_score")
+    private Integer maxScore;
+
+    @Column(name = "pass_count", nullable = false)
+    private Long passCount = 0L;
+
+    @Column(name = "fail_count", nullable = false)
+    private Long failCount = 0L;
+
+    @Column(name = "re_inspection_count", nullable = false)
+    private Long reInspectionCount = 0L;
+
+    @Column(name = "last_status", length = 20)
+    private String lastStatus;
+
+    @Column(name = "current_streak", nullable = false)
+    private Integer currentStreak = 0;
+
+    // 현재 연속 기록이 시작된 점호 일시 (이보다 이전 기록의 변경은 연속 기록에 영향 없음)
+    @Column(name = "streak_started_at")
+    private LocalDateTime streakStartedAt;
+
+    @Column(name = "last_inspection_at")
+    private LocalDateTime lastInspectionAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 기본 생성자
+    public InspectionUserStats() {}
+
+    // 생성자
+    public InspectionUserStats(String userId) {
+        this.userId = userId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 점호 기록이 하나도 반영되지 않은 상태인지 확인
+     */
+    public boolean isEmpty() {
+        return inspectionCount == 0 && lastInspectionAt == null;
+    }
+
+    public double getAverageScore() {
+        return inspectionCount > 0 ? (double) scoreSum / inspectionCount : 0.0;
+    }
+
+    public int getCurrentPassStreak() {
+        return "PASS".equals(lastStatus) ? currentStreak : 0;
+    }
+
+    public int getCurrentFailStreak() {
+        return "FAIL".equals(lastStatus) ? currentStreak : 0;
+    }
+
+    // Getter and Setter methods
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public Long getInspectionCount() {
+        return inspectionCount;
+    }
+
+    public void setInspectionCount(Long inspectionCount) {
+        this.inspectionCount = inspectionCount;
+    }
+
+    public Long getScoreSum() {
+        return scoreSum;
+    }
+
+    public void setScoreSum(Long scoreSum) {
+        this.scoreSum = scoreSum;
+    }
+
+    public Integer getMinScore() {
+        return minScore;
+    }
+
+    public void setMinScore(Integer minScore) {
+        this.minScore = minScore;
+    }
+
+    public Integer getMaxScore() {
+        return maxScore;
+    }
+
+    public void setMaxScore(Integer maxScore) {
+        this.maxScore = maxScore;
+    }
+
+    public Long getPassCount() {
+        return passCount;
+    }
+
+    public void setPassCount(Long passCount) {
+        this.passCount = passCount;
+    }
+
+    public Long getFailCount() {
+        return failCount;
+    }
+
+    public void setFailCount(Long failCount) {
+        this.failCount = failCount;
+    }
+
+    public Long getReInspectionCount() {
+        return reInspectionCount;
+    }
+
+    public void setReInspectionCount(Long reInspectionCount) {
+        this.reInspectionCount = reInspectionCount;
+    }
+
+    public String getLastStatus() {
+        return lastStatus;
+    }
+
+    public void setLastStatus(String lastStatus) {
+        this.lastStatus = lastStatus;
+    }
+
+    public Integer getCurrentStreak() {
+        return currentStreak;
+    }
+
+    public void setCurrentStreak(Integer currentStreak) {
+        this.currentStreak = currentStreak;
+    }
+
+    public LocalDateTime getStreakStartedAt() {
+        return streakStartedAt;
+    }
+
+    public void setStreakStartedAt(LocalDateTime streakStartedAt) {
+        this.streakStartedAt = streakStartedAt;
+    }
+
+    public LocalDateTime getLastInspectionAt() {
+        return lastInspectionAt;
+    }
+
+    public void setLastInspectionAt(LocalDateTime lastInspectionAt) {
+        this.lastInspectionAt = lastInspectionAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "InspectionUserStats{" +
+                "userId='" + userId + '\'' +
+                ", inspectionCount=" + inspectionCount +
+                ", lastStatus='" + lastStatus + '\'' +
+                ", currentStreak=" + currentStreak +
+                '}';
+    }
+}
@@ -1,5 +1,6 @@
 package com.dormitory.SpringBoot.domain;
 
+import com.dormitory.SpringBoot.utils.ImageRenditions;
 import jakarta.persistence.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -107,6 +108,14 @@ public class Notice {
         this.imagePath = imagePath;
     }
 
+    /**
+     * 목록 화면용 썸네일 경로 (이미지가 아니거나 파생본 대상이 아니면 null)
+     */
+    @Transient
+    public String getThumbnailPath() {
+        return ImageRenditions.thumbnailPathOf(imagePath);
+    }
+
     public Boolean getIsPinned() {
         return isPinned;
     }
@@ -148,6 +157,19 @@ public class Notice {
         this.viewCount = (this.viewCount != null ? this.viewCount : 0) + 1;
     }
 
+    /**
+     * 표시용 조회수를 반영한 사본 (영속성 컨텍스트와 무관, 캐시된 공지사항 공유 방지)
+     */
+    public Notice copyWithViewCount(long viewCount) {
+        Notice copy = new Notice(this.title, this.content, this.author, this.imagePath);
+        copy.id = this.id;
+        copy.isPinned = this.isPinned;
+        copy.viewCount = (int) Math.min(viewCount, Integer.MAX_VALUE);
+        copy.createdAt = this.createdAt;
+        copy.updatedAt = this.updatedAt;
+        return copy;
+    }
+
     /**
      * 고정 여부 토글
      */
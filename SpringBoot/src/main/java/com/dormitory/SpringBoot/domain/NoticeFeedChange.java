@@ -0,0 +1,54 @@
+package com.dormitory.SpringBoot.domain;
+
+import jakarta.persistence.*;
+
+/**
+ * 공지사항별 마지막 피드 변경 버전 엔티티 (공지사항 1건당 1행)
+ * ✅ 작성/수정/고정 변경 시 해당 피드 버전 기록, 삭제 시 삭제 표시(tombstone)로 전환
+ * ✅ DB에 저장되므로 since= 변경분 조회가 인스턴스와 무관하게 같은 결과
+ */
+@Entity
+@Table(name = "notice_feed_change", indexes = {
+        @Index(name = "idx_notice_feed_change_version", columnList = "version")
+})
+public class NoticeFeedChange {
+
+    @Id
+    @Column(name = "notice_id", nullable = false)
+    private Long noticeId;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "deleted", nullable = false)
+    private Boolean deleted = false;
+
+    // 기본 생성자
+    public NoticeFeedChange() {}
+
+    public NoticeFeedChange(Long noticeId, Long version, boolean deleted) {
+        this.noticeId = noticeId;
+        this.version = version;
+        this.deleted = deleted;
+    }
+
+    public Long getNoticeId() {
+        return noticeId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public boolean isDeleted() {
+        return Boolean.TRUE.equals(deleted);
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+}
@@ -0,0 +1,41 @@
+package com.dormitory.SpringBoot.domain;
+
+import jakarta.persistence.*;
+
+/**
+ * 공지사항 피드 버전 엔티티 (전체 1행)
+ * ✅ 공지사항 작성/수정/삭제/고정 변경마다 1씩 증가 (삭제도 반영됨)
+ * ✅ DB에 저장되므로 재시작/여러 인스턴스에서도 같은 버전이 같은 목록을 가리킴
+ * ✅ delta_floor 미만의 since 요청은 변경 이력이 없어 전체 목록으로 응답
+ */
+@Entity
+@Table(name = "notice_feed_version")
+public class NoticeFeedVersion {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Integer id;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "delta_floor")
+    private Long deltaFloor;
+
+    // 기본 생성자
+    public NoticeFeedVersion() {}
+
+    public Integer getId() {
+        return id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public Long getDeltaFloor() {
+        return deltaFloor;
+    }
+}
@@ -0,0 +1,168 @@
+package com.dormitory.SpringBoot.domain;
+
+import jakarta.persistence.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소(SHA-256) 기반으로 저장된 업로드 파일 정보 엔티티
+ * ✅ 동일한 내용의 파일은 한 번만 저장하고 참조 수(referenceCount)로 관리
+ * ✅ 참조 수가 0이 되면 바로 지우지 않고 releasedAt을 기록 (유예 시간 후 정리 작업이 삭제)
+ */
+@Entity
+@Table(name = "stored_files",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"content_hash"}))
+@EntityListeners(AuditingEntityListener.class)
+public class StoredFile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "storage_path", nullable = false, length = 500)
+    private String storagePath;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "reference_count", nullable = false)
+    private Integer referenceCount = 0;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_referenced_at")
+    private LocalDateTime lastReferencedAt;
+
+    // 마지막 참조가 해제된 시각 (참조 중이면 null)
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt;
+
+    // 기본 생성자
+    public StoredFile() {}
+
+    // 생성자
+    public StoredFile(String contentHash, String storagePath, String contentType, Long fileSize) {
+        this.contentHash = contentHash;
+        this.storagePath = storagePath;
+        this.contentType = contentType;
+        this.fileSize = fileSize;
+        this.referenceCount = 0;
+    }
+
+    // Getter and Setter methods
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public String getStoragePath() {
+        return storagePath;
+    }
+
+    public void setStoragePath(String storagePath) {
+        this.storagePath = storagePath;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public Integer getReferenceCount() {
+        return referenceCount;
+    }
+
+    public void setReferenceCount(Integer referenceCount) {
+        this.referenceCount = referenceCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getLastReferencedAt() {
+        return lastReferencedAt;
+    }
+
+    public void setLastReferencedAt(LocalDateTime lastReferencedAt) {
+        this.lastReferencedAt = lastReferencedAt;
+    }
+
+    public LocalDateTime getReleasedAt() {
+        return releasedAt;
+    }
+
+    public void setReleasedAt(LocalDateTime releasedAt) {
+        this.releasedAt = releasedAt;
+    }
+
+    /**
+     * 참조 추가
+     */
+    public void acquire() {
+        this.referenceCount = (referenceCount == null ? 0 : referenceCount) + 1;
+        this.lastReferencedAt = LocalDateTime.now();
+        this.releasedAt = null;
+    }
+
+    /**
+     * 참조 해제
+     *
+     * @return 남은 참조 수
+     */
+    public int release() {
+        int current = referenceCount == null ? 0 : referenceCount;
+        this.referenceCount = Math.max(0, current - 1);
+        if (this.referenceCount == 0) {
+            this.releasedAt = LocalDateTime.now();
+        }
+        return this.referenceCount;
+    }
+
+    @Override
+    public String toString() {
+        return "StoredFile{" +
+                "id=" + id +
+                ", contentHash='" + contentHash + '\'' +
+                ", storagePath='" + storagePath + '\'' +
+                ", fileSize=" + fileSize +
+                ", referenceCount=" + referenceCount +
+                '}';
+    }
+}
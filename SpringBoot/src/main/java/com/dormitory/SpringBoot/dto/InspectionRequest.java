@@ -1,5 +1,6 @@
 package com.dormitory.SpringBoot.dto;
 
+import com.dormitory.SpringBoot.utils.ImageRenditions;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Max;
@@ -218,6 +219,11 @@ public class InspectionRequest {
             this.imagePath = imagePath;
         }
 
+        // 목록 화면용 썸네일 경로 (원본 이미지 경로에서 계산)
+        public String getThumbnailPath() {
+            return ImageRenditions.thumbnailPathOf(imagePath);
+        }
+
         public Integer getScore() {
             return score;
         }
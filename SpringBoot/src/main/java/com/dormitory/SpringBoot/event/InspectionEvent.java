@@ -0,0 +1,127 @@
+package com.dormitory.SpringBoot.event;
+
+import com.dormitory.SpringBoot.domain.Inspection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 점호 생명주기 도메인 이벤트
+ * ✅ 트랜잭션 커밋 이후(AFTER_COMMIT) 리스너에서 후속 작업(출석 반영, 파일 삭제 등)을 처리
+ * ✅ 엔티티 대신 불변 스냅샷을 담아 비동기 스레드에서도 안전하게 사용
+ */
+public abstract class InspectionEvent {
+
+    private final Long inspectionId;
+    private final String userId;
+    private final String roomNumber;
+    private final String imagePath;
+    private final Integer score;
+    private final String status;
+    private final boolean reInspection;
+    private final LocalDateTime inspectionDate;
+    private final LocalDateTime occurredAt;
+
+    protected InspectionEvent(Inspection inspection) {
+        this.inspectionId = inspection.getId();
+        this.userId = inspection.getUserId();
+        this.roomNumber = inspection.getRoomNumber();
+        this.imagePath = inspection.getImagePath();
+        this.score = inspection.getScore();
+        this.status = inspection.getStatus();
+        this.reInspection = Boolean.TRUE.equals(inspection.getIsReInspection());
+        this.inspectionDate = inspection.getInspectionDate();
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    /**
+     * 이벤트 병합(coalescing) 키 - 같은 사용자/날짜의 이벤트는 최신 것만 반영
+     */
+    public String getCoalescingKey() {
+        return userId + "@" + getInspectionLocalDate();
+    }
+
+    public LocalDate getInspectionLocalDate() {
+        return inspectionDate != null ? inspectionDate.toLocalDate() : occurredAt.toLocalDate();
+    }
+
+    public Long getInspectionId() {
+        return inspectionId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+
+    public String getImagePath() {
+        return imagePath;
+    }
+
+    public Integer getScore() {
+        return score;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public boolean isReInspection() {
+        return reInspection;
+    }
+
+    public LocalDateTime getInspectionDate() {
+        return inspectionDate;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "inspectionId=" + inspectionId +
+                ", userId='" + userId + '\'' +
+                ", status='" + status + '\'' +
+                ", score=" + score +
+                '}';
+    }
+
+    /**
+     * 점호 제출(재검 포함) 완료 이벤트
+     */
+    public static class Submitted extends InspectionEvent {
+        public Submitted(Inspection inspection) {
+            super(inspection);
+        }
+    }
+
+    /**
+     * 점호 반려 이벤트 (관리자)
+     */
+    public static class Rejected extends InspectionEvent {
+        private final String reason;
+
+        public Rejected(Inspection inspection, String reason) {
+            super(inspection);
+            this.reason = reason;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+
+    /**
+     * 점호 삭제 이벤트 (관리자)
+     */
+    public static class Deleted extends InspectionEvent {
+        public Deleted(Inspection inspection) {
+            super(inspection);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.dormitory.SpringBoot.filter;
 import com.dormitory.SpringBoot.domain.User;
 import com.dormitory.SpringBoot.repository.UserRepository;
 import com.dormitory.SpringBoot.utils.JwtUtil;
+import com.dormitory.SpringBoot.utils.TracingUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -36,6 +37,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TracingUtil tracing;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -52,6 +56,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String requestMethod = request.getMethod();
         logger.debug("=== JWT 필터 시작 === Path: {} Method: {}", requestPath, requestMethod);
 
+        // 토큰 검증/사용자 조회 (추적 span: jwt.authenticate)
+        tracing.inSpan("jwt.authenticate", () -> authenticate(request));
+
+        filterChain.doFilter(request, response);
+        logger.debug("=== JWT 필터 완료 ===");
+    }
+
+    /**
+     * Authorization 헤더의 토큰을 검증하고 SecurityContext에 인증 정보 설정
+     * 검증 실패/비활성/잠긴 계정이면 인증 없이 반환 (이후 필터 체인은 호출부에서 계속 진행)
+     */
+    private void authenticate(HttpServletRequest request) {
         try {
             String authHeader = request.getHeader("Authorization");
             logger.debug("Authorization 헤더: {}", authHeader != null ? "Bearer ***" : "null");
@@ -77,14 +93,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         // 계정 활성화 상태 확인
                         if (!Boolean.TRUE.equals(user.getIsActive())) {
                             logger.warn("비활성화된 계정으로 접근 시도 - 사용자ID: {}", userId);
-                            filterChain.doFilter(request, response);
                             return;
                         }
 
                         // 계정 잠금 상태 확인
                         if (user.isAccountLocked()) {
                             logger.warn("잠긴 계정으로 접근 시도 - 사용자ID: {}", userId);
-                            filterChain.doFilter(request, response);
                             return;
                         }
 
@@ -117,9 +131,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             logger.error("JWT 처리 중 오류 발생", e);
             SecurityContextHolder.clearContext();
         }
-
-        filterChain.doFilter(request, response);
-        logger.debug("=== JWT 필터 완료 ===");
     }
 
     /**
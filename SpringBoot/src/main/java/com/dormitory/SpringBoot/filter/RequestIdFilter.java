@@ -0,0 +1,75 @@
+package com.dormitory.SpringBoot.filter;
+
+import com.dormitory.SpringBoot.logging.RequestLogStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 ID 필터
+ * ✅ X-Request-Id 헤더 값(없거나 형식이 맞지 않으면 새로 생성)을 MDC(requestId)와 응답 헤더에 설정
+ * ✅ 모든 로그(JSON 파일 로그의 requestId 필드)와 추적 span(request.id 태그)에서 같은 요청을 찾을 수 있음
+ * ✅ 요청당 기록된 로그 건수를 logging.events.per.request 지표로 기록
+ *
+ * 추적 필터(ServerHttpObservationFilter) 바로 뒤에서 실행되어 요청 span에 태그를 붙임
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Autowired
+    private ObjectProvider<Tracer> tracerProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String requestId = request.getHeader(HEADER);
+        if (requestId == null || !VALID_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString();
+        }
+
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(HEADER, requestId);
+        Tracer tracer = tracerProvider.getIfAvailable();
+        Span span = tracer != null ? tracer.currentSpan() : null;
+        if (span != null) {
+            span.tag("request.id", requestId);
+        }
+
+        RequestLogStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DistributionSummary.builder("logging.events.per.request")
+                    .description("요청 처리 스레드에서 기록된 로그 건수")
+                    .register(meterRegistry)
+                    .record(RequestLogStats.end());
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.dormitory.SpringBoot.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고빈도 로그 샘플링 필터 (logback-spring.xml에서 등록)
+ * ✅ loggerPrefix 하위 로거의 DEBUG/TRACE 로그를 메시지 템플릿별로 초당 N건까지만 통과
+ * ✅ INFO/WARN/ERROR는 제한하지 않음 (업무/감사 기록용 INFO 로그는 생략되지 않음)
+ * ✅ 통과한 로그 건수는 요청 단위로 집계 (RequestLogStats), 생략 건수는 전체 누적 (지표용)
+ *
+ * 템플릿("점호 제출 시작 - 사용자: {}")이 같으면 인자 값이 달라도 같은 묶음으로 계산
+ */
+public class RateLimitingTurboFilter extends TurboFilter {
+
+    private static final LongAdder SUPPRESSED = new LongAdder();
+
+    // 문자열 연결로 만든 메시지처럼 템플릿이 계속 늘어나는 경우 이후 메시지는 한 묶음으로 계산
+    private static final int MAX_TEMPLATES = 5000;
+    private static final String OVERFLOW_KEY = "(overflow)";
+
+    private String loggerPrefix = "com.dormitory.SpringBoot";
+    private int debugPerSecond = 10;
+
+    // 메시지 템플릿 → 현재 1초 구간의 통과 건수
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isDebugEnabled() 등 레벨 확인 호출, 비활성 레벨은 판단하지 않음
+        if (format == null || level == null || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        boolean sampled = level.toInt() == Level.DEBUG_INT || level.toInt() == Level.TRACE_INT;
+        if (sampled && debugPerSecond > 0 && logger.getName().startsWith(loggerPrefix)) {
+            String key = windows.size() < MAX_TEMPLATES || windows.containsKey(format) ? format : OVERFLOW_KEY;
+            Window window = windows.computeIfAbsent(key, k -> new Window());
+            if (!window.tryAcquire(System.currentTimeMillis() / 1000, debugPerSecond)) {
+                SUPPRESSED.increment();
+                return FilterReply.DENY;
+            }
+        }
+
+        RequestLogStats.increment();
+        return FilterReply.NEUTRAL;
+    }
+
+    /**
+     * 샘플링으로 생략된 전체 로그 건수
+     */
+    public static long getSuppressedCount() {
+        return SUPPRESSED.sum();
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setDebugPerSecond(int debugPerSecond) {
+        this.debugPerSecond = debugPerSecond;
+    }
+
+    /**
+     * 1초 고정 구간 카운터
+     */
+    private static final class Window {
+
+        private volatile long second;
+        private final AtomicInteger count = new AtomicInteger();
+
+        boolean tryAcquire(long now, int limit) {
+            if (second != now) {
+                synchronized (this) {
+                    if (second != now) {
+                        second = now;
+                        count.set(0);
+                    }
+                }
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.dormitory.SpringBoot.logging;
+
+/**
+ * 요청 처리 스레드에서 기록된 로그 건수 (RequestIdFilter가 요청 시작/종료 시 사용)
+ * ✅ RateLimitingTurboFilter가 통과시킨 로그마다 증가
+ * ✅ 요청 밖(스케줄러, 비동기 작업)의 로그는 집계하지 않음
+ */
+public final class RequestLogStats {
+
+    private static final ThreadLocal<int[]> EVENTS = new ThreadLocal<>();
+
+    private RequestLogStats() {
+    }
+
+    public static void begin() {
+        EVENTS.set(new int[1]);
+    }
+
+    static void increment() {
+        int[] events = EVENTS.get();
+        if (events != null) {
+            events[0]++;
+        }
+    }
+
+    /**
+     * 요청 종료 - 기록된 로그 건수 반환
+     */
+    public static int end() {
+        int[] events = EVENTS.get();
+        EVENTS.remove();
+        return events != null ? events[0] : 0;
+    }
+}
@@ -1,8 +1,11 @@
 package com.dormitory.SpringBoot.repository;
 
 import com.dormitory.SpringBoot.domain.AdminCode;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,12 +20,14 @@ public interface AdminCodeRepository extends JpaRepository<AdminCode, Long> {
     /**
      * 코드로 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<AdminCode> findByCode(String code);
 
     /**
      * 활성화된 코드로 조회
      */
     @Query("SELECT a FROM AdminCode a WHERE a.code = :code AND a.isActive = true")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<AdminCode> findByCodeAndIsActiveTrue(String code);
 
     /**
@@ -34,15 +39,18 @@ public interface AdminCodeRepository extends JpaRepository<AdminCode, Long> {
      * 활성화된 코드 존재 여부 확인
      */
     @Query("SELECT COUNT(a) > 0 FROM AdminCode a WHERE a.code = :code AND a.isActive = true")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByCodeAndIsActiveTrue(String code);
 
     /**
      * 모든 코드 조회 (생성일 역순)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<AdminCode> findAllByOrderByCreatedAtDesc();
 
     /**
      * 활성화된 코드만 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<AdminCode> findByIsActiveTrueOrderByCreatedAtDesc();
 }
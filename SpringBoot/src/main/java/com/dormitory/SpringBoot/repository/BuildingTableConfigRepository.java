@@ -1,8 +1,11 @@
 package com.dormitory.SpringBoot.repository;
 
 import com.dormitory.SpringBoot.domain.BuildingTableConfig;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,21 +20,25 @@ public interface BuildingTableConfigRepository extends JpaRepository<BuildingTab
     /**
      * 기숙사 동 이름으로 설정 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<BuildingTableConfig> findByBuildingName(String buildingName);
 
     /**
      * 기숙사 동 이름으로 활성화된 설정 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<BuildingTableConfig> findByBuildingNameAndIsActiveTrue(String buildingName);
 
     /**
      * 모든 활성화된 설정 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<BuildingTableConfig> findByIsActiveTrueOrderByBuildingNameAsc();
 
     /**
      * 모든 설정 조회 (정렬)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<BuildingTableConfig> findAllByOrderByBuildingNameAsc();
 
     /**
@@ -252,6 +252,18 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
     @Query("SELECT c.status, COUNT(c) FROM Complaint c GROUP BY c.status ORDER BY COUNT(c) DESC")
     List<Object[]> getStatusStatistics();
 
+    /**
+     * 대시보드 통계 - 상태별 집계를 한 번의 쿼리로 조회
+     * [상태, 건수, 긴급(기준일 이전 접수) 건수, 처리 완료 시각이 있는 건수, 처리 시간 합계(시간)]
+     */
+    @Query("SELECT c.status, COUNT(c), " +
+            "SUM(CASE WHEN c.submittedAt < :urgentDate THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN c.processedAt IS NOT NULL THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN c.processedAt IS NOT NULL " +
+            "THEN TIMESTAMPDIFF(HOUR, c.submittedAt, c.processedAt) ELSE 0 END) " +
+            "FROM Complaint c GROUP BY c.status")
+    List<Object[]> aggregateByStatus(@Param("urgentDate") LocalDateTime urgentDate);
+
     /**
      * 월별 민원 접수 통계
      */
@@ -149,6 +149,25 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
             "ORDER BY YEAR(d.submittedAt) DESC, MONTH(d.submittedAt) DESC")
     List<Object[]> getMonthlyStatistics(@Param("since") LocalDateTime since);
 
+    /**
+     * 대시보드 통계 - 상태 × 기간별 집계를 한 번의 쿼리로 조회
+     * [상태, 건수, 오늘, 최근 7일, 최근 30일, 긴급(기준일 이전 접수) 건수,
+     *  처리 완료 시각이 있는 건수, 처리 시간 합계(시간)]
+     */
+    @Query("SELECT d.status, COUNT(d), " +
+            "SUM(CASE WHEN d.submittedAt >= :startOfToday THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN d.submittedAt >= :startOfWeek THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN d.submittedAt >= :startOfMonth THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN d.submittedAt < :urgentDate THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN d.processedAt IS NOT NULL THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN d.processedAt IS NOT NULL " +
+            "THEN TIMESTAMPDIFF(HOUR, d.submittedAt, d.processedAt) ELSE 0 END) " +
+            "FROM Document d GROUP BY d.status")
+    List<Object[]> aggregateByStatus(@Param("startOfToday") LocalDateTime startOfToday,
+                                     @Param("startOfWeek") LocalDateTime startOfWeek,
+                                     @Param("startOfMonth") LocalDateTime startOfMonth,
+                                     @Param("urgentDate") LocalDateTime urgentDate);
+
     /**
      * 상태별 통계
      */
@@ -0,0 +1,51 @@
+package com.dormitory.SpringBoot.repository;
+
+import com.dormitory.SpringBoot.domain.InspectionDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일자 × 기숙사동별 점호 집계에 대한 데이터베이스 접근을 담당하는 Repository
+ */
+@Repository
+public interface InspectionDailyRollupRepository extends JpaRepository<InspectionDailyRollup, Long> {
+
+    /**
+     * 특정 기간의 집계 조회 (날짜순)
+     */
+    List<InspectionDailyRollup> findByStatDateBetweenOrderByStatDateAsc(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 특정 날짜의 집계 조회
+     */
+    List<InspectionDailyRollup> findByStatDate(LocalDate statDate);
+
+    /**
+     * 전체 집계 합계
+     * [전체, 통과, 실패, 반려, 재검, 점수 합계]
+     */
+    @Query("SELECT SUM(r.totalCount), SUM(r.passCount), SUM(r.failCount), " +
+            "SUM(r.rejectedCount), SUM(r.reInspectionCount), SUM(r.scoreSum) " +
+            "FROM InspectionDailyRollup r")
+    List<Object[]> sumAll();
+
+    /**
+     * 마지막으로 집계된 날짜
+     */
+    @Query("SELECT MAX(r.statDate) FROM InspectionDailyRollup r")
+    Optional<LocalDate> findMaxStatDate();
+
+    /**
+     * 특정 기간의 집계 삭제 (재집계 전)
+     */
+    @Modifying
+    @Query("DELETE FROM InspectionDailyRollup r WHERE r.statDate BETWEEN :startDate AND :endDate")
+    int deleteByStatDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
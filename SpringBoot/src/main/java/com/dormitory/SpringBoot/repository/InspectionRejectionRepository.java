@@ -0,0 +1,28 @@
+package com.dormitory.SpringBoot.repository;
+
+import com.dormitory.SpringBoot.domain.InspectionRejection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 점호 반려 기록에 대한 데이터베이스 접근을 담당하는 Repository
+ */
+@Repository
+public interface InspectionRejectionRepository extends JpaRepository<InspectionRejection, Long> {
+
+    /**
+     * 일자 × 기숙사동별 반려 건수 (점호 날짜 기준, 구간 [start, end))
+     * [날짜, 기숙사동, 반려 건수]
+     */
+    @Query("SELECT DATE(r.inspectionDate), COALESCE(u.dormitoryBuilding, ''), COUNT(r) " +
+            "FROM InspectionRejection r LEFT JOIN User u ON u.id = r.userId " +
+            "WHERE r.inspectionDate >= :start AND r.inspectionDate < :end " +
+            "GROUP BY DATE(r.inspectionDate), COALESCE(u.dormitoryBuilding, '')")
+    List<Object[]> countDailyByBuilding(@Param("start") LocalDateTime start,
+                                        @Param("end") LocalDateTime end);
+}
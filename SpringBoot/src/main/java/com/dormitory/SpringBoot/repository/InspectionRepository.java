@@ -1,12 +1,14 @@
 package com.dormitory.SpringBoot.repository;
 
 import com.dormitory.SpringBoot.domain.Inspection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -171,6 +173,61 @@ public interface InspectionRepository extends JpaRepository<Inspection, Long> {
     List<Object[]> getDailyStatisticsBetween(@Param("startDate") LocalDateTime startDate,
                                              @Param("endDate") LocalDateTime endDate);
 
+    /**
+     * 일자 × 기숙사동별 점호 집계 (일별 집계 테이블 생성용)
+     * [날짜, 기숙사동, 전체, 통과, 실패, 재검, 점수 합계]
+     */
+    @Query("SELECT DATE(i.inspectionDate), COALESCE(u.dormitoryBuilding, ''), COUNT(i), " +
+            "SUM(CASE WHEN i.status = 'PASS' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN i.status = 'FAIL' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN i.isReInspection = true THEN 1 ELSE 0 END), " +
+            "SUM(i.score) " +
+            "FROM Inspection i LEFT JOIN User u ON u.id = i.userId " +
+            "WHERE i.inspectionDate >= :start AND i.inspectionDate < :end " +
+            "GROUP BY DATE(i.inspectionDate), COALESCE(u.dormitoryBuilding, '')")
+    List<Object[]> aggregateDailyByBuilding(@Param("start") LocalDateTime start,
+                                            @Param("end") LocalDateTime end);
+
+    /**
+     * 특정 사용자의 점호 누적 집계 (사용자 통계 재구축용)
+     * [전체, 점수 합계, 최저 점수, 최고 점수, 통과, 실패, 재검]
+     */
+    @Query("SELECT COUNT(i), SUM(i.score), MIN(i.score), MAX(i.score), " +
+            "SUM(CASE WHEN i.status = 'PASS' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN i.status = 'FAIL' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN i.isReInspection = true THEN 1 ELSE 0 END) " +
+            "FROM Inspection i WHERE i.userId = :userId")
+    List<Object[]> aggregateByUserId(@Param("userId") String userId);
+
+    /**
+     * 특정 사용자의 최근 점호 상태 이력 (연속 기록 계산용, 최신순)
+     * [상태, 점호 일시]
+     */
+    @Query("SELECT i.status, i.inspectionDate FROM Inspection i WHERE i.userId = :userId " +
+            "ORDER BY i.inspectionDate DESC, i.id DESC")
+    List<Object[]> findStatusHistoryByUserId(@Param("userId") String userId, Pageable pageable);
+
+    /**
+     * 점호 기록이 있는 전체 사용자 ID (사용자 통계 재구축용)
+     */
+    @Query("SELECT DISTINCT i.userId FROM Inspection i")
+    List<String> findDistinctUserIds();
+
+    /**
+     * 기간의 사용자별 점호 상태 (출석 비트맵 색인 구축용)
+     * [사용자 ID, 점호 일시, 상태]
+     */
+    @Query("SELECT i.userId, i.inspectionDate, i.status FROM Inspection i " +
+            "WHERE i.inspectionDate >= :start AND i.inspectionDate < :end")
+    List<Object[]> findSubmissionStatusBetween(@Param("start") LocalDateTime start,
+                                               @Param("end") LocalDateTime end);
+
+    /**
+     * 가장 오래된 점호 일시 (일별 집계 최초 구축 시작점)
+     */
+    @Query("SELECT MIN(i.inspectionDate) FROM Inspection i")
+    Optional<LocalDateTime> findMinInspectionDate();
+
     /**
      * 상위 점수 점호 기록 조회
      */
@@ -263,4 +320,11 @@ public interface InspectionRepository extends JpaRepository<Inspection, Long> {
      * ✅ 특정 사용자의 특정 기간 내 점호 기록 조회
      */
     List<Inspection> findByUserIdAndInspectionDateBetween(String userId, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * ✅ 여러 사용자의 특정 기간 내 점호 기록 조회 (호실 상세 조회용, 쿼리 1회)
+     */
+    List<Inspection> findByUserIdInAndInspectionDateBetweenOrderByIdAsc(Collection<String> userIds,
+                                                                        LocalDateTime startDate,
+                                                                        LocalDateTime endDate);
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.dormitory.SpringBoot.repository;
+
+import com.dormitory.SpringBoot.domain.InspectionRollupDirtyDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 재집계 대기 날짜에 대한 데이터베이스 접근을 담당하는 Repository
+ */
+@Repository
+public interface InspectionRollupDirtyDayRepository extends JpaRepository<InspectionRollupDirtyDay, LocalDate> {
+
+    /**
+     * 변경 횟수 1 증가 (행이 없으면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE InspectionRollupDirtyDay d SET d.changeCount = d.changeCount + 1 WHERE d.statDate = :day")
+    int increment(@Param("day") LocalDate day);
+
+    /**
+     * 행이 없으면 생성 (동시 생성 시 한쪽은 무시됨)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO inspection_rollup_dirty_days (stat_date, change_count) VALUES (:day, 1)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("day") LocalDate day);
+
+    /**
+     * 재집계 이후 다시 변경되지 않았으면 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM InspectionRollupDirtyDay d WHERE d.statDate = :day AND d.changeCount = :changeCount")
+    int deleteIfUnchanged(@Param("day") LocalDate day, @Param("changeCount") long changeCount);
+
+    /**
+     * 재집계 대기 중인 전체 날짜
+     */
+    @Query("SELECT d.statDate FROM InspectionRollupDirtyDay d")
+    List<LocalDate> findAllStatDates();
+}
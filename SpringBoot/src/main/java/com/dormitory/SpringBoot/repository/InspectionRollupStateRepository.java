@@ -0,0 +1,41 @@
+package com.dormitory.SpringBoot.repository;
+
+import com.dormitory.SpringBoot.domain.InspectionRollupState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 점호 일별 집계 마감 상태에 대한 데이터베이스 접근을 담당하는 Repository
+ */
+@Repository
+public interface InspectionRollupStateRepository extends JpaRepository<InspectionRollupState, Integer> {
+
+    /**
+     * 상태 행이 없으면 생성 (동시 생성 시 한쪽은 무시됨)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO inspection_rollup_state (id, finalized_through) VALUES (:id, :finalizedThrough)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("id") int id, @Param("finalizedThrough") LocalDate finalizedThrough);
+
+    /**
+     * 마감 상태 조회 (마감용 - 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM InspectionRollupState s WHERE s.id = :id")
+    Optional<InspectionRollupState> findByIdForUpdate(@Param("id") int id);
+
+    /**
+     * 마감 완료된 마지막 날짜
+     */
+    @Query("SELECT s.finalizedThrough FROM InspectionRollupState s WHERE s.id = :id")
+    Optional<LocalDate> findFinalizedThrough(@Param("id") int id);
+}
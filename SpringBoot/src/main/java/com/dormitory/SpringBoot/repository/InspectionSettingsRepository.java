@@ -1,8 +1,11 @@
 package com.dormitory.SpringBoot.repository;
 
 import com.dormitory.SpringBoot.domain.InspectionSettings;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,23 +21,27 @@ public interface InspectionSettingsRepository extends JpaRepository<InspectionSe
     /**
      * 활성화된 설정 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<InspectionSettings> findByIsEnabledTrue();
 
     /**
      * 기본 설정 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<InspectionSettings> findByIsDefaultTrue();
 
     /**
      * 활성화된 기본 설정 조회
      */
     @Query("SELECT s FROM InspectionSettings s WHERE s.isEnabled = true AND s.isDefault = true")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<InspectionSettings> findActiveDefaultSettings();
 
     /**
      * 특정 요일에 적용되는 설정 조회
      */
     @Query("SELECT s FROM InspectionSettings s WHERE s.isEnabled = true AND (s.applicableDays = 'ALL' OR s.applicableDays LIKE %:dayOfWeek%)")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<InspectionSettings> findByApplicableDay(@Param("dayOfWeek") String dayOfWeek);
 
     /**
@@ -50,5 +57,6 @@ public interface InspectionSettingsRepository extends JpaRepository<InspectionSe
     /**
      * 모든 설정 조회 (생성일 역순)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<InspectionSettings> findAllByOrderByCreatedAtDesc();
 }
\ No newline at end of file
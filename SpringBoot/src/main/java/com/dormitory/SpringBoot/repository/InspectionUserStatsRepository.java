@@ -0,0 +1,43 @@
+package com.dormitory.SpringBoot.repository;
+
+import com.dormitory.SpringBoot.domain.InspectionUserStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자별 점호 누적 통계에 대한 데이터베이스 접근을 담당하는 Repository
+ */
+@Repository
+public interface InspectionUserStatsRepository extends JpaRepository<InspectionUserStats, String> {
+
+    /**
+     * 통계 행이 없으면 빈 행 생성 (동시 생성 시 한쪽은 무시됨)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO inspection_user_stats " +
+            "(user_id, inspection_count, score_sum, pass_count, fail_count, re_inspection_count, " +
+            "current_streak, updated_at) VALUES (:userId, 0, 0, 0, 0, 0, 0, NOW())",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") String userId);
+
+    /**
+     * 사용자 통계 조회 (갱신용 - 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM InspectionUserStats s WHERE s.userId = :userId")
+    Optional<InspectionUserStats> findByUserIdForUpdate(@Param("userId") String userId);
+
+    /**
+     * 통계 행이 있는 전체 사용자 ID (재구축용)
+     */
+    @Query("SELECT s.userId FROM InspectionUserStats s")
+    List<String> findAllUserIds();
+}
@@ -0,0 +1,36 @@
+package com.dormitory.SpringBoot.repository;
+
+import com.dormitory.SpringBoot.domain.NoticeFeedChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 공지사항 피드 변경 이력에 대한 데이터베이스 접근을 담당하는 Repository
+ */
+@Repository
+public interface NoticeFeedChangeRepository extends JpaRepository<NoticeFeedChange, Long> {
+
+    /**
+     * 삭제 이력 개수
+     */
+    long countByDeletedTrue();
+
+    /**
+     * 오래된 삭제 이력의 버전 (오래된 순)
+     */
+    @Query("SELECT c.version FROM NoticeFeedChange c WHERE c.deleted = true ORDER BY c.version ASC")
+    List<Long> findOldestTombstoneVersions(Pageable pageable);
+
+    /**
+     * 지정 버전 이하의 삭제 이력 제거
+     */
+    @Modifying
+    @Query("DELETE FROM NoticeFeedChange c WHERE c.deleted = true AND c.version <= :version")
+    int deleteTombstonesUpTo(@Param("version") long version);
+}
@@ -0,0 +1,58 @@
+package com.dormitory.SpringBoot.repository;
+
+import com.dormitory.SpringBoot.domain.NoticeFeedVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항 피드 버전에 대한 데이터베이스 접근을 담당하는 Repository
+ */
+@Repository
+public interface NoticeFeedVersionRepository extends JpaRepository<NoticeFeedVersion, Integer> {
+
+    /**
+     * 버전 행이 없으면 생성 (동시 생성 시 한쪽은 무시됨)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO notice_feed_version (id, version, delta_floor) "
+            + "VALUES (:id, :initialVersion, :initialVersion)", nativeQuery = true)
+    int insertIfAbsent(@Param("id") int id, @Param("initialVersion") long initialVersion);
+
+    /**
+     * 버전 1 증가 (행 잠금 - 커밋까지 다른 증가는 대기)
+     */
+    @Modifying
+    @Query("UPDATE NoticeFeedVersion v SET v.version = v.version + 1 WHERE v.id = :id")
+    int increment(@Param("id") int id);
+
+    /**
+     * 변경 이력 기록 이전에 만들어진 행은 현재 버전부터 변경분 제공
+     */
+    @Modifying
+    @Query("UPDATE NoticeFeedVersion v SET v.deltaFloor = v.version WHERE v.id = :id AND v.deltaFloor IS NULL")
+    int initDeltaFloor(@Param("id") int id);
+
+    /**
+     * 변경분 제공 하한 올림 (오래된 삭제 이력 정리 시)
+     */
+    @Modifying
+    @Query("UPDATE NoticeFeedVersion v SET v.deltaFloor = :floor WHERE v.id = :id AND v.deltaFloor < :floor")
+    int raiseDeltaFloor(@Param("id") int id, @Param("floor") long floor);
+
+    /**
+     * 현재 버전
+     */
+    @Query("SELECT v.version FROM NoticeFeedVersion v WHERE v.id = :id")
+    Long findVersion(@Param("id") int id);
+
+    /**
+     * 공지사항 마지막 수정 시각 (버전 행 최초 생성 시 시작값)
+     */
+    @Query("SELECT MAX(n.updatedAt) FROM Notice n")
+    LocalDateTime findLatestNoticeUpdate();
+}
@@ -2,7 +2,6 @@ package com.dormitory.SpringBoot.repository;
 
 import com.dormitory.SpringBoot.domain.Notice;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,7 +12,7 @@ import java.util.Optional;
 
 /**
  * 공지사항 데이터 액세스 인터페이스
- * ✅ 수정: 조회수 증가용 Native Query 추가
+ * ✅ 조회수 증가는 NoticeViewCounter에서 일괄 반영
  */
 @Repository
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
@@ -91,13 +90,4 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
      */
     @Query("SELECT COUNT(n) FROM Notice n WHERE n.createdAt >= :startOfMonth")
     long countThisMonthNotices(@Param("startOfMonth") LocalDateTime startOfMonth);
-
-    /**
-     * ✅ 신규: 조회수만 증가 (updated_at은 변경하지 않음)
-     * Native Query를 사용하여 @LastModifiedDate 자동 갱신을 우회
-     * clearAutomatically = true로 영속성 컨텍스트 자동 초기화
-     */
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query(value = "UPDATE notices SET view_count = view_count + 1 WHERE id = :id", nativeQuery = true)
-    void incrementViewCountOnly(@Param("id") Long id);
 }
\ No newline at end of file
@@ -2,8 +2,11 @@ package com.dormitory.SpringBoot.repository;
 
 import com.dormitory.SpringBoot.domain.RoomTemplate;
 import com.dormitory.SpringBoot.domain.RoomTemplate.RoomType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -19,21 +22,25 @@ public interface RoomTemplateRepository extends JpaRepository<RoomTemplate, Long
     /**
      * 활성화된 템플릿 전체 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<RoomTemplate> findByIsActiveTrueOrderByRoomTypeAscCreatedAtDesc();
 
     /**
      * 방 타입별 활성화된 템플릿 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<RoomTemplate> findByRoomTypeAndIsActiveTrueOrderByIsDefaultDescCreatedAtDesc(RoomType roomType);
 
     /**
      * 방 타입별 기본 템플릿 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<RoomTemplate> findByRoomTypeAndIsDefaultTrueAndIsActiveTrue(RoomType roomType);
 
     /**
      * 특정 동의 템플릿 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<RoomTemplate> findByBuildingNameAndIsActiveTrueOrderByRoomTypeAsc(String buildingName);
 
     /**
@@ -43,6 +50,7 @@ public interface RoomTemplateRepository extends JpaRepository<RoomTemplate, Long
             "AND rt.roomType = :roomType " +
             "AND (rt.buildingName = :buildingName OR rt.buildingName IS NULL) " +
             "ORDER BY CASE WHEN rt.buildingName = :buildingName THEN 0 ELSE 1 END, rt.isDefault DESC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<RoomTemplate> findByRoomTypeAndBuilding(@Param("roomType") RoomType roomType,
                                                  @Param("buildingName") String buildingName);
 
@@ -54,11 +62,13 @@ public interface RoomTemplateRepository extends JpaRepository<RoomTemplate, Long
     /**
      * 전체 템플릿 조회 (관리용)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<RoomTemplate> findAllByOrderByRoomTypeAscCreatedAtDesc();
 
     /**
      * 기본 템플릿 조회 (방 타입별)
      */
     @Query("SELECT rt FROM RoomTemplate rt WHERE rt.isDefault = true AND rt.isActive = true")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<RoomTemplate> findAllDefaultTemplates();
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.dormitory.SpringBoot.repository;
 
 import com.dormitory.SpringBoot.domain.Schedule;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List; // ✅ 1. List 임포트 추가
@@ -13,5 +16,6 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     /**
      * 모든 일정을 시작 날짜(startDate) 오름차순으로 정렬하여 조회합니다.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Schedule> findAllByOrderByStartDateAsc();
 }
\ No newline at end of file
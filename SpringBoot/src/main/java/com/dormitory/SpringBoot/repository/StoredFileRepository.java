@@ -0,0 +1,44 @@
+package com.dormitory.SpringBoot.repository;
+
+import com.dormitory.SpringBoot.domain.StoredFile;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 내용 주소 기반 저장 파일에 대한 데이터베이스 접근을 담당하는 Repository
+ */
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    /**
+     * 해시로 저장 파일 조회 (참조 수 변경용 - 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM StoredFile f WHERE f.contentHash = :contentHash")
+    Optional<StoredFile> findByContentHashForUpdate(@Param("contentHash") String contentHash);
+
+    /**
+     * 해시로 저장 파일 조회
+     */
+    Optional<StoredFile> findByContentHash(String contentHash);
+
+    /**
+     * 저장 경로로 저장 파일 조회
+     */
+    Optional<StoredFile> findByStoragePath(String storagePath);
+
+    /**
+     * 마지막 참조가 before 이전에 해제된 파일의 해시 (정리 대상, 오래된 순)
+     */
+    @Query("SELECT f.contentHash FROM StoredFile f WHERE f.referenceCount = 0 AND f.releasedAt < :before ORDER BY f.releasedAt")
+    List<String> findReleasedHashesBefore(@Param("before") LocalDateTime before, Pageable pageable);
+}
@@ -0,0 +1,219 @@
+package com.dormitory.SpringBoot.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 (토큰 → 문서 ID → 가중치)
+ * ✅ 검색어의 모든 토큰을 포함하는 문서만 후보 (가장 짧은 포스팅부터 교집합)
+ * ✅ 점수 = Σ(토큰 가중치 × IDF), 동점이면 최신(ID 큰) 문서 우선
+ * ✅ 읽기/쓰기 잠금으로 검색은 동시에, 색인 변경은 배타적으로 처리
+ * ✅ 재구축 중 들어온 변경은 기록해 두었다가 재구축 완료 후 다시 적용
+ */
+public class InvertedIndex {
+
+    private final String name;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 토큰 → (문서 ID → 가중치)
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+
+    // 문서 ID → 토큰 목록 (삭제/갱신 시 포스팅 정리용)
+    private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+
+    // 재구축 중 들어온 변경 (null이면 재구축 중 아님)
+    private List<Runnable> pendingDuringRebuild;
+
+    public InvertedIndex(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 문서 색인 (기존 문서면 교체)
+     */
+    public void put(Long id, Map<String, Float> terms) {
+        lock.writeLock().lock();
+        try {
+            putInternal(id, terms);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(() -> putInternal(id, terms));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 제거
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(() -> removeInternal(id));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재구축 시작 - 이후 변경은 재구축 완료 시 다시 적용됨
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재구축 완료 - 전체 문서로 교체 후 재구축 중 변경 적용
+     */
+    public void finishRebuild(Map<Long, Map<String, Float>> documents) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentTerms.clear();
+            documents.forEach(this::putInternal);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.forEach(Runnable::run);
+            }
+            pendingDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 관련도 순 검색
+     *
+     * @param query 검색어
+     * @param page  페이지 (0부터)
+     * @param size  페이지 크기 (0 이하면 전체)
+     */
+    public SearchPage search(String query, int page, int size) {
+        Set<String> queryTerms = NgramTokenizer.queryTerms(query);
+        if (queryTerms.isEmpty()) {
+            return new SearchPage(List.of(), 0, page, size);
+        }
+
+        List<ScoredDocument> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Float>> lists = new ArrayList<>(queryTerms.size());
+            List<Double> idfs = new ArrayList<>(queryTerms.size());
+            int documentCount = documentTerms.size();
+            for (String term : queryTerms) {
+                Map<Long, Float> posting = postings.get(term);
+                if (posting == null) {
+                    return new SearchPage(List.of(), 0, page, size);
+                }
+                lists.add(posting);
+                idfs.add(Math.log(1.0 + (double) documentCount / posting.size()));
+            }
+
+            // 가장 짧은 포스팅을 기준으로 교집합
+            int shortest = 0;
+            for (int i = 1; i < lists.size(); i++) {
+                if (lists.get(i).size() < lists.get(shortest).size()) {
+                    shortest = i;
+                }
+            }
+
+            for (Long id : lists.get(shortest).keySet()) {
+                double score = 0;
+                boolean matchesAll = true;
+                for (int i = 0; i < lists.size(); i++) {
+                    Float weight = lists.get(i).get(id);
+                    if (weight == null) {
+                        matchesAll = false;
+                        break;
+                    }
+                    score += weight * idfs.get(i);
+                }
+                if (matchesAll) {
+                    matches.add(new ScoredDocument(id, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparingDouble(ScoredDocument::score).reversed()
+                .thenComparing(ScoredDocument::id, Comparator.reverseOrder()));
+
+        int total = matches.size();
+        int from = size > 0 ? (int) Math.min((long) page * size, total) : 0;
+        int to = size > 0 ? Math.min(from + size, total) : total;
+        List<Long> ids = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            ids.add(matches.get(i).id());
+        }
+        return new SearchPage(ids, total, page, size);
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documentTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 토큰 수
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putInternal(Long id, Map<String, Float> terms) {
+        removeInternal(id);
+        for (Map.Entry<String, Float> entry : terms.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>()).put(id, entry.getValue());
+        }
+        documentTerms.put(id, Set.copyOf(terms.keySet()));
+    }
+
+    private void removeInternal(Long id) {
+        Set<String> terms = documentTerms.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private record ScoredDocument(Long id, double score) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.dormitory.SpringBoot.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한글 친화적 문자 n-gram 토크나이저
+ * ✅ 형태소 분석 없이 글자 단위 bigram 사용 ("세탁기고장" → 세탁, 탁기, 기고, 고장)
+ * ✅ 조사가 붙은 단어("세탁기가")도 부분 문자열로 검색 가능 (LIKE '%키워드%'와 유사한 재현율)
+ * ✅ 한 글자 검색어를 위해 unigram도 함께 색인
+ * ✅ NFKC 정규화 + 소문자 변환 (전각/반각, 대소문자 차이 무시)
+ */
+public final class NgramTokenizer {
+
+    // 한 글자 토큰은 bigram보다 변별력이 낮으므로 가중치를 낮춤
+    private static final float UNIGRAM_WEIGHT = 0.3f;
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 색인용 - 텍스트의 n-gram을 가중치와 함께 누적
+     */
+    public static void accumulate(Map<String, Float> terms, String text, float weight) {
+        for (String run : runs(text)) {
+            int[] codePoints = run.codePoints().toArray();
+            for (int i = 0; i < codePoints.length; i++) {
+                terms.merge(new String(codePoints, i, 1), weight * UNIGRAM_WEIGHT, Float::sum);
+                if (i + 1 < codePoints.length) {
+                    terms.merge(new String(codePoints, i, 2), weight, Float::sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색용 - 검색어의 토큰 (두 글자 이상 구간은 bigram, 한 글자 구간은 unigram)
+     */
+    public static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String run : runs(query)) {
+            int[] codePoints = run.codePoints().toArray();
+            if (codePoints.length == 1) {
+                terms.add(run);
+                continue;
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                terms.add(new String(codePoints, i, 2));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 정규화 후 글자/숫자 연속 구간으로 분리 (공백, 구두점은 구분자)
+     */
+    private static List<String> runs(String text) {
+        List<String> runs = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return runs;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder current = new StringBuilder();
+        normalized.codePoints().forEach(codePoint -> {
+            if (Character.isLetterOrDigit(codePoint)) {
+                current.appendCodePoint(codePoint);
+            } else if (current.length() > 0) {
+                runs.add(current.toString());
+                current.setLength(0);
+            }
+        });
+        if (current.length() > 0) {
+            runs.add(current.toString());
+        }
+        return runs;
+    }
+}
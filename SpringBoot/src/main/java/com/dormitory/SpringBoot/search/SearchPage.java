@@ -0,0 +1,41 @@
+package com.dormitory.SpringBoot.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 페이지 (관련도 순 ID 목록 + 전체 일치 건수)
+ */
+public class SearchPage {
+
+    private final List<Long> ids;
+    private final int total;
+    private final int page;
+    private final int size;
+
+    public SearchPage(List<Long> ids, int total, int page, int size) {
+        this.ids = ids;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean hasNext() {
+        return size > 0 && (long) (page + 1) * size < total;
+    }
+}
@@ -0,0 +1,53 @@
+package com.dormitory.SpringBoot.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 (현재 페이지 항목 + 전체 일치 건수)
+ */
+public class SearchResult<T> {
+
+    private final List<T> items;
+    private final int total;
+    private final int page;
+    private final int size;
+
+    public SearchResult(List<T> items, int total, int page, int size) {
+        this.items = items;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+    }
+
+    /**
+     * 이미 정렬된 전체 목록을 페이지 단위로 자름 (size 0 이하면 전체)
+     */
+    public static <T> SearchResult<T> of(List<T> all, int page, int size) {
+        if (size <= 0) {
+            return new SearchResult<>(all, all.size(), page, size);
+        }
+        int from = (int) Math.min((long) page * size, all.size());
+        int to = Math.min(from + size, all.size());
+        return new SearchResult<>(all.subList(from, to), all.size(), page, size);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean hasNext() {
+        return size > 0 && (long) (page + 1) * size < total;
+    }
+}
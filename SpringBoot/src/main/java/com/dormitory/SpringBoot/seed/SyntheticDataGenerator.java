@@ -0,0 +1,502 @@
+package com.dormitory.SpringBoot.seed;
+
+import com.dormitory.SpringBoot.domain.BuildingTableConfig;
+import com.dormitory.SpringBoot.services.AttendanceBitmapIndex;
+import com.dormitory.SpringBoot.services.InspectionRollupService;
+import com.dormitory.SpringBoot.services.InspectionUserStatsService;
+import com.dormitory.SpringBoot.services.RoomRosterIndex;
+import com.dormitory.SpringBoot.services.SearchIndexService;
+import com.dormitory.SpringBoot.utils.EncryptionUtil;
+import com.dormitory.SpringBoot.utils.SecurityUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 성능 테스트용 합성 데이터 생성기 (seed 프로파일에서만 동작)
+ * ✅ 사용자(개인정보는 EncryptionUtil로 암호화), 허용 사용자, 점호, 출석 테이블, 민원, 서류, 공지사항을 설정한 규모로 생성
+ * ✅ 같은 seed.random-seed / seed.end-date면 항상 같은 데이터 생성
+ * ✅ JDBC 일괄 INSERT (seed.batch-size 단위로 전송, 기존 데이터 삭제 + 생성 전체를 한 트랜잭션으로 커밋)
+ *    - 중간에 실패하면 전부 롤백되어 일부만 생성된 상태가 남지 않음
+ * ✅ 생성 후 캐시/색인과 파생 테이블(사용자별 점호 통계, 일별 집계)을 다시 구성
+ *
+ * 실행: ./gradlew seedData 또는 SPRING_PROFILES_ACTIVE=seed
+ */
+@Component
+@Profile("seed")
+public class SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임",
+            "한", "오", "서", "신", "권", "황", "안", "송", "류", "홍"};
+    private static final String[] GIVEN_NAME_SYLLABLES = {"민", "서", "지", "현", "우", "준", "도", "하", "윤", "은",
+            "수", "영", "재", "진", "호", "연", "유", "성", "혜", "원"};
+    private static final String[] COMPLAINT_CATEGORIES = {"시설 문제", "소음 문제", "청소 문제", "보안 문제", "기타"};
+    private static final String[] COMPLAINT_STATUSES = {"대기", "처리중", "완료", "반려"};
+    private static final String[] DOCUMENT_CATEGORIES = {"외박 신청", "퇴사 신청", "호실 변경 신청", "물품 반입 신청", "기타"};
+    private static final String[] DOCUMENT_STATUSES = {"대기", "검토중", "승인", "반려"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EncryptionUtil encryptionUtil;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RoomRosterIndex rosterIndex;
+
+    @Autowired
+    private AttendanceBitmapIndex attendanceBitmapIndex;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private InspectionUserStatsService inspectionUserStatsService;
+
+    @Autowired
+    private InspectionRollupService inspectionRollupService;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Value("${seed.random-seed:20250301}")
+    private long randomSeed;
+
+    @Value("${seed.end-date:}")
+    private String endDate;
+
+    @Value("${seed.students:5000}")
+    private int studentCount;
+
+    @Value("${seed.buildings:24}")
+    private int buildingCount;
+
+    @Value("${seed.floors:10}")
+    private int floorCount;
+
+    @Value("${seed.residents-per-room:2}")
+    private int residentsPerRoom;
+
+    @Value("${seed.inspection-days:365}")
+    private int inspectionDays;
+
+    @Value("${seed.submission-rate:0.9}")
+    private double submissionRate;
+
+    @Value("${seed.attendance-days:30}")
+    private int attendanceDays;
+
+    @Value("${seed.complaints:4000}")
+    private int complaintCount;
+
+    @Value("${seed.documents:3000}")
+    private int documentCount;
+
+    @Value("${seed.notices:300}")
+    private int noticeCount;
+
+    @Value("${seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${seed.user-id-prefix:seed}")
+    private String userIdPrefix;
+
+    @Value("${seed.password:Seed1234!}")
+    private String password;
+
+    @Value("${seed.reset:false}")
+    private boolean reset;
+
+    @Value("${seed.exit-after:true}")
+    private boolean exitAfter;
+
+    @Value("${inspection.pass.score:6}")
+    private int passScore;
+
+    /**
+     * 기동 완료 후 생성 (다른 기동 시 적재 작업 이후)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order
+    public void onApplicationReady() {
+        try {
+            generate();
+        } catch (RuntimeException e) {
+            logger.error("[Seed] 합성 데이터 생성 실패", e);
+            if (exitAfter) {
+                System.exit(SpringApplication.exit(applicationContext, () -> 1));
+            }
+            throw e;
+        }
+
+        if (exitAfter) {
+            logger.info("[Seed] 생성 완료, 애플리케이션 종료");
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    public void generate() {
+        long startTime = System.currentTimeMillis();
+
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE user_id LIKE ?", Integer.class, userIdPrefix + "%");
+        if (existing != null && existing > 0 && !reset) {
+            logger.warn("[Seed] 이미 생성된 합성 데이터가 있습니다 (사용자 {}명). seed.reset=true로 다시 생성할 수 있습니다.", existing);
+            return;
+        }
+
+        LocalDate lastDay = endDate == null || endDate.isBlank() ? LocalDate.now() : LocalDate.parse(endDate);
+        List<Student> students = planStudents(new Random(randomSeed));
+        String adminId = userIdPrefix + "admin";
+
+        logger.info("[Seed] 합성 데이터 생성 시작 - 학생: {}명, 기숙사동: {}개, 점호: {}일, 마지막 날짜: {}",
+                students.size(), buildingCount, inspectionDays, lastDay);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (existing != null && existing > 0) {
+                deleteExisting();
+            }
+            insertBuildingConfigs(adminId, lastDay);
+            insertUsers(students, adminId, lastDay);
+            insertAllowedUsers(students, lastDay);
+            insertInspectionsAndAttendance(students, lastDay, new Random(randomSeed + 1));
+            insertComplaints(students, lastDay, new Random(randomSeed + 2));
+            insertDocuments(students, lastDay, new Random(randomSeed + 3));
+            insertNotices(adminId, lastDay, new Random(randomSeed + 4));
+        });
+
+        // JDBC로 직접 넣은 데이터는 기동 시 구성된 캐시/색인/파생 테이블에 반영되지 않으므로 다시 구성
+        entityManagerFactory.getCache().evictAll();
+        rosterIndex.reload();
+        attendanceBitmapIndex.reload();
+        searchIndexService.rebuild();
+        inspectionUserStatsService.rebuildAll();
+        inspectionRollupService.rebuild(lastDay.minusDays(inspectionDays - 1L), lastDay);
+
+        logger.info("[Seed] 합성 데이터 생성 완료 - 소요: {}초", (System.currentTimeMillis() - startTime) / 1000.0);
+    }
+
+    // =============================================================================
+    // 학생 배치
+    // =============================================================================
+
+    private List<Student> planStudents(Random random) {
+        int roomsPerFloor = roomsPerFloor();
+        BuildingTableConfig roomConfig = roomConfig();
+        List<Student> students = new ArrayList<>(studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            // 기숙사동 → 층 → 호실 순으로 채움 (동마다 같은 인원)
+            int perBuilding = (studentCount + buildingCount - 1) / buildingCount;
+            int building = i / perBuilding;
+            int slot = i % perBuilding;
+            int roomIndex = slot / residentsPerRoom;
+            int floor = roomIndex / roomsPerFloor + 1;
+            int room = roomIndex % roomsPerFloor + 1;
+
+            String name = SURNAMES[random.nextInt(SURNAMES.length)]
+                    + GIVEN_NAME_SYLLABLES[random.nextInt(GIVEN_NAME_SYLLABLES.length)]
+                    + GIVEN_NAME_SYLLABLES[random.nextInt(GIVEN_NAME_SYLLABLES.length)];
+            // 학생마다 점호 성실도(기본 점수)가 다름
+            int baseScore = 4 + random.nextInt(6);
+
+            students.add(new Student(String.format("%s%05d", userIdPrefix, i + 1), name,
+                    buildingName(building), roomConfig.generateRoomNumber(floor, room),
+                    slot % residentsPerRoom == 0, baseScore));
+        }
+        return students;
+    }
+
+    private int roomsPerFloor() {
+        int perBuilding = (studentCount + buildingCount - 1) / buildingCount;
+        int rooms = (perBuilding + residentsPerRoom - 1) / residentsPerRoom;
+        return Math.max(1, (rooms + floorCount - 1) / floorCount);
+    }
+
+    private BuildingTableConfig roomConfig() {
+        BuildingTableConfig config = new BuildingTableConfig();
+        config.setRoomNumberFormat(roomsPerFloor() >= 100 ? "FLOOR_ZERO_ROOM" : "FLOOR_ROOM");
+        return config;
+    }
+
+    private String buildingName(int index) {
+        return (index + 1) + "동";
+    }
+
+    // =============================================================================
+    // 테이블별 생성
+    // =============================================================================
+
+    private void insertBuildingConfigs(String adminId, LocalDate lastDay) {
+        BatchWriter writer = new BatchWriter("building_table_config",
+                "INSERT INTO building_table_config (building_name, start_floor, end_floor, start_room, end_room, " +
+                        "room_number_format, is_active, description, created_by, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        Timestamp createdAt = Timestamp.valueOf(lastDay.minusDays(inspectionDays).atTime(9, 0));
+        String format = roomConfig().getRoomNumberFormat();
+        for (int b = 0; b < buildingCount; b++) {
+            writer.add(buildingName(b), 1, floorCount, 1, roomsPerFloor(), format, true,
+                    "합성 데이터", adminId, createdAt, createdAt);
+        }
+        writer.finish();
+    }
+
+    private void insertUsers(List<Student> students, String adminId, LocalDate lastDay) {
+        BatchWriter writer = new BatchWriter("users",
+                "INSERT INTO users (user_id, password_hash, name_encrypted, email_encrypted, email_hash, phone_encrypted, " +
+                        "dormitory_building, room_number, is_admin, inspection_reminder, complaint_updates, " +
+                        "system_notifications, email_notifications, is_active, is_locked, login_attempts, " +
+                        "password_changed_at, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        // BCrypt는 느리므로 모든 합성 사용자가 같은 해시 사용
+        String passwordHash = passwordEncoder.encode(password);
+        Timestamp createdAt = Timestamp.valueOf(lastDay.minusDays(inspectionDays + 1L).atTime(10, 0));
+
+        writer.add(adminId, passwordHash, encryptionUtil.encrypt("관리자"), null, null, null,
+                null, null, true, false, true, true, false, true, false, 0, createdAt, createdAt, createdAt);
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            String email = student.userId + "@seed.dormitory.test";
+            String phone = String.format("010-%04d-%04d", 1000 + i / 10000, i % 10000);
+            writer.add(student.userId, passwordHash, encryptionUtil.encrypt(student.name),
+                    encryptionUtil.encrypt(email), SecurityUtils.hashUserId(email), encryptionUtil.encrypt(phone),
+                    student.building, student.roomNumber, false, true, true, true, false, true, false, 0,
+                    createdAt, createdAt, createdAt);
+        }
+        writer.finish();
+    }
+
+    private void insertAllowedUsers(List<Student> students, LocalDate lastDay) {
+        BatchWriter writer = new BatchWriter("allowed_users",
+                "INSERT INTO allowed_users (user_id, name, dormitory_building, room_number, phone_number, email, " +
+                        "is_registered, registered_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        Timestamp createdAt = Timestamp.valueOf(lastDay.minusDays(inspectionDays + 2L).atTime(10, 0));
+        Timestamp registeredAt = Timestamp.valueOf(lastDay.minusDays(inspectionDays + 1L).atTime(10, 0));
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            writer.add(student.userId, student.name, student.building, student.roomNumber,
+                    String.format("010-%04d-%04d", 1000 + i / 10000, i % 10000),
+                    student.userId + "@seed.dormitory.test", true, registeredAt, createdAt, registeredAt);
+        }
+        writer.finish();
+    }
+
+    /**
+     * 날짜 순(매일 밤 21:00~23:30 제출)으로 점호 생성
+     * 최근 seed.attendance-days일은 출석 테이블도 함께 생성
+     * (출석 테이블은 날짜+호실이 유일하고 기숙사동 열이 없음 → 동마다 같은 호실 번호가 있으므로 날짜별 호실 번호당 1행)
+     */
+    private void insertInspectionsAndAttendance(List<Student> students, LocalDate lastDay, Random random) {
+        BatchWriter inspections = new BatchWriter("inspections",
+                "INSERT INTO inspections (user_id, room_number, image_path, score, status, gemini_feedback, " +
+                        "is_re_inspection, inspection_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        BatchWriter attendance = new BatchWriter("attendance_table",
+                "INSERT INTO attendance_table (inspection_date, room_number, user_id, user_name, is_submitted, " +
+                        "submission_time, score, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+
+        LocalDate firstDay = lastDay.minusDays(inspectionDays - 1L);
+        LocalDate firstAttendanceDay = lastDay.minusDays(attendanceDays - 1L);
+
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            boolean withAttendance = !day.isBefore(firstAttendanceDay);
+            Set<String> attendanceRooms = new HashSet<>();
+            for (Student student : students) {
+                boolean submitted = random.nextDouble() < submissionRate;
+                Integer score = null;
+                String status = null;
+                LocalDateTime submittedAt = null;
+
+                if (submitted) {
+                    score = Math.max(0, Math.min(10, student.baseScore + random.nextInt(5) - 2));
+                    status = score >= passScore ? "PASS" : "FAIL";
+                    submittedAt = day.atTime(21, 0).plusMinutes(random.nextInt(150));
+                    Timestamp submittedTimestamp = Timestamp.valueOf(submittedAt);
+                    inspections.add(student.userId, student.roomNumber,
+                            "seed/inspections/" + day + "/" + student.userId + ".jpg", score, status,
+                            "PASS".equals(status) ? "정리 상태 양호" : "침구/바닥 정리 필요",
+                            random.nextInt(100) < 3, submittedTimestamp, submittedTimestamp, submittedTimestamp);
+                }
+
+                if (withAttendance && student.roomRepresentative && attendanceRooms.add(student.roomNumber)) {
+                    Timestamp createdAt = Timestamp.valueOf(day.atTime(20, 0));
+                    attendance.add(Date.valueOf(day), student.roomNumber, student.userId,
+                            encryptionUtil.encrypt(student.name), submitted,
+                            submittedAt != null ? Timestamp.valueOf(submittedAt) : null, score,
+                            submitted ? status : "PENDING", createdAt,
+                            submittedAt != null ? Timestamp.valueOf(submittedAt) : createdAt);
+                }
+            }
+        }
+        inspections.finish();
+        attendance.finish();
+    }
+
+    private void insertComplaints(List<Student> students, LocalDate lastDay, Random random) {
+        BatchWriter writer = new BatchWriter("complaints",
+                "INSERT INTO complaints (title, content, category, writer_id, writer_name, dormitory_building, " +
+                        "room_number, status, admin_comment, submitted_at, processed_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        for (int i = 0; i < complaintCount; i++) {
+            Student author = students.get(random.nextInt(students.size()));
+            String category = COMPLAINT_CATEGORIES[random.nextInt(COMPLAINT_CATEGORIES.length)];
+            String status = COMPLAINT_STATUSES[random.nextInt(COMPLAINT_STATUSES.length)];
+            LocalDateTime submittedAt = randomTime(lastDay, random);
+            LocalDateTime processedAt = "대기".equals(status) ? null : submittedAt.plusHours(1 + random.nextInt(72));
+            writer.add(category + " 신고 " + (i + 1),
+                    author.building + " " + author.roomNumber + "호 " + category + " 관련 민원입니다. 확인 부탁드립니다.",
+                    category, author.userId, author.name, author.building, author.roomNumber, status,
+                    processedAt != null ? "처리 결과 안내드립니다." : null, Timestamp.valueOf(submittedAt),
+                    processedAt != null ? Timestamp.valueOf(processedAt) : null,
+                    Timestamp.valueOf(processedAt != null ? processedAt : submittedAt));
+        }
+        writer.finish();
+    }
+
+    private void insertDocuments(List<Student> students, LocalDate lastDay, Random random) {
+        BatchWriter writer = new BatchWriter("documents",
+                "INSERT INTO documents (title, content, category, writer_id, writer_name, dormitory_building, " +
+                        "room_number, status, admin_comment, submitted_at, processed_at, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        for (int i = 0; i < documentCount; i++) {
+            Student author = students.get(random.nextInt(students.size()));
+            String category = DOCUMENT_CATEGORIES[random.nextInt(DOCUMENT_CATEGORIES.length)];
+            String status = DOCUMENT_STATUSES[random.nextInt(DOCUMENT_STATUSES.length)];
+            LocalDateTime submittedAt = randomTime(lastDay, random);
+            LocalDateTime processedAt = "대기".equals(status) ? null : submittedAt.plusHours(1 + random.nextInt(48));
+            writer.add(category + " " + (i + 1),
+                    author.name + " 학생의 " + category + " 서류입니다.",
+                    category, author.userId, author.name, author.building, author.roomNumber, status,
+                    processedAt != null ? "검토 완료" : null, Timestamp.valueOf(submittedAt),
+                    processedAt != null ? Timestamp.valueOf(processedAt) : null, Timestamp.valueOf(submittedAt),
+                    Timestamp.valueOf(processedAt != null ? processedAt : submittedAt));
+        }
+        writer.finish();
+    }
+
+    private void insertNotices(String adminId, LocalDate lastDay, Random random) {
+        BatchWriter writer = new BatchWriter("notices",
+                "INSERT INTO notices (title, content, author, is_pinned, view_count, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)");
+        for (int i = 0; i < noticeCount; i++) {
+            Timestamp createdAt = Timestamp.valueOf(randomTime(lastDay, random));
+            writer.add("기숙사 공지 " + (i + 1),
+                    "기숙사 생활 안내 " + (i + 1) + "번째 공지입니다. 점호 시간과 공용 시설 이용 수칙을 확인해 주세요.",
+                    adminId, i < 3, random.nextInt(studentCount + 1), createdAt, createdAt);
+        }
+        writer.finish();
+    }
+
+    private LocalDateTime randomTime(LocalDate lastDay, Random random) {
+        return lastDay.minusDays(random.nextInt(Math.max(1, inspectionDays)))
+                .atTime(8 + random.nextInt(14), random.nextInt(60));
+    }
+
+    /**
+     * 이전에 생성한 합성 데이터 삭제 (seed.reset=true, 생성과 같은 트랜잭션)
+     */
+    private void deleteExisting() {
+        String pattern = userIdPrefix + "%";
+        int inspections = jdbcTemplate.update("DELETE FROM inspections WHERE user_id LIKE ?", pattern);
+        int attendance = jdbcTemplate.update("DELETE FROM attendance_table WHERE user_id LIKE ?", pattern);
+        int complaints = jdbcTemplate.update("DELETE FROM complaints WHERE writer_id LIKE ?", pattern);
+        int documents = jdbcTemplate.update("DELETE FROM documents WHERE writer_id LIKE ?", pattern);
+        int notices = jdbcTemplate.update("DELETE FROM notices WHERE author = ?", userIdPrefix + "admin");
+        int allowedUsers = jdbcTemplate.update("DELETE FROM allowed_users WHERE user_id LIKE ?", pattern);
+        int users = jdbcTemplate.update("DELETE FROM users WHERE user_id LIKE ?", pattern);
+        int configs = jdbcTemplate.update("DELETE FROM building_table_config WHERE created_by = ?", userIdPrefix + "admin");
+        logger.info("[Seed] 기존 합성 데이터 삭제 - 사용자: {}, 점호: {}, 출석: {}, 민원: {}, 서류: {}, 공지: {}, 허용 사용자: {}, 기숙사동 설정: {}",
+                users, inspections, attendance, complaints, documents, notices, allowedUsers, configs);
+    }
+
+    /**
+     * 행을 모아 batch-size 단위로 일괄 INSERT (바깥 생성 트랜잭션에 참여)
+     */
+    private class BatchWriter {
+        private final String table;
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>();
+        private final long startTime = System.currentTimeMillis();
+        private long total = 0;
+
+        BatchWriter(String table, String sql) {
+            this.table = table;
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void finish() {
+            flush();
+            logger.info("[Seed] {} 생성 완료 - {}행, 소요: {}ms", table, total, System.currentTimeMillis() - startTime);
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+            total += rows.size();
+            rows.clear();
+            if (total % (batchSize * 100L) == 0) {
+                logger.info("[Seed] {} 진행 - {}행", table, total);
+            }
+        }
+    }
+
+    private static final class Student {
+        private final String userId;
+        private final String name;
+        private final String building;
+        private final String roomNumber;
+        private final boolean roomRepresentative;
+        private final int baseScore;
+
+        Student(String userId, String name, String building, String roomNumber,
+                boolean roomRepresentative, int baseScore) {
+            this.userId = userId;
+            this.name = name;
+            this.building = building;
+            this.roomNumber = roomNumber;
+            this.roomRepresentative = roomRepresentative;
+            this.baseScore = baseScore;
+        }
+    }
+}
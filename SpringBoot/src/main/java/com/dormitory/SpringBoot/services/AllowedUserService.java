@@ -40,6 +40,9 @@ public class AllowedUserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private RoomRosterIndex rosterIndex;
+
     /**
      * 엑셀 파일로부터 허용 사용자 목록 업로드
      *
@@ -270,6 +273,7 @@ public class AllowedUserService {
                 if (updated) {
                     user.setUpdatedAt(LocalDateTime.now());
                     userRepository.save(user);
+                    rosterIndex.updateAfterCommit(user);
                     logger.info("등록된 사용자 정보 자동 업데이트 완료 - 학번: {}", userId);
                 }
             } else {
@@ -0,0 +1,521 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.config.AsyncConfig;
+import com.dormitory.SpringBoot.config.RoutingDataSource;
+import com.dormitory.SpringBoot.domain.Inspection;
+import com.dormitory.SpringBoot.event.InspectionEvent;
+import com.dormitory.SpringBoot.repository.InspectionRepository;
+import com.dormitory.SpringBoot.utils.EncryptionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 점호 제출 현황 비트맵 색인 (메모리)
+ * ✅ 활성 학생마다 고정 순번(ordinal)을 부여하고, 날짜별 제출/통과 여부를 비트로 저장
+ * ✅ 기숙사동별 학생 집합과 비트 연산으로 "X동 오늘 미제출", "N일 연속 실패"를 DB 조회 없이 계산
+ * ✅ 최근 N일(window)만 보관해 메모리 사용량을 제한 (범위 밖 날짜는 조회 시 DB에서 일회성으로 구성)
+ * ✅ 제출은 커밋 이후 즉시 반영, 반려/삭제/수정은 해당 사용자·날짜만 DB에서 다시 읽어 반영
+ */
+@Service
+public class AttendanceBitmapIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceBitmapIndex.class);
+
+    @Autowired
+    private RoomRosterIndex rosterIndex;
+
+    @Autowired
+    private InspectionRepository inspectionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EncryptionUtil encryptionUtil;
+
+    @Autowired
+    @Qualifier(AsyncConfig.INSPECTION_EVENT_EXECUTOR)
+    private TaskExecutor executor;
+
+    @Value("${attendance.bitmap.window-days:31}")
+    private int windowDays;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 사용자 ID → 순번 (한 번 부여한 순번은 재사용하지 않음)
+    private final Map<String, Integer> ordinals = new HashMap<>();
+
+    // 순번 → 학생 정보
+    private final List<Student> students = new ArrayList<>();
+
+    // 활성 학생 집합 / 기숙사동별 학생 집합
+    private BitSet activeStudents = new BitSet();
+    private Map<String, BitSet> buildingStudents = new HashMap<>();
+
+    // 날짜 → 제출/통과 비트맵 (최근 windowDays일)
+    private final TreeMap<LocalDate, DayBits> days = new TreeMap<>();
+
+    // 초기 적재 중 들어온 변경 (적재 완료 후 다시 반영)
+    private List<Runnable> pendingDuringLoad;
+
+    private volatile boolean ready = false;
+
+    // =============================================================================
+    // 적재
+    // =============================================================================
+
+    /**
+     * 기동 완료 후 학생 목록과 최근 날짜 비트맵 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 전체 다시 적재
+     */
+    public synchronized void reload() {
+        long startTime = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            refreshStudents();
+
+            LocalDate today = LocalDate.now();
+            LocalDate start = windowStart(today);
+            TreeMap<LocalDate, DayBits> loaded = loadDays(start, today);
+
+            lock.writeLock().lock();
+            try {
+                days.clear();
+                days.putAll(loaded);
+                pendingDuringLoad.forEach(Runnable::run);
+                pendingDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+
+            logger.info("[AttendanceBitmap] 적재 완료 - 학생: {}명, 날짜: {}일 ({} ~ {}), 소요: {}ms",
+                    activeStudents.cardinality(), loaded.size(), start, today,
+                    System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.error("[AttendanceBitmap] 적재 실패 - 조회 시 DB에서 직접 구성합니다.", e);
+        }
+    }
+
+    /**
+     * 활성 학생 목록 갱신 (명부 색인 기준, 관리자 제외) + 보관 기간 지난 날짜 정리
+     */
+    @Scheduled(fixedDelayString = "${attendance.bitmap.user-refresh-ms:600000}",
+            initialDelayString = "${attendance.bitmap.user-refresh-ms:600000}")
+    public void refreshStudents() {
+        List<RoomRosterIndex.Resident> residents = rosterIndex.getAllResidents();
+
+        lock.writeLock().lock();
+        try {
+            BitSet active = new BitSet();
+            Map<String, BitSet> byBuilding = new HashMap<>();
+
+            for (RoomRosterIndex.Resident resident : residents) {
+                if (resident.isAdmin()) {
+                    continue;
+                }
+                String building = resident.getBuilding() != null ? resident.getBuilding() : "";
+                int ordinal = ordinalOf(resident.getUserId());
+                students.set(ordinal, new Student(resident.getUserId(), resident.getName(), building,
+                        resident.getRoomNumber()));
+                active.set(ordinal);
+                byBuilding.computeIfAbsent(building, key -> new BitSet()).set(ordinal);
+            }
+
+            activeStudents = active;
+            buildingStudents = byBuilding;
+            evictOldDays(LocalDate.now());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기간의 제출/통과 비트맵을 DB에서 구성 (쿼리 1회)
+     */
+    private TreeMap<LocalDate, DayBits> loadDays(LocalDate start, LocalDate end) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        List<Object[]> rows = readOnly.execute(status -> inspectionRepository.findSubmissionStatusBetween(
+                start.atStartOfDay(), end.plusDays(1).atStartOfDay()));
+
+        TreeMap<LocalDate, DayBits> loaded = new TreeMap<>();
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            loaded.put(day, new DayBits());
+        }
+        if (rows == null) {
+            return loaded;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // [사용자 ID, 점호 일시, 상태]
+            for (Object[] row : rows) {
+                LocalDate day = ((LocalDateTime) row[1]).toLocalDate();
+                DayBits bits = loaded.get(day);
+                if (bits != null) {
+                    bits.mark(ordinalOf((String) row[0]), (String) row[2]);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return loaded;
+    }
+
+    // =============================================================================
+    // 변경 반영
+    // =============================================================================
+
+    /**
+     * 점호 제출/반려/삭제 이벤트 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInspectionEvent(InspectionEvent event) {
+        String userId = event.getUserId();
+        LocalDate day = event.getInspectionLocalDate();
+
+        if (event instanceof InspectionEvent.Submitted) {
+            applyWrite(() -> {
+                DayBits bits = dayForWrite(day);
+                if (bits != null) {
+                    bits.mark(ordinalOf(userId), event.getStatus());
+                }
+            });
+        } else {
+            // 같은 날 다른 점호 기록이 남아 있을 수 있으므로 해당 사용자·날짜만 다시 읽음
+            executor.execute(() -> refreshUserDay(userId, day));
+        }
+    }
+
+    /**
+     * 관리자 수정 반영 (트랜잭션 안이면 커밋 이후)
+     */
+    public void refreshAfterCommit(String userId, LocalDate day) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executor.execute(() -> refreshUserDay(userId, day));
+                }
+            });
+        } else {
+            executor.execute(() -> refreshUserDay(userId, day));
+        }
+    }
+
+    private void refreshUserDay(String userId, LocalDate day) {
+        try {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            // 커밋 직후 읽기이므로 복제 지연 없이 주 DB에서 조회
+            List<Inspection> inspections = RoutingDataSource.onPrimary(() -> readOnly.execute(status ->
+                    inspectionRepository.findByUserIdAndInspectionDateBetween(
+                            userId, day.atStartOfDay(), day.plusDays(1).atStartOfDay().minusNanos(1))));
+
+            applyWrite(() -> {
+                DayBits bits = dayForWrite(day);
+                if (bits == null) {
+                    return;
+                }
+                int ordinal = ordinalOf(userId);
+                bits.clear(ordinal);
+                if (inspections != null) {
+                    inspections.forEach(inspection -> bits.mark(ordinal, inspection.getStatus()));
+                }
+            });
+        } catch (Exception e) {
+            logger.warn("[AttendanceBitmap] 사용자 제출 현황 갱신 실패 - 사용자: {}, 날짜: {}, 오류: {}",
+                    userId, day, e.getMessage());
+        }
+    }
+
+    /**
+     * 쓰기 잠금 하에 적용 (적재 중이면 적재 완료 후 다시 적용)
+     */
+    private void applyWrite(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 쓰기용 날짜 비트맵 (보관 기간 밖이면 null, 새 날짜면 생성 후 오래된 날짜 정리)
+     */
+    private DayBits dayForWrite(LocalDate day) {
+        LocalDate today = LocalDate.now();
+        if (day == null || day.isBefore(windowStart(today)) || day.isAfter(today)) {
+            return null;
+        }
+        DayBits bits = days.get(day);
+        if (bits == null) {
+            bits = new DayBits();
+            days.put(day, bits);
+            evictOldDays(today);
+        }
+        return bits;
+    }
+
+    private void evictOldDays(LocalDate today) {
+        days.headMap(windowStart(today)).clear();
+    }
+
+    private LocalDate windowStart(LocalDate today) {
+        return today.minusDays(Math.max(1, windowDays) - 1);
+    }
+
+    /**
+     * 사용자 순번 조회 (없으면 새로 부여 - 쓰기 잠금 하에서 호출)
+     */
+    private int ordinalOf(String userId) {
+        Integer ordinal = ordinals.get(userId);
+        if (ordinal == null) {
+            ordinal = students.size();
+            ordinals.put(userId, ordinal);
+            students.add(new Student(userId, null, "", null));
+        }
+        return ordinal;
+    }
+
+    // =============================================================================
+    // 조회
+    // =============================================================================
+
+    /**
+     * 미제출 학생 목록
+     *
+     * @param building null이면 전체
+     */
+    public List<Map<String, Object>> getNotSubmitted(LocalDate day, String building) {
+        Map<LocalDate, DayBits> range = daysFor(day, day);
+        lock.readLock().lock();
+        try {
+            BitSet result = scope(building);
+            result.andNot(range.get(day).submitted);
+            return toStudents(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기간 내 매일 실패한(제출했지만 통과하지 못한) 학생 목록
+     *
+     * @param endDay 마지막 날짜 (보통 오늘)
+     * @param count  연속 일수
+     */
+    public List<Map<String, Object>> getConsecutiveFailures(LocalDate endDay, int count, String building) {
+        LocalDate startDay = endDay.minusDays(Math.max(1, count) - 1);
+        Map<LocalDate, DayBits> range = daysFor(startDay, endDay);
+        lock.readLock().lock();
+        try {
+            BitSet result = scope(building);
+            for (DayBits bits : range.values()) {
+                result.and(bits.failed());
+            }
+            return toStudents(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 날짜별 제출 현황 요약
+     */
+    public Map<String, Object> getSummary(LocalDate day, String building) {
+        Map<LocalDate, DayBits> range = daysFor(day, day);
+        lock.readLock().lock();
+        try {
+            BitSet scope = scope(building);
+            DayBits bits = range.get(day);
+
+            BitSet submitted = (BitSet) scope.clone();
+            submitted.and(bits.submitted);
+            BitSet passed = (BitSet) scope.clone();
+            passed.and(bits.passed);
+
+            int total = scope.cardinality();
+            int submittedCount = submitted.cardinality();
+            int passedCount = passed.cardinality();
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("date", day.toString());
+            summary.put("building", building);
+            summary.put("totalStudents", total);
+            summary.put("submittedCount", submittedCount);
+            summary.put("notSubmittedCount", total - submittedCount);
+            summary.put("passedCount", passedCount);
+            summary.put("failedCount", submittedCount - passedCount);
+            summary.put("submissionRate", total > 0
+                    ? Math.round((double) submittedCount / total * 10000.0) / 100.0 : 0.0);
+            return summary;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 상태 (진단용)
+     */
+    public Map<String, Object> getStatus() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("ready", ready);
+            status.put("students", activeStudents.cardinality());
+            status.put("ordinals", students.size());
+            status.put("buildings", buildingStudents.size());
+            status.put("days", days.size());
+            status.put("windowDays", windowDays);
+            return status;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조회 기간의 날짜 비트맵 (보관 중이 아니거나 적재 전이면 DB에서 일회성으로 구성)
+     */
+    private Map<LocalDate, DayBits> daysFor(LocalDate start, LocalDate end) {
+        if (ready) {
+            lock.readLock().lock();
+            try {
+                Map<LocalDate, DayBits> cached = new TreeMap<>();
+                for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+                    DayBits bits = days.get(day);
+                    if (bits == null) {
+                        break;
+                    }
+                    cached.put(day, bits);
+                }
+                if (cached.size() == ChronoUnit.DAYS.between(start, end) + 1) {
+                    return cached;
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        if (!ready) {
+            refreshStudents();
+        }
+        return loadDays(start, end);
+    }
+
+    /**
+     * 조회 대상 학생 집합 (복사본)
+     */
+    private BitSet scope(String building) {
+        if (building == null || building.isEmpty()) {
+            return (BitSet) activeStudents.clone();
+        }
+        BitSet byBuilding = buildingStudents.get(building);
+        return byBuilding != null ? (BitSet) byBuilding.clone() : new BitSet();
+    }
+
+    private List<Map<String, Object>> toStudents(BitSet bits) {
+        List<Map<String, Object>> result = new ArrayList<>(bits.cardinality());
+        for (int ordinal = bits.nextSetBit(0); ordinal >= 0; ordinal = bits.nextSetBit(ordinal + 1)) {
+            Student student = students.get(ordinal);
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("userId", student.userId());
+            map.put("name", decryptName(student.name()));
+            map.put("building", student.building());
+            map.put("roomNumber", student.roomNumber());
+            result.add(map);
+        }
+        return result;
+    }
+
+    /**
+     * 명부의 이름은 암호화된 값 그대로이므로 응답 시 복호화
+     */
+    private String decryptName(String encryptedName) {
+        if (encryptedName == null) return "Unknown";
+        try {
+            return encryptionUtil.decrypt(encryptedName);
+        } catch (Exception e) {
+            logger.warn("사용자 이름 복호화 실패: {}", e.getMessage());
+            return encryptedName;
+        }
+    }
+
+    private record Student(String userId, String name, String building, String roomNumber) {
+    }
+
+    /**
+     * 하루치 비트맵 - 제출(submitted), 통과(passed)
+     */
+    private static final class DayBits {
+        private final BitSet submitted = new BitSet();
+        private final BitSet passed = new BitSet();
+
+        void mark(int ordinal, String status) {
+            submitted.set(ordinal);
+            if ("PASS".equals(status)) {
+                passed.set(ordinal);
+            }
+        }
+
+        void clear(int ordinal) {
+            submitted.clear(ordinal);
+            passed.clear(ordinal);
+        }
+
+        BitSet failed() {
+            BitSet failed = (BitSet) submitted.clone();
+            failed.andNot(passed);
+            return failed;
+        }
+    }
+}
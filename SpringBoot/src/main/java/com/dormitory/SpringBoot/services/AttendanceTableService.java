@@ -1,10 +1,8 @@
 package com.dormitory.SpringBoot.services;
 
 import com.dormitory.SpringBoot.domain.AttendanceTable;
-import com.dormitory.SpringBoot.domain.User;
 import com.dormitory.SpringBoot.dto.AttendanceRequest;
 import com.dormitory.SpringBoot.repository.AttendanceTableRepository;
-import com.dormitory.SpringBoot.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,7 +26,7 @@ public class AttendanceTableService {
     private AttendanceTableRepository attendanceTableRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private RoomRosterIndex rosterIndex;
 
     /**
      * 특정 날짜의 출석 테이블 생성
@@ -44,8 +42,8 @@ public class AttendanceTableService {
                 throw new RuntimeException("해당 날짜의 출석 테이블이 이미 존재합니다.");
             }
 
-            // 모든 활성 사용자 조회
-            List<User> activeUsers = userRepository.findByIsActiveTrue();
+            // 모든 활성 사용자 조회 (명부 색인)
+            List<RoomRosterIndex.Resident> activeUsers = rosterIndex.getAllResidents();
             logger.info("활성 사용자 수: {}", activeUsers.size());
 
             // 각 사용자에 대해 출석 항목 생성
@@ -53,7 +51,7 @@ public class AttendanceTableService {
                 .map(user -> new AttendanceTable(
                     inspectionDate,
                     user.getRoomNumber(),
-                    user.getId(),
+                    user.getUserId(),
                     user.getName()
                 ))
                 .collect(Collectors.toList());
@@ -143,7 +141,7 @@ public class AttendanceTableService {
 
     /**
      * 점호 제출 시 출석 테이블 업데이트
-     * (InspectionService에서 호출)
+     * (InspectionEventListener에서 커밋 이후 호출)
      */
     public void updateAttendanceOnInspectionSubmit(
             String userId, 
@@ -161,6 +159,25 @@ public class AttendanceTableService {
             });
     }
 
+    /**
+     * 점호 반려/삭제 시 출석 테이블 되돌리기
+     * (InspectionEventListener에서 커밋 이후 호출)
+     */
+    public void revertAttendanceOnInspectionRemoved(
+            String userId,
+            LocalDate inspectionDate,
+            String status) {
+
+        logger.info("점호 반려/삭제에 따른 출석 되돌리기 - 사용자: {}, 날짜: {}, 상태: {}", userId, inspectionDate, status);
+
+        attendanceTableRepository.findByInspectionDateAndUserId(inspectionDate, userId)
+            .ifPresent(entry -> {
+                entry.markAsNotSubmitted(status);
+                attendanceTableRepository.save(entry);
+                logger.info("출석 상태 되돌리기 완료 - 사용자: {}", userId);
+            });
+    }
+
     /**
      * Entity를 DTO로 변환
      */
@@ -1,12 +1,17 @@
 package com.dormitory.SpringBoot.services;
 
+import com.dormitory.SpringBoot.config.ReplicaRead;
 import com.dormitory.SpringBoot.domain.Complaint;
 import com.dormitory.SpringBoot.domain.User;
 import com.dormitory.SpringBoot.repository.ComplaintRepository;
 import com.dormitory.SpringBoot.repository.UserRepository;
+import com.dormitory.SpringBoot.search.SearchPage;
+import com.dormitory.SpringBoot.search.SearchResult;
+import com.dormitory.SpringBoot.utils.TimedSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -34,6 +39,16 @@ public class ComplaintService {
     @Autowired
     private FileService fileService;
 
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    // 관리자 대시보드 통계 스냅샷 (민원 변경 시 커밋 이후 무효화)
+    private final TimedSnapshot<Map<String, Object>> statisticsSnapshot;
+
+    public ComplaintService(@Value("${statistics.snapshot-ttl-ms:10000}") long statisticsTtlMillis) {
+        this.statisticsSnapshot = new TimedSnapshot<>(statisticsTtlMillis);
+    }
+
     // =============================================================================
     // 기본 CRUD 메서드들
     // =============================================================================
@@ -125,6 +140,8 @@ public class ComplaintService {
             }
 
             complaint = complaintRepository.save(complaint);
+            statisticsSnapshot.invalidateAfterCommit();
+            searchIndexService.indexComplaint(complaint);
             logger.info("민원 제출 완료 - ID: {}", complaint.getId());
 
             return complaint;
@@ -157,6 +174,7 @@ public class ComplaintService {
             }
 
             complaint = complaintRepository.save(complaint);
+            statisticsSnapshot.invalidateAfterCommit();
             logger.info("민원 상태 업데이트 완료 - ID: {}", complaintId);
 
             return complaint;
@@ -189,6 +207,8 @@ public class ComplaintService {
             }
 
             complaintRepository.delete(complaint);
+            statisticsSnapshot.invalidateAfterCommit();
+            searchIndexService.removeComplaint(complaintId);
             logger.info("민원 삭제 완료 - ID: {}", complaintId);
 
         } catch (Exception e) {
@@ -234,14 +254,29 @@ public class ComplaintService {
      */
     @Transactional(readOnly = true)
     public List<Complaint> searchComplaints(String keyword) {
+        return searchComplaints(keyword, 0, 0).getItems();
+    }
+
+    /**
+     * 민원 검색 (관련도 순, 페이지 단위)
+     * ✅ 검색 색인 사용, 색인 구축 전에는 DB LIKE 검색으로 대체
+     */
+    @Transactional(readOnly = true)
+    public SearchResult<Complaint> searchComplaints(String keyword, int page, int size) {
         try {
             logger.info("민원 검색 - 키워드: {}", keyword);
 
             if (keyword == null || keyword.trim().isEmpty()) {
-                return getAllComplaints();
+                return SearchResult.of(getAllComplaints(), page, size);
+            }
+            if (!searchIndexService.isReady()) {
+                return SearchResult.of(complaintRepository.searchByKeyword(keyword.trim()), page, size);
             }
 
-            return complaintRepository.searchByKeyword(keyword.trim());
+            SearchPage hits = searchIndexService.searchComplaints(keyword, page, size);
+            List<Complaint> complaints = SearchIndexService.orderByIds(hits.getIds(),
+                    complaintRepository.findAllById(hits.getIds()), Complaint::getId);
+            return new SearchResult<>(complaints, hits.getTotal(), page, size);
         } catch (Exception e) {
             logger.error("민원 검색 실패", e);
             throw new RuntimeException("민원 검색에 실패했습니다: " + e.getMessage());
@@ -270,55 +305,93 @@ public class ComplaintService {
 
     /**
      * 민원 통계 조회
+     * ✅ 상태별 집계 쿼리 1회로 계산하고 짧은 시간 동안 스냅샷 재사용
      */
+    @ReplicaRead
     @Transactional(readOnly = true)
     public Map<String, Object> getComplaintStatistics() {
         try {
-            logger.info("민원 통계 조회");
+            return new HashMap<>(statisticsSnapshot.get(this::computeComplaintStatistics));
+        } catch (Exception e) {
+            logger.error("민원 통계 조회 실패", e);
+            throw new RuntimeException("민원 통계 조회에 실패했습니다: " + e.getMessage());
+        }
+    }
 
-            Map<String, Object> statistics = new HashMap<>();
+    private Map<String, Object> computeComplaintStatistics() {
+        logger.info("민원 통계 조회");
+
+        LocalDateTime urgentDate = LocalDateTime.now().minusDays(3);
+        List<Object[]> rows = complaintRepository.aggregateByStatus(urgentDate);
+
+        long totalComplaints = 0;
+        Map<String, Long> countByStatus = new HashMap<>();
+        long urgentComplaints = 0;
+        long processedCount = 0;
+        long processingHoursSum = 0;
+
+        // [상태, 건수, 긴급 건수, 처리 완료 건수, 처리 시간 합계]
+        for (Object[] row : rows) {
+            String status = (String) row[0];
+            long count = toLong(row[1]);
+            totalComplaints += count;
+            if (status == null) {
+                continue;
+            }
+            countByStatus.put(status, count);
 
-            // 전체 민원 수
-            long totalComplaints = complaintRepository.count();
-            statistics.put("totalComplaints", totalComplaints);
+            // 긴급 민원: 3일 이상 대기
+            if ("대기".equals(status)) {
+                urgentComplaints = toLong(row[2]);
+            }
+            // 평균 처리 시간: 완료된 민원 기준
+            if ("완료".equals(status)) {
+                processedCount = toLong(row[3]);
+                processingHoursSum = toLong(row[4]);
+            }
+        }
 
-            // 상태별 통계
-            statistics.put("waitingCount", complaintRepository.countByStatus("대기"));
-            statistics.put("processingCount", complaintRepository.countByStatus("처리중"));
-            statistics.put("completedCount", complaintRepository.countByStatus("완료"));
-            statistics.put("rejectedCount", complaintRepository.countByStatus("반려"));
+        Map<String, Object> statistics = new HashMap<>();
 
-            // 처리 완료/미완료 통계
-            long completedTotal = complaintRepository.countCompletedComplaints();
-            long pendingTotal = totalComplaints - completedTotal;
-            statistics.put("completedTotal", completedTotal);
-            statistics.put("pendingTotal", pendingTotal);
+        // 전체 민원 수
+        statistics.put("totalComplaints", totalComplaints);
 
-            // 긴급 민원 수
-            statistics.put("urgentComplaints", getUrgentComplaints().size());
+        // 상태별 통계
+        statistics.put("waitingCount", countByStatus.getOrDefault("대기", 0L));
+        statistics.put("processingCount", countByStatus.getOrDefault("처리중", 0L));
+        statistics.put("completedCount", countByStatus.getOrDefault("완료", 0L));
+        statistics.put("rejectedCount", countByStatus.getOrDefault("반려", 0L));
 
-            // 평균 처리 시간
-            Double avgProcessingTime = complaintRepository.getAverageProcessingTimeInHours();
-            statistics.put("averageProcessingHours", avgProcessingTime != null ? avgProcessingTime : 0.0);
+        // 처리 완료/미완료 통계
+        long completedTotal = countByStatus.getOrDefault("완료", 0L);
+        long pendingTotal = totalComplaints - completedTotal;
+        statistics.put("completedTotal", completedTotal);
+        statistics.put("pendingTotal", pendingTotal);
 
-            // 해결률
-            double resolutionRate = totalComplaints > 0
-                    ? (double) completedTotal / totalComplaints * 100
-                    : 0.0;
-            statistics.put("resolutionRate", Math.round(resolutionRate * 100.0) / 100.0);
+        // 긴급 민원 수
+        statistics.put("urgentComplaints", urgentComplaints);
 
-            logger.info("민원 통계 조회 완료 - 전체: {}, 대기: {}, 처리중: {}, 완료: {}, 반려: {}",
-                    totalComplaints,
-                    statistics.get("waitingCount"),
-                    statistics.get("processingCount"),
-                    statistics.get("completedCount"),
-                    statistics.get("rejectedCount"));
+        // 평균 처리 시간
+        double avgProcessingTime = processedCount > 0 ? (double) processingHoursSum / processedCount : 0.0;
+        statistics.put("averageProcessingHours", avgProcessingTime);
 
-            return statistics;
+        // 해결률
+        double resolutionRate = totalComplaints > 0
+                ? (double) completedTotal / totalComplaints * 100
+                : 0.0;
+        statistics.put("resolutionRate", Math.round(resolutionRate * 100.0) / 100.0);
 
-        } catch (Exception e) {
-            logger.error("민원 통계 조회 실패", e);
-            throw new RuntimeException("민원 통계 조회에 실패했습니다: " + e.getMessage());
-        }
+        logger.info("민원 통계 조회 완료 - 전체: {}, 대기: {}, 처리중: {}, 완료: {}, 반려: {}",
+                totalComplaints,
+                statistics.get("waitingCount"),
+                statistics.get("processingCount"),
+                statistics.get("completedCount"),
+                statistics.get("rejectedCount"));
+
+        return statistics;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
     }
-}
\ No newline at end of file
+}
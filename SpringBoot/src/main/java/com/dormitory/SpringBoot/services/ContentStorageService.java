@@ -0,0 +1,521 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.domain.StoredFile;
+import com.dormitory.SpringBoot.repository.StoredFileRepository;
+import com.dormitory.SpringBoot.storage.ObjectStorage;
+import com.dormitory.SpringBoot.utils.ImageRenditions;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 업로드 파일 공용 저장 엔진 (내용 주소 기반, 중복 제거)
+ * ✅ 스트림을 디스크에 기록하면서 같은 패스에서 SHA-256 계산
+ * ✅ cas/ab/cd/{sha256}{확장자} 형태의 샤딩 경로에 저장
+ * ✅ 동일 내용 파일은 참조 수만 증가시키고 디스크를 추가로 사용하지 않음
+ * ✅ 업로드 기본 경로 결정 로직을 한 곳으로 통합 (FileService/NoticeService/DocumentService 공용)
+ * ✅ 실제 바이트는 ObjectStorage SPI(로컬 디스크 / S3 호환)에 저장, 참조 수는 DB에서 공유
+ * ✅ 업로드 중인 임시 파일은 서빙 경로(/uploads) 밖의 스테이징 디렉토리에 기록
+ * ✅ 엔티티 수정/삭제에 따른 참조 해제는 커밋 이후에 반영 (releaseAfterCommit)
+ * ✅ 마지막 참조가 해제돼도 바로 지우지 않고 표시만 함 (tombstone)
+ *    유예 시간이 지난 뒤 정리 작업이 행 잠금을 잡은 상태에서 참조 수를 다시 확인하고 삭제
+ *    → 다른 인스턴스가 같은 내용을 저장하면서 "이미 있음"으로 판단한 객체를 지워버리는 경쟁 방지
+ *
+ * 폴더 구조: 예전의 {카테고리}/{yyyy}/{MM}/{dd}/{UUID} 구조 대신 모든 카테고리가 cas/ 아래를 공유
+ * (같은 내용이면 카테고리가 달라도 한 파일만 저장하기 위함). 기존 파일은 예전 경로 그대로 서빙/삭제됨
+ */
+@Service
+public class ContentStorageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentStorageService.class);
+
+    public static final String CAS_PREFIX = "cas/";
+
+    // 해시별 동시 저장/해제 직렬화를 위한 잠금 스트라이프
+    private static final int LOCK_STRIPES = 64;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectStorage objectStorage;
+
+    // 로컬 업로드 기본 경로 (로컬 저장소, 이전 방식 파일 위치)
+    @Autowired
+    private Path uploadBasePath;
+
+    @Value("${file.storage.presign-ttl-seconds:600}")
+    private long presignTtlSeconds;
+
+    // 임시 파일 위치 (미지정 시 업로드 기본 경로 옆의 {기본 경로}-staging)
+    @Value("${file.upload.staging-path:}")
+    private String stagingPathSetting;
+
+    private Path stagingPath;
+
+    // 참조 해제 후 실제 삭제까지 유예 시간
+    @Value("${file.storage.gc.grace-seconds:600}")
+    private long gcGraceSeconds;
+
+    // 정리 작업 1회당 최대 삭제 수
+    @Value("${file.storage.gc.batch-size:200}")
+    private int gcBatchSize;
+
+    // 참조 수 변경은 호출자 트랜잭션과 분리하여 즉시 커밋 (롤백 시에도 파일이 먼저 사라지지 않도록)
+    private TransactionTemplate referenceTransaction;
+
+    @PostConstruct
+    public void init() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+
+        this.referenceTransaction = new TransactionTemplate(transactionManager);
+        this.referenceTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.stagingPath = stagingPathSetting == null || stagingPathSetting.isBlank()
+                ? uploadBasePath.resolveSibling(uploadBasePath.getFileName() + "-staging")
+                : Paths.get(stagingPathSetting).toAbsolutePath().normalize();
+        if (stagingPath.startsWith(uploadBasePath)) {
+            throw new IllegalStateException("임시 파일 경로는 업로드 기본 경로 밖이어야 합니다: " + stagingPath);
+        }
+
+        try {
+            Files.createDirectories(stagingPath);
+        } catch (IOException e) {
+            logger.error("[ContentStorage] 임시 파일 디렉토리 생성 실패: {}", stagingPath, e);
+        }
+        logger.info("[ContentStorage] 업로드 기본 경로: {}, 임시 파일 경로: {}, 저장소: {}",
+                uploadBasePath, stagingPath, objectStorage.describe());
+    }
+
+    // =============================================================================
+    // 저장 / 해제
+    // =============================================================================
+
+    /**
+     * 업로드 파일 저장
+     *
+     * @param file 업로드 파일
+     * @return 업로드 기본 경로 기준 상대 경로 (예: cas/ab/cd/abcd...ef.jpg)
+     */
+    public String store(MultipartFile file) throws IOException {
+        String extension = getFileExtension(file.getOriginalFilename());
+        try (InputStream in = file.getInputStream()) {
+            return store(in, extension, file.getContentType());
+        }
+    }
+
+    /**
+     * 스트림 저장 - 임시 파일에 쓰면서 SHA-256 계산 후 내용 주소 경로로 이동
+     */
+    public String store(InputStream in, String extension, String contentType) throws IOException {
+        Path tempFile = stagingPath.resolve(UUID.randomUUID() + ".part");
+        MessageDigest digest = newSha256();
+
+        long size;
+        try (DigestInputStream digestStream = new DigestInputStream(in, digest)) {
+            size = Files.copy(digestStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        String hash = HexFormat.of().formatHex(digest.digest());
+        String relativePath = CAS_PREFIX + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + extension;
+
+        synchronized (lockFor(hash)) {
+            try {
+                // 참조를 먼저 잡아야 정리 작업이 그 사이에 객체를 지우지 않음
+                String storedPath = acquireReference(hash, relativePath, contentType, size);
+
+                try {
+                    if (objectStorage.exists(storedPath)) {
+                        logger.info("[ContentStorage] 중복 파일 재사용 - 해시: {}, 경로: {}", hash, storedPath);
+                    } else {
+                        objectStorage.put(storedPath, tempFile, contentType);
+                        logger.info("[ContentStorage] 파일 저장 완료 - 경로: {}, 크기: {} bytes", storedPath, size);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    // 업로드 실패 - 방금 잡은 참조를 되돌림
+                    logger.warn("[ContentStorage] 파일 저장 실패, 참조 해제 - 경로: {}, 오류: {}", storedPath, e.getMessage());
+                    releaseReference(hash, storedPath);
+                    throw e;
+                }
+
+                releaseOnRollback(storedPath);
+                return storedPath;
+
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    /**
+     * 참조 수 증가 (신규 해시면 레코드 생성)
+     * 다른 인스턴스가 같은 해시를 동시에 먼저 등록한 경우 한 번 재시도
+     */
+    private String acquireReference(String hash, String relativePath, String contentType, long size) {
+        try {
+            return acquireReferenceOnce(hash, relativePath, contentType, size);
+        } catch (DataIntegrityViolationException e) {
+            logger.info("[ContentStorage] 동시 등록 감지, 재시도 - 해시: {}", hash);
+            return acquireReferenceOnce(hash, relativePath, contentType, size);
+        }
+    }
+
+    private String acquireReferenceOnce(String hash, String relativePath, String contentType, long size) {
+        return referenceTransaction.execute(status -> {
+            Optional<StoredFile> existing = storedFileRepository.findByContentHashForUpdate(hash);
+            StoredFile storedFile = existing.orElseGet(
+                    () -> new StoredFile(hash, relativePath, contentType, size));
+            storedFile.acquire();
+            storedFileRepository.saveAndFlush(storedFile);
+            return storedFile.getStoragePath();
+        });
+    }
+
+    /**
+     * 참조 수는 별도 트랜잭션으로 먼저 커밋되므로, 호출자 트랜잭션이 롤백되면 참조를 되돌림
+     * (파일 경로를 저장하려던 엔티티가 저장되지 않았으므로)
+     */
+    private void releaseOnRollback(String storedPath) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    logger.info("[ContentStorage] 호출자 트랜잭션 롤백 - 참조 해제: {}", storedPath);
+                    release(storedPath);
+                }
+            }
+        });
+    }
+
+    /**
+     * 호출자 트랜잭션이 커밋된 뒤에 참조 해제 (트랜잭션 밖이면 바로 해제)
+     * 참조 수는 별도 트랜잭션에서 줄어들므로, 먼저 해제하면 호출자가 롤백돼도
+     * 파일 경로가 남은 행을 두고 정리 작업이 파일을 지울 수 있음
+     */
+    public void releaseAfterCommit(String relativePath) {
+        if (relativePath == null || relativePath.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(relativePath);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    release(relativePath);
+                } catch (RuntimeException e) {
+                    logger.warn("[ContentStorage] 커밋 후 참조 해제 실패 - 경로: {}, 오류: {}", relativePath, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 파일 참조 해제
+     * 내용 주소 파일은 참조 수가 0이 되면 삭제 대상으로 표시만 하고(유예 시간 후 sweepReleased가 삭제),
+     * 이전 방식(UUID) 파일은 바로 삭제
+     *
+     * @param relativePath 상대 경로 ("uploads/" 접두사 허용)
+     * @return 마지막 참조 해제(삭제 대상) 또는 이전 방식 파일 삭제 여부
+     */
+    public boolean release(String relativePath) {
+        if (relativePath == null || relativePath.isEmpty()) {
+            return false;
+        }
+
+        String normalized = normalize(relativePath);
+
+        if (!isContentAddressed(normalized)) {
+            return deleteLegacy(normalized);
+        }
+
+        String hash = extractHash(normalized);
+        synchronized (lockFor(hash)) {
+            return releaseReference(hash, normalized);
+        }
+    }
+
+    private boolean releaseReference(String hash, String relativePath) {
+        Boolean lastReference = referenceTransaction.execute(status -> {
+            Optional<StoredFile> existing = storedFileRepository.findByContentHashForUpdate(hash);
+            if (existing.isEmpty()) {
+                return false;
+            }
+            StoredFile storedFile = existing.get();
+            int remaining = storedFile.release();
+            storedFileRepository.save(storedFile);
+            logger.info("[ContentStorage] 참조 해제 - 경로: {}, 남은 참조: {}", relativePath, remaining);
+            return remaining == 0;
+        });
+        return Boolean.TRUE.equals(lastReference);
+    }
+
+    /**
+     * 참조가 모두 해제되고 유예 시간이 지난 파일 삭제
+     * 행 잠금을 잡은 채로 참조 수를 다시 확인하고 객체 → 행 순서로 삭제
+     * (같은 해시를 저장하려는 다른 인스턴스는 행 잠금에서 기다렸다가 새 행을 만들고 다시 업로드)
+     */
+    @Scheduled(fixedDelayString = "${file.storage.gc.interval-ms:300000}",
+            initialDelayString = "${file.storage.gc.interval-ms:300000}")
+    public int sweepReleased() {
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(gcGraceSeconds);
+        List<String> hashes = storedFileRepository.findReleasedHashesBefore(cutoff, PageRequest.of(0, Math.max(1, gcBatchSize)));
+
+        int deleted = 0;
+        for (String hash : hashes) {
+            synchronized (lockFor(hash)) {
+                Boolean removed = referenceTransaction.execute(status -> {
+                    Optional<StoredFile> existing = storedFileRepository.findByContentHashForUpdate(hash);
+                    if (existing.isEmpty()) {
+                        return false;
+                    }
+                    StoredFile storedFile = existing.get();
+                    if (storedFile.getReferenceCount() > 0 || storedFile.getReleasedAt() == null
+                            || storedFile.getReleasedAt().isAfter(cutoff)) {
+                        // 그 사이 다시 참조됨
+                        return false;
+                    }
+                    if (!deletePhysical(storedFile.getStoragePath())) {
+                        // 다음 주기에 다시 시도
+                        return false;
+                    }
+                    storedFileRepository.delete(storedFile);
+                    return true;
+                });
+                if (Boolean.TRUE.equals(removed)) {
+                    deleted++;
+                }
+            }
+        }
+
+        if (deleted > 0) {
+            logger.info("[ContentStorage] 참조 해제된 파일 정리 - 삭제: {}건, 대상: {}건", deleted, hashes.size());
+        }
+        return deleted;
+    }
+
+    // =============================================================================
+    // 파생본(썸네일 등) 지원
+    // =============================================================================
+
+    /**
+     * 저장된 파일 읽기 스트림 (호출자가 닫아야 함)
+     */
+    public InputStream open(String relativePath) throws IOException {
+        return objectStorage.open(normalize(relativePath));
+    }
+
+    /**
+     * 저장소가 로컬 디스크인 경우 실제 파일 경로
+     */
+    public Optional<Path> localPath(String relativePath) {
+        return objectStorage.localPath(normalize(relativePath));
+    }
+
+    /**
+     * 임시 작업 파일 생성 (스테이징 디렉토리 아래)
+     */
+    public Path createTempFile(String suffix) throws IOException {
+        return Files.createTempFile(stagingPath, "work-", suffix);
+    }
+
+    /**
+     * 원본에서 파생된 파일 저장 (참조 수 관리 없음, 원본 삭제 시 함께 삭제)
+     * 임시 파일은 저장 후 정리됨
+     */
+    public void storeDerived(String relativePath, Path source, String contentType) throws IOException {
+        try {
+            objectStorage.put(normalize(relativePath), source, contentType);
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    // =============================================================================
+    // 경로 유틸리티
+    // =============================================================================
+
+    /**
+     * 상대 경로를 로컬 파일 경로로 변환 ("uploads/" 접두사 허용, 기본 경로 밖으로 벗어나지 않음)
+     */
+    public Path resolve(String relativePath) {
+        Path resolved = uploadBasePath.resolve(normalize(relativePath)).normalize();
+        if (!resolved.startsWith(uploadBasePath)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다: " + relativePath);
+        }
+        return resolved;
+    }
+
+    /**
+     * 파일 존재 여부 확인
+     */
+    public boolean exists(String relativePath) {
+        if (relativePath == null || relativePath.isEmpty()) {
+            return false;
+        }
+        String normalized = normalize(relativePath);
+        if (isContentAddressed(normalized)) {
+            return objectStorage.exists(normalized);
+        }
+        return Files.exists(resolve(normalized));
+    }
+
+    /**
+     * 원격 저장소 사전 서명 읽기 URL (로컬 저장소/이전 방식 파일이면 empty)
+     */
+    public Optional<URI> presignedReadUrl(String relativePath) {
+        String normalized = normalize(relativePath);
+        if (!isContentAddressed(normalized)) {
+            return Optional.empty();
+        }
+        return objectStorage.presignedReadUrl(normalized, Duration.ofSeconds(presignTtlSeconds));
+    }
+
+    /**
+     * 현재 업로드 기본 경로 반환
+     */
+    public String getBaseUploadPath() {
+        return uploadBasePath.toString();
+    }
+
+    /**
+     * 현재 저장소 설명 (진단용)
+     */
+    public String describeStorage() {
+        return objectStorage.describe();
+    }
+
+    /**
+     * 내용 주소 기반 경로인지 확인
+     */
+    public static boolean isContentAddressed(String relativePath) {
+        return relativePath != null && normalize(relativePath).startsWith(CAS_PREFIX);
+    }
+
+    /**
+     * "uploads/" 또는 "/uploads/" 접두사 제거
+     */
+    private static String normalize(String relativePath) {
+        String path = relativePath.replace('\\', '/');
+        if (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        if (path.startsWith("uploads/")) {
+            path = path.substring("uploads/".length());
+        }
+        return path;
+    }
+
+    private String extractHash(String casPath) {
+        String fileName = casPath.substring(casPath.lastIndexOf('/') + 1);
+        int dot = fileName.indexOf('.');
+        return dot >= 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    /**
+     * 원본과 파생본 삭제 (이미 없는 객체는 삭제된 것으로 봄)
+     *
+     * @return 오류 없이 처리되었는지 여부
+     */
+    private boolean deletePhysical(String relativePath) {
+        try {
+            // 썸네일/웹용 파생본도 함께 삭제
+            if (ImageRenditions.supports(relativePath)) {
+                for (String rendition : new String[]{ImageRenditions.THUMBNAIL, ImageRenditions.WEB}) {
+                    objectStorage.delete(ImageRenditions.renditionPathOf(relativePath, rendition));
+                }
+            }
+            objectStorage.delete(relativePath);
+            return true;
+        } catch (Exception e) {
+            logger.error("[ContentStorage] 파일 삭제 중 오류 발생: {}", relativePath, e);
+            return false;
+        }
+    }
+
+    /**
+     * 이전 방식(UUID 파일명) 파일은 항상 로컬 디스크에 있음
+     */
+    private boolean deleteLegacy(String relativePath) {
+        try {
+            Path path = resolve(relativePath);
+            if (Files.deleteIfExists(path)) {
+                logger.info("[ContentStorage] 파일 삭제 완료: {}", relativePath);
+                return true;
+            }
+            logger.warn("[ContentStorage] 삭제할 파일이 존재하지 않습니다: {}", relativePath);
+            return false;
+        } catch (Exception e) {
+            logger.error("[ContentStorage] 파일 삭제 중 오류 발생: {}", relativePath, e);
+            return false;
+        }
+    }
+
+    private Object lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    private MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 파일 확장자 추출 (소문자, 점 포함)
+     */
+    private String getFileExtension(String filename) {
+        if (filename == null || !filename.contains(".")) {
+            return "";
+        }
+        String extension = filename.substring(filename.lastIndexOf(".")).toLowerCase();
+        // 경로 구분자 등 비정상 문자가 포함된 확장자는 무시
+        return extension.matches("\\.[a-z0-9]{1,10}") ? extension : "";
+    }
+}
@@ -1,25 +1,26 @@
 package com.dormitory.SpringBoot.services;
 
+import com.dormitory.SpringBoot.config.ReplicaRead;
 import com.dormitory.SpringBoot.domain.Document;
 import com.dormitory.SpringBoot.domain.User;
 import com.dormitory.SpringBoot.repository.DocumentRepository;
 import com.dormitory.SpringBoot.repository.UserRepository;
+import com.dormitory.SpringBoot.search.SearchPage;
+import com.dormitory.SpringBoot.search.SearchResult;
+import com.dormitory.SpringBoot.utils.TimedSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * 공공서류 비즈니스 로직 서비스 - 완전한 버전 (모든 메서드 포함)
@@ -36,7 +37,18 @@ public class DocumentService {
     @Autowired
     private UserRepository userRepository; // ✅ 사용자 정보 조회를 위해 추가
 
-    private final String uploadDirectory = "uploads/documents/";
+    @Autowired
+    private ContentStorageService contentStorageService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    // 관리자 대시보드 통계 스냅샷 (서류 변경 시 커밋 이후 무효화)
+    private final TimedSnapshot<Map<String, Object>> statisticsSnapshot;
+
+    public DocumentService(@Value("${statistics.snapshot-ttl-ms:10000}") long statisticsTtlMillis) {
+        this.statisticsSnapshot = new TimedSnapshot<>(statisticsTtlMillis);
+    }
 
     // =============================================================================
     // 기본 CRUD 메서드들
@@ -120,6 +132,8 @@ public class DocumentService {
             }
 
             document = documentRepository.save(document);
+            statisticsSnapshot.invalidateAfterCommit();
+            searchIndexService.indexDocument(document);
             logger.info("서류 제출 완료 - ID: {}", document.getId());
 
             return document;
@@ -143,6 +157,7 @@ public class DocumentService {
 
             document.updateStatus(status, adminComment);
             document = documentRepository.save(document);
+            statisticsSnapshot.invalidateAfterCommit();
 
             logger.info("서류 상태 업데이트 완료 - ID: {}", id);
             return document;
@@ -168,13 +183,15 @@ public class DocumentService {
             if (document.getImagePath() != null && !document.getImagePath().isEmpty()) {
                 try {
                     deleteUploadedFile(document.getImagePath());
-                    logger.info("서류 첨부 파일 삭제 완료: {}", document.getImagePath());
+                    logger.info("서류 첨부 파일 삭제 예약 (커밋 이후): {}", document.getImagePath());
                 } catch (Exception e) {
                     logger.warn("서류 첨부 파일 삭제 실패: {}", e.getMessage());
                 }
             }
 
             documentRepository.delete(document);
+            statisticsSnapshot.invalidateAfterCommit();
+            searchIndexService.removeDocument(id);
             logger.info("서류 삭제 완료 - ID: {}", id);
 
         } catch (Exception e) {
@@ -220,14 +237,30 @@ public class DocumentService {
      */
     @Transactional(readOnly = true)
     public List<Document> searchDocuments(String keyword) {
+        return searchDocuments(keyword, 0, 0).getItems();
+    }
+
+    /**
+     * 서류 검색 (관련도 순, 페이지 단위)
+     * ✅ 검색 색인 사용, 색인 구축 전에는 DB LIKE 검색으로 대체
+     */
+    @Transactional(readOnly = true)
+    public SearchResult<Document> searchDocuments(String keyword, int page, int size) {
         try {
             logger.info("서류 검색 - 키워드: {}", keyword);
 
             if (keyword == null || keyword.trim().isEmpty()) {
-                return getAllDocuments();
+                return SearchResult.of(getAllDocuments(), page, size);
+            }
+            if (!searchIndexService.isReady()) {
+                return SearchResult.of(documentRepository.findByTitleOrContentContainingIgnoreCase(keyword.trim()),
+                        page, size);
             }
 
-            return documentRepository.findByTitleOrContentContainingIgnoreCase(keyword.trim());
+            SearchPage hits = searchIndexService.searchDocuments(keyword, page, size);
+            List<Document> documents = SearchIndexService.orderByIds(hits.getIds(),
+                    documentRepository.findAllById(hits.getIds()), Document::getId);
+            return new SearchResult<>(documents, hits.getTotal(), page, size);
         } catch (Exception e) {
             logger.error("서류 검색 실패", e);
             throw new RuntimeException("서류 검색에 실패했습니다: " + e.getMessage());
@@ -256,57 +289,98 @@ public class DocumentService {
 
     /**
      * 서류 통계 조회
+     * ✅ 상태 × 기간별 집계 쿼리 1회로 계산하고 짧은 시간 동안 스냅샷 재사용
      */
+    @ReplicaRead
     @Transactional(readOnly = true)
     public Map<String, Object> getDocumentStatistics() {
         try {
-            logger.info("서류 통계 조회");
+            return new HashMap<>(statisticsSnapshot.get(this::computeDocumentStatistics));
+        } catch (Exception e) {
+            logger.error("서류 통계 조회 실패", e);
+            throw new RuntimeException("서류 통계 조회에 실패했습니다: " + e.getMessage());
+        }
+    }
 
-            Map<String, Object> statistics = new HashMap<>();
+    private Map<String, Object> computeDocumentStatistics() {
+        logger.info("서류 통계 조회");
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = documentRepository.aggregateByStatus(
+                now.toLocalDate().atStartOfDay(),
+                now.minusDays(7),
+                now.minusDays(30),
+                now.minusDays(7));
+
+        long totalDocuments = 0;
+        Map<String, Long> countByStatus = new HashMap<>();
+        long todayDocuments = 0;
+        long thisWeekDocuments = 0;
+        long thisMonthDocuments = 0;
+        long urgentDocuments = 0;
+        long processedCount = 0;
+        long processingHoursSum = 0;
+
+        // [상태, 건수, 오늘, 최근 7일, 최근 30일, 긴급 건수, 처리 완료 건수, 처리 시간 합계]
+        for (Object[] row : rows) {
+            String status = (String) row[0];
+            long count = toLong(row[1]);
+            totalDocuments += count;
+            todayDocuments += toLong(row[2]);
+            thisWeekDocuments += toLong(row[3]);
+            thisMonthDocuments += toLong(row[4]);
+            processedCount += toLong(row[6]);
+            processingHoursSum += toLong(row[7]);
+            if (status == null) {
+                continue;
+            }
+            countByStatus.put(status, count);
 
-            // 전체 서류 수
-            long totalDocuments = documentRepository.count();
-            statistics.put("totalDocuments", totalDocuments);
+            // 긴급 서류: 7일 이상 대기
+            if ("대기".equals(status)) {
+                urgentDocuments = toLong(row[5]);
+            }
+        }
 
-            // 상태별 통계
-            statistics.put("waitingCount", documentRepository.countByStatus("대기"));
-            statistics.put("reviewingCount", documentRepository.countByStatus("검토중"));
-            statistics.put("approvedCount", documentRepository.countByStatus("승인"));
-            statistics.put("rejectedCount", documentRepository.countByStatus("반려"));
+        Map<String, Object> statistics = new HashMap<>();
 
-            // 처리 완료/미완료 통계
-            statistics.put("completedTotal", documentRepository.countCompletedDocuments());
-            statistics.put("pendingTotal", documentRepository.countPendingDocuments());
+        // 전체 서류 수
+        statistics.put("totalDocuments", totalDocuments);
 
-            // 기간별 통계
-            statistics.put("todayDocuments", documentRepository.countTodayDocuments());
+        // 상태별 통계
+        long waitingCount = countByStatus.getOrDefault("대기", 0L);
+        long reviewingCount = countByStatus.getOrDefault("검토중", 0L);
+        long approvedCount = countByStatus.getOrDefault("승인", 0L);
+        long rejectedCount = countByStatus.getOrDefault("반려", 0L);
+        statistics.put("waitingCount", waitingCount);
+        statistics.put("reviewingCount", reviewingCount);
+        statistics.put("approvedCount", approvedCount);
+        statistics.put("rejectedCount", rejectedCount);
 
-            LocalDateTime startOfWeek = LocalDateTime.now().minusDays(7);
-            statistics.put("thisWeekDocuments", documentRepository.countThisWeekDocuments(startOfWeek));
+        // 처리 완료/미완료 통계
+        statistics.put("completedTotal", approvedCount + rejectedCount);
+        statistics.put("pendingTotal", waitingCount + reviewingCount);
 
-            LocalDateTime startOfMonth = LocalDateTime.now().minusDays(30);
-            statistics.put("thisMonthDocuments", documentRepository.countThisMonthDocuments(startOfMonth));
+        // 기간별 통계
+        statistics.put("todayDocuments", todayDocuments);
+        statistics.put("thisWeekDocuments", thisWeekDocuments);
+        statistics.put("thisMonthDocuments", thisMonthDocuments);
 
-            // 긴급 서류 수
-            statistics.put("urgentDocuments", getUrgentDocuments().size());
+        // 긴급 서류 수
+        statistics.put("urgentDocuments", urgentDocuments);
 
-            // 평균 처리 시간
-            Double avgProcessingTime = documentRepository.getAverageProcessingTimeInHours();
-            statistics.put("averageProcessingHours", avgProcessingTime != null ? avgProcessingTime : 0.0);
+        // 평균 처리 시간
+        double avgProcessingTime = processedCount > 0 ? (double) processingHoursSum / processedCount : 0.0;
+        statistics.put("averageProcessingHours", avgProcessingTime);
 
-            logger.info("서류 통계 조회 완료 - 전체: {}, 대기: {}, 검토중: {}, 승인: {}, 반려: {}",
-                    totalDocuments,
-                    statistics.get("waitingCount"),
-                    statistics.get("reviewingCount"),
-                    statistics.get("approvedCount"),
-                    statistics.get("rejectedCount"));
+        logger.info("서류 통계 조회 완료 - 전체: {}, 대기: {}, 검토중: {}, 승인: {}, 반려: {}",
+                totalDocuments, waitingCount, reviewingCount, approvedCount, rejectedCount);
 
-            return statistics;
+        return statistics;
+    }
 
-        } catch (Exception e) {
-            logger.error("서류 통계 조회 실패", e);
-            throw new RuntimeException("서류 통계 조회에 실패했습니다: " + e.getMessage());
-        }
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
     }
 
     // =============================================================================
@@ -315,41 +389,17 @@ public class DocumentService {
 
     /**
      * 파일 업로드 처리
+     * ✅ 공용 저장 엔진 사용 (업로드 기본 경로 기준, 동일 파일 중복 제거)
      */
     private String saveUploadedFile(MultipartFile file) throws IOException {
-        // 업로드 디렉토리 생성
-        Path uploadPath = Paths.get(uploadDirectory);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
-
-        // 파일명 생성 (UUID + 원본 확장자)
-        String originalFilename = file.getOriginalFilename();
-        String extension = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-        }
-        String fileName = UUID.randomUUID().toString() + extension;
-
-        // 파일 저장
-        Path filePath = uploadPath.resolve(fileName);
-        Files.copy(file.getInputStream(), filePath);
-
-        return uploadDirectory + fileName;
+        return "uploads/" + contentStorageService.store(file);
     }
 
     /**
-     * 파일 삭제 처리
+     * 파일 삭제 처리 (참조 해제 - 커밋 이후, 롤백되면 파일 유지)
      */
     private void deleteUploadedFile(String filePath) {
-        try {
-            Path path = Paths.get(filePath);
-            if (Files.exists(path)) {
-                Files.delete(path);
-            }
-        } catch (IOException e) {
-            // 파일 삭제 실패는 로그만 남기고 진행
-            logger.warn("파일 삭제 실패: {} - {}", filePath, e.getMessage());
-        }
+        // 파일 삭제 실패는 저장 엔진에서 로그만 남기고 진행
+        contentStorageService.releaseAfterCommit(filePath);
     }
-}
\ No newline at end of file
+}
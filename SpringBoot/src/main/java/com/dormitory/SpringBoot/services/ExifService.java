@@ -1,7 +1,9 @@
 package com.dormitory.SpringBoot.services;
 
+import com.dormitory.SpringBoot.utils.TracingUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -29,6 +31,9 @@ public class ExifService {
     private static final Logger logger = LoggerFactory.getLogger(ExifService.class);
     private static final DateTimeFormatter EXIF_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss");
 
+    @Autowired
+    private TracingUtil tracing;
+
     /**
      * EXIF 검증 결과
      */
@@ -107,7 +112,7 @@ public class ExifService {
         try {
             logger.info("EXIF 검증 시작 - 허용 오차: {}분", toleranceMinutes);
 
-            Map<String, Object> exifData = extractExifData(imageFile);
+            Map<String, Object> exifData = tracing.inSpan("exif.extract", () -> extractExifData(imageFile));
 
             // 기존 검증
             boolean timeValid = validateCaptureTime(exifData, toleranceMinutes);
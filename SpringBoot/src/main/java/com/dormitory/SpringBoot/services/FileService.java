@@ -1,25 +1,19 @@
 package com.dormitory.SpringBoot.services;
 
-import jakarta.annotation.PostConstruct;
+import com.dormitory.SpringBoot.utils.TracingUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.io.InputStream;
 
 /**
  * 파일 업로드 및 관리를 담당하는 서비스
  * ✅ 수정: Railway Volume 경로 지원 (/app/uploads)
+ * ✅ 저장/삭제는 ContentStorageService(내용 주소 기반, 중복 제거)에 위임
  */
 @Service
 public class FileService {
@@ -32,73 +26,27 @@ public class FileService {
     // 최대 파일 크기 (5MB)
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024;
 
-    @Value("${file.upload.base-path:uploads}")
-    private String configuredUploadPath;
+    @Autowired
+    private ContentStorageService contentStorageService;
 
-    // ✅ 실제 사용할 업로드 경로 (런타임에 결정)
-    private String baseUploadPath;
+    @Autowired
+    private ImageRenditionService imageRenditionService;
 
-    /**
-     * ✅ 서비스 초기화 시 업로드 경로 설정
-     */
-    @PostConstruct
-    public void init() {
-        this.baseUploadPath = resolveUploadPath();
-        ensureDirectoryExists(baseUploadPath);
-        logger.info("[FileService] 업로드 기본 경로 설정: {}", baseUploadPath);
-    }
-
-    /**
-     * ✅ 업로드 경로 결정 (Railway Volume 지원)
-     */
-    private String resolveUploadPath() {
-        // 1. 환경변수 FILE_UPLOAD_PATH 확인
-        String envPath = System.getenv("FILE_UPLOAD_PATH");
-        if (envPath != null && !envPath.isEmpty()) {
-            logger.info("[FileService] 환경변수 FILE_UPLOAD_PATH 사용: {}", envPath);
-            return envPath;
-        }
-
-        // 2. Railway Volume 경로 확인 (/app/uploads)
-        File railwayVolume = new File("/app/uploads");
-        if (railwayVolume.exists() || isRunningOnRailway()) {
-            logger.info("[FileService] Railway Volume 경로 사용: /app/uploads");
-            return "/app/uploads";
-        }
-
-        // 3. 로컬 개발 환경 (현재 작업 디렉토리)
-        String localPath = System.getProperty("user.dir") + "/uploads";
-        logger.info("[FileService] 로컬 개발 경로 사용: {}", localPath);
-        return localPath;
-    }
-
-    /**
-     * ✅ Railway 환경인지 확인
-     */
-    private boolean isRunningOnRailway() {
-        return System.getenv("RAILWAY_ENVIRONMENT") != null ||
-                System.getenv("RAILWAY_PROJECT_ID") != null;
-    }
-
-    /**
-     * ✅ 디렉토리가 없으면 생성
-     */
-    private void ensureDirectoryExists(String path) {
-        File dir = new File(path);
-        if (!dir.exists()) {
-            boolean created = dir.mkdirs();
-            logger.info("[FileService] 디렉토리 생성: {} - {}", path, (created ? "성공" : "실패 또는 이미 존재"));
-        }
-    }
+    @Autowired
+    private TracingUtil tracing;
 
     /**
      * 이미지 파일 업로드
      *
      * @param file 업로드할 파일
-     * @param category 파일 카테고리 (inspection, document, room-templates 등)
+     * @param category 파일 카테고리 (inspection, document, room-templates 등 - 로그/추적용, 저장 경로는 카테고리와 무관한 cas/)
      * @return 업로드된 파일의 상대 경로
      */
     public String uploadImage(MultipartFile file, String category) {
+        return tracing.inSpan("file.upload", () -> storeImage(file, category), "file.category", category);
+    }
+
+    private String storeImage(MultipartFile file, String category) {
         try {
             logger.info("파일 업로드 시작 - 카테고리: {}, 파일명: {}, 크기: {}",
                     category, file.getOriginalFilename(), formatFileSize(file.getSize()));
@@ -106,25 +54,13 @@ public class FileService {
             // 파일 유효성 검사
             validateImageFile(file);
 
-            // 업로드 디렉토리 생성
-            String uploadDir = createUploadDirectory(category);
-
-            // 파일명 생성 (중복 방지를 위해 UUID 사용)
-            String originalFilename = file.getOriginalFilename();
-            String extension = getFileExtension(originalFilename);
-            String fileName = generateFileName(extension);
-
-            // 파일 저장
-            Path targetPath = Paths.get(uploadDir, fileName);
-            Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+            // 내용 주소 기반 저장 (동일 파일은 기존 경로 재사용)
+            String relativePath = contentStorageService.store(file);
 
-            // 상대 경로 반환 (날짜 폴더 포함)
-            LocalDateTime now = LocalDateTime.now();
-            String datePath = now.format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-            String relativePath = category + "/" + datePath + "/" + fileName;
+            // 썸네일/웹용 파생본 비동기 생성
+            imageRenditionService.requestRenditions(relativePath);
 
-            logger.info("파일 업로드 완료: {}", relativePath);
-            logger.info("실제 저장 경로: {}", targetPath);
+            logger.info("파일 업로드 완료 - 카테고리: {}, 경로: {}", category, relativePath);
             return relativePath;
 
         } catch (Exception e) {
@@ -134,33 +70,18 @@ public class FileService {
     }
 
     /**
-     * 파일 삭제
+     * 파일 삭제 (참조 해제)
+     * 다른 곳에서 같은 내용의 파일을 참조 중이면 실제 파일은 유지됨
      *
      * @param filePath 삭제할 파일 경로 (상대 경로)
-     * @return 삭제 성공 여부
+     * @return 실제 파일 삭제 여부
      */
     public boolean deleteFile(String filePath) {
-        try {
-            if (filePath == null || filePath.isEmpty()) {
-                logger.warn("삭제할 파일 경로가 비어있습니다");
-                return false;
-            }
-
-            Path fullPath = Paths.get(baseUploadPath, filePath);
-
-            if (Files.exists(fullPath)) {
-                Files.delete(fullPath);
-                logger.info("파일 삭제 완료: {}", filePath);
-                return true;
-            } else {
-                logger.warn("삭제할 파일이 존재하지 않습니다: {}", filePath);
-                return false;
-            }
-
-        } catch (Exception e) {
-            logger.error("파일 삭제 중 오류 발생: {}", filePath, e);
+        if (filePath == null || filePath.isEmpty()) {
+            logger.warn("삭제할 파일 경로가 비어있습니다");
             return false;
         }
+        return tracing.inSpan("file.delete", () -> contentStorageService.release(filePath));
     }
 
     /**
@@ -171,12 +92,7 @@ public class FileService {
      */
     public boolean fileExists(String filePath) {
         try {
-            if (filePath == null || filePath.isEmpty()) {
-                return false;
-            }
-
-            Path fullPath = Paths.get(baseUploadPath, filePath);
-            return Files.exists(fullPath);
+            return contentStorageService.exists(filePath);
 
         } catch (Exception e) {
             logger.error("파일 존재 여부 확인 중 오류 발생: {}", filePath, e);
@@ -194,14 +110,14 @@ public class FileService {
         if (filePath == null || filePath.isEmpty()) {
             return null;
         }
-        return Paths.get(baseUploadPath, filePath).toString();
+        return contentStorageService.resolve(filePath).toString();
     }
 
     /**
      * ✅ 현재 업로드 기본 경로 반환 (디버깅용)
      */
     public String getBaseUploadPath() {
-        return baseUploadPath;
+        return contentStorageService.getBaseUploadPath();
     }
 
     /**
@@ -253,9 +169,9 @@ public class FileService {
      * 파일 시그니처 검사 (Magic Number)
      */
     private boolean isValidImageSignature(MultipartFile file) {
-        try {
+        try (InputStream in = file.getInputStream()) {
             byte[] bytes = new byte[8];
-            file.getInputStream().read(bytes, 0, 8);
+            in.read(bytes, 0, 8);
 
             String hex = bytesToHex(bytes, 8);
 
@@ -299,25 +215,6 @@ public class FileService {
         return sb.toString().trim();
     }
 
-    /**
-     * 업로드 디렉토리 생성
-     * ✅ 수정: baseUploadPath 사용
-     */
-    private String createUploadDirectory(String category) throws IOException {
-        // 날짜별 폴더 구조: /app/uploads/category/yyyy/MM/dd/
-        LocalDateTime now = LocalDateTime.now();
-        String datePath = now.format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-
-        Path uploadPath = Paths.get(baseUploadPath, category, datePath);
-
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-            logger.info("업로드 디렉토리 생성: {}", uploadPath.toString());
-        }
-
-        return uploadPath.toString();
-    }
-
     /**
      * 파일 확장자 추출
      */
@@ -328,16 +225,6 @@ public class FileService {
         return filename.substring(filename.lastIndexOf(".")).toLowerCase();
     }
 
-    /**
-     * 고유 파일명 생성
-     */
-    private String generateFileName(String extension) {
-        LocalDateTime now = LocalDateTime.now();
-        String timestamp = now.format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String uuid = UUID.randomUUID().toString().substring(0, 8);
-        return timestamp + "_" + uuid + extension;
-    }
-
     /**
      * 파일 크기 포맷팅
      */
@@ -0,0 +1,395 @@
+package com.dormitory.SpringBoot.services;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * JDK Flight Recorder 온디맨드 프로파일링 (관리자 진단용)
+ * ✅ 프로파일(default/profile)과 기록 시간을 지정해 녹화 시작 - 시간이 지나면 자동 종료 후 .jfr 파일로 저장
+ * ✅ 녹화 목록/중지/삭제, 완료된 .jfr 파일 다운로드
+ * ✅ 요약: 할당 상위 지점, 실행 샘플 상위 메서드, 모니터/park 잠금 경합
+ * 동시에 진행 중인 녹화는 1개로 제한하고, 보관 개수를 넘으면 오래된 녹화부터 삭제
+ */
+@Service
+public class FlightRecorderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderService.class);
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    @Value("${diagnostic.jfr.directory:logs/jfr}")
+    private String directory;
+
+    @Value("${diagnostic.jfr.max-duration-seconds:600}")
+    private long maxDurationSeconds;
+
+    @Value("${diagnostic.jfr.max-recordings:10}")
+    private int maxRecordings;
+
+    // 관리 중인 녹화 (녹화 ID → 녹화)
+    private final ConcurrentSkipListMap<Long, Recording> recordings = new ConcurrentSkipListMap<>();
+
+    /**
+     * 녹화 시작
+     */
+    public synchronized Map<String, Object> start(String profile, long durationSeconds) {
+        if (!FlightRecorder.isAvailable()) {
+            throw new RuntimeException("이 JVM에서는 Flight Recorder를 사용할 수 없습니다.");
+        }
+        if (durationSeconds <= 0 || durationSeconds > maxDurationSeconds) {
+            throw new RuntimeException("기록 시간은 1~" + maxDurationSeconds + "초 사이여야 합니다.");
+        }
+        boolean running = recordings.values().stream()
+                .anyMatch(recording -> recording.getState() == RecordingState.RUNNING
+                        || recording.getState() == RecordingState.DELAYED);
+        if (running) {
+            throw new RuntimeException("이미 진행 중인 녹화가 있습니다. 종료 후 다시 시도하세요.");
+        }
+
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(profile);
+        } catch (IOException | ParseException e) {
+            throw new RuntimeException("알 수 없는 JFR 프로파일입니다: " + profile + " (사용 가능: " + availableProfiles() + ")");
+        }
+
+        try {
+            Path dir = Paths.get(directory).toAbsolutePath();
+            Files.createDirectories(dir);
+
+            Recording recording = new Recording(configuration);
+            String name = "dormitory-" + profile + "-" + LocalDateTime.now().format(FILE_TIMESTAMP);
+            recording.setName(name);
+            recording.setToDisk(true);
+            recording.setDuration(Duration.ofSeconds(durationSeconds));
+            recording.setDestination(dir.resolve(name + ".jfr"));
+            recording.start();
+
+            recordings.put(recording.getId(), recording);
+            evictOldRecordings();
+
+            logger.info("JFR 녹화 시작 - ID: {}, 프로파일: {}, 기록 시간: {}초", recording.getId(), profile, durationSeconds);
+            return describe(recording);
+
+        } catch (IOException e) {
+            throw new RuntimeException("JFR 녹화를 시작할 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 녹화 조기 종료 (파일로 저장)
+     */
+    public synchronized Map<String, Object> stop(long id) {
+        Recording recording = getRecording(id);
+        if (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED) {
+            recording.stop();
+            logger.info("JFR 녹화 종료 - ID: {}", id);
+        }
+        return describe(recording);
+    }
+
+    /**
+     * 녹화 삭제 (파일 포함)
+     */
+    public synchronized void delete(long id) {
+        close(getRecording(id));
+        recordings.remove(id);
+    }
+
+    /**
+     * 녹화 목록 (최신순)
+     */
+    public List<Map<String, Object>> list() {
+        return recordings.descendingMap().values().stream()
+                .map(this::describe)
+                .collect(Collectors.toList());
+    }
+
+    public List<String> availableProfiles() {
+        return Configuration.getConfigurations().stream()
+                .map(Configuration::getName)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 완료된 녹화 파일 경로
+     */
+    public Path getRecordingFile(long id) {
+        Recording recording = getRecording(id);
+        if (recording.getState() != RecordingState.STOPPED) {
+            throw new RuntimeException("녹화가 아직 완료되지 않았습니다. (상태: " + recording.getState() + ")");
+        }
+        Path file = recording.getDestination();
+        if (file == null || !Files.isRegularFile(file)) {
+            throw new RuntimeException("녹화 파일을 찾을 수 없습니다: " + id);
+        }
+        return file;
+    }
+
+    /**
+     * 녹화 요약 - 할당 상위 지점, 상위 메서드, 잠금 경합
+     * ✅ 할당: jdk.ObjectAllocationSample 가중치(추정 바이트) 합계, 최상위 프레임 기준
+     * ✅ 메서드: jdk.ExecutionSample 샘플 수, 최상위 프레임(self) 기준
+     * ✅ 잠금: jdk.JavaMonitorEnter(synchronized), jdk.ThreadPark(j.u.c 락) 대기 시간 합계, 대상 클래스 + 호출 지점 기준
+     * ✅ ThreadPark는 락/AQS 획득 대기만 집계 - 작업 큐 take/poll, getTask 등 유휴 워커 대기는 idleParks로 따로 셈
+     */
+    public Map<String, Object> summarize(long id, int top) {
+        Path file = getRecordingFile(id);
+        int limit = Math.max(1, Math.min(top, 100));
+
+        Map<String, long[]> allocations = new HashMap<>();
+        Map<String, long[]> executions = new HashMap<>();
+        Map<String, long[]> contention = new HashMap<>();
+        long allocationEvents = 0;
+        long executionSamples = 0;
+        long contentionEvents = 0;
+        long idleParks = 0;
+
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                switch (event.getEventType().getName()) {
+                    case "jdk.ObjectAllocationSample" -> {
+                        allocationEvents++;
+                        accumulate(allocations, topFrame(event.getStackTrace()), event.getLong("weight"));
+                    }
+                    case "jdk.ExecutionSample" -> {
+                        executionSamples++;
+                        accumulate(executions, topFrame(event.getStackTrace()), 0);
+                    }
+                    case "jdk.JavaMonitorEnter" -> {
+                        contentionEvents++;
+                        accumulate(contention, "monitor " + className(event, "monitorClass")
+                                + " @ " + topFrame(event.getStackTrace()), event.getDuration().toNanos());
+                    }
+                    case "jdk.ThreadPark" -> {
+                        if (!isLockPark(event)) {
+                            idleParks++;
+                            continue;
+                        }
+                        contentionEvents++;
+                        accumulate(contention, "park " + className(event, "parkedClass")
+                                + " @ " + callerFrame(event.getStackTrace()), event.getDuration().toNanos());
+                    }
+                    default -> {
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("녹화 파일을 읽을 수 없습니다: " + e.getMessage());
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("recording", describe(getRecording(id)));
+        summary.put("allocationSamples", allocationEvents);
+        summary.put("topAllocationSites", topEntries(allocations, limit, "site", "estimatedBytes"));
+        summary.put("executionSamples", executionSamples);
+        summary.put("hotMethods", topEntries(executions, limit, "method", null));
+        summary.put("contentionEvents", contentionEvents);
+        summary.put("idleParks", idleParks);
+        summary.put("lockContention", topEntries(contention, limit, "lock", "totalWaitNanos"));
+        return summary;
+    }
+
+    /**
+     * 종료 시 진행 중인 녹화 정리 (파일은 유지)
+     */
+    @PreDestroy
+    public void shutdown() {
+        recordings.values().forEach(recording -> {
+            try {
+                if (recording.getState() == RecordingState.RUNNING) {
+                    recording.stop();
+                }
+                recording.close();
+            } catch (Exception e) {
+                logger.warn("JFR 녹화 정리 실패 - ID: {}", recording.getId(), e);
+            }
+        });
+    }
+
+    private Recording getRecording(long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            throw new RuntimeException("녹화를 찾을 수 없습니다: " + id);
+        }
+        return recording;
+    }
+
+    /**
+     * 보관 개수를 넘은 완료 녹화를 오래된 순으로 삭제
+     */
+    private void evictOldRecordings() {
+        List<Long> finished = recordings.entrySet().stream()
+                .filter(entry -> entry.getValue().getState() == RecordingState.STOPPED)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        int excess = recordings.size() - maxRecordings;
+        for (int i = 0; i < excess && i < finished.size(); i++) {
+            Recording removed = recordings.remove(finished.get(i));
+            close(removed);
+            logger.info("오래된 JFR 녹화 삭제 - ID: {}", removed.getId());
+        }
+    }
+
+    private void close(Recording recording) {
+        Path file = recording.getDestination();
+        recording.close();
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("JFR 파일 삭제 실패: {}", file, e);
+            }
+        }
+    }
+
+    private Map<String, Object> describe(Recording recording) {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("id", recording.getId());
+        info.put("name", recording.getName());
+        info.put("state", recording.getState().name());
+        info.put("durationSeconds", recording.getDuration() != null ? recording.getDuration().getSeconds() : null);
+        info.put("startTime", toLocal(recording.getStartTime()));
+        info.put("stopTime", toLocal(recording.getStopTime()));
+        Path file = recording.getDestination();
+        if (file != null && Files.isRegularFile(file)) {
+            try {
+                info.put("fileSize", Files.size(file));
+            } catch (IOException e) {
+                info.put("fileSize", null);
+            }
+        }
+        return info;
+    }
+
+    private static String toLocal(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneId.systemDefault()).toString() : null;
+    }
+
+    private static void accumulate(Map<String, long[]> totals, String key, long amount) {
+        long[] total = totals.computeIfAbsent(key, k -> new long[2]);
+        total[0]++;
+        total[1] += amount;
+    }
+
+    /**
+     * 상위 항목 (amountLabel이 있으면 합계 기준, 없으면 건수 기준 정렬)
+     */
+    private static List<Map<String, Object>> topEntries(Map<String, long[]> totals, int limit,
+                                                        String keyLabel, String amountLabel) {
+        int index = amountLabel != null ? 1 : 0;
+        long grandTotal = totals.values().stream().mapToLong(total -> total[index]).sum();
+
+        List<Map<String, Object>> entries = new ArrayList<>();
+        totals.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[index]).reversed())
+                .limit(limit)
+                .forEach(entry -> {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    item.put(keyLabel, entry.getKey());
+                    item.put("count", entry.getValue()[0]);
+                    if (amountLabel != null) {
+                        item.put(amountLabel, entry.getValue()[1]);
+                    }
+                    item.put("percent", grandTotal > 0
+                            ? Math.round(entry.getValue()[index] * 10000.0 / grandTotal) / 100.0 : 0.0);
+                    entries.add(item);
+                });
+        return entries;
+    }
+
+    private static String topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "(unknown)";
+        }
+        return formatFrame(stackTrace.getFrames().get(0));
+    }
+
+    /**
+     * park 이벤트는 최상위가 항상 Unsafe/LockSupport이므로 JDK 동시성 패키지 밖의 첫 프레임 사용
+     */
+    private static String callerFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "(unknown)";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("jdk.internal.") && !type.startsWith("java.util.concurrent.")) {
+                return formatFrame(frame);
+            }
+        }
+        return formatFrame(stackTrace.getFrames().get(0));
+    }
+
+    /**
+     * 락 획득 대기 park 여부
+     * ✅ 대상이 락/동기화기(ReentrantLock$Sync, ReentrantReadWriteLock, StampedLock 등)인 경우만 인정
+     *    - Condition 대기(ConditionObject)와 대상 없는 parkNanos는 제외
+     * ✅ 스택에 큐 take/poll, ThreadPoolExecutor.getTask, Tomcat TaskQueue가 있으면 유휴 워커 대기로 제외
+     */
+    private static boolean isLockPark(RecordedEvent event) {
+        String parkedClass = className(event, "parkedClass");
+        if (parkedClass.endsWith("$ConditionObject")
+                || !(parkedClass.startsWith("java.util.concurrent.locks.")
+                || parkedClass.endsWith("Lock") || parkedClass.contains("Lock$")
+                || parkedClass.endsWith("Sync"))) {
+            return false;
+        }
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return true;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            String method = frame.getMethod().getName();
+            if (type.endsWith("ThreadPoolExecutor") && method.equals("getTask")
+                    || type.equals("org.apache.tomcat.util.threads.TaskQueue")
+                    || type.endsWith("Queue") && (method.equals("take") || method.equals("poll"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String formatFrame(RecordedFrame frame) {
+        String method = frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+        return frame.getLineNumber() > 0 ? method + ":" + frame.getLineNumber() : method;
+    }
+
+    private static String className(RecordedEvent event, String field) {
+        RecordedClass recordedClass = event.hasField(field) ? event.getClass(field) : null;
+        return recordedClass != null ? recordedClass.getName() : "(unknown)";
+    }
+}
@@ -16,9 +16,7 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
 import java.util.*;
 
 /**
@@ -53,6 +51,20 @@ public class GeminiService {
     @Value("${gemini.fallback.enabled:true}")
     private boolean fallbackEnabled;
 
+    private static final String[] FALLBACK_FEEDBACKS = {
+            "방 상태가 전반적으로 깔끔하게 정리되어 있습니다.",
+            "정리정돈이 잘 되어있고 청결한 상태입니다.",
+            "침구류가 잘 정리되어 있고 바닥이 깨끗합니다.",
+            "전체적으로 생활하기 좋은 환경으로 보입니다.",
+            "방 청소와 정리가 잘 되어 있어 보기 좋습니다."
+    };
+
+    @Autowired
+    private InspectionMetrics metrics;
+
+    @Autowired
+    private ContentStorageService contentStorageService;
+
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
 
@@ -84,79 +96,109 @@ public class GeminiService {
             this.isNotRoomPhoto = isNotRoomPhoto;
         }
 
+        private boolean fallback = false;
+
+        /**
+         * 실제 AI 분석 결과가 아닌 대체 점수/피드백임을 표시
+         */
+        AnalysisResult asFallback() {
+            this.fallback = true;
+            return this;
+        }
+
         public int getScore() { return score; }
         public String getFeedback() { return feedback; }
         public boolean isSuccess() { return success; }
         public boolean isNotRoomPhoto() { return isNotRoomPhoto; }
+        public boolean isFallback() { return fallback; }
+    }
+
+    /**
+     * ✅ 점호 평가 - 점수와 피드백 (기존과 같이 점수/피드백 각각 Gemini 호출)
+     * 둘 중 하나라도 대체 값이면 isFallback
+     */
+    public AnalysisResult evaluate(MultipartFile imageFile) {
+        AnalysisResult score = evaluateScore(imageFile);
+        AnalysisResult feedback = evaluateFeedback(imageFile);
+        AnalysisResult result = new AnalysisResult(score.getScore(), feedback.getFeedback(),
+                score.isSuccess() && feedback.isSuccess());
+        return score.isFallback() || feedback.isFallback() ? result.asFallback() : result;
     }
 
     /**
      * MultipartFile로부터 점호 평가 점수 반환
      */
     public int evaluateInspection(MultipartFile imageFile) {
+        return evaluateScore(imageFile).getScore();
+    }
+
+    /**
+     * MultipartFile로부터 점호 피드백 반환
+     */
+    public String getInspectionFeedback(MultipartFile imageFile) {
+        return evaluateFeedback(imageFile).getFeedback();
+    }
+
+    /**
+     * 점호 평가 점수 (API 실패 시 설정에 따라 대체 점수)
+     */
+    private AnalysisResult evaluateScore(MultipartFile imageFile) {
         try {
             logger.info("점호 평가 점수 계산 시작");
 
             String base64Image = encodeMultipartFileToBase64(imageFile);
             if (base64Image == null) {
                 logger.error("이미지 인코딩 실패 - Fallback 점수 반환");
-                return fallbackEnabled ? fallbackScore : 0;
+                return new AnalysisResult(fallbackEnabled ? fallbackScore : 0, null, fallbackEnabled).asFallback();
             }
 
             AnalysisResult result = analyzeImageWithBase64(base64Image);
 
             if (result.isSuccess()) {
-                return result.getScore();
+                return result;
             } else {
                 logger.warn("Gemini API 분석 실패 - Fallback 점수 사용: {}", result.getFeedback());
                 if (fallbackEnabled) {
-                    return 6 + (int)(Math.random() * 3);
+                    return new AnalysisResult(6 + (int)(Math.random() * 3), null, true).asFallback();
                 }
-                return 0;
+                return new AnalysisResult(0, null, false).asFallback();
             }
 
         } catch (Exception e) {
             logger.error("점호 평가 중 예외 발생 - Fallback 점수 반환", e);
-            return fallbackEnabled ? fallbackScore : 0;
+            return new AnalysisResult(fallbackEnabled ? fallbackScore : 0, null, fallbackEnabled).asFallback();
         }
     }
 
     /**
-     * MultipartFile로부터 점호 피드백 반환
+     * 점호 피드백 (API 실패 시 설정에 따라 기본 피드백)
      */
-    public String getInspectionFeedback(MultipartFile imageFile) {
+    private AnalysisResult evaluateFeedback(MultipartFile imageFile) {
         try {
             logger.info("점호 피드백 생성 시작");
 
             String base64Image = encodeMultipartFileToBase64(imageFile);
             if (base64Image == null) {
                 logger.error("이미지 인코딩 실패 - 기본 피드백 반환");
-                return "이미지 분석이 완료되었습니다. 방 상태가 양호합니다.";
+                return new AnalysisResult(0, "이미지 분석이 완료되었습니다. 방 상태가 양호합니다.", false).asFallback();
             }
 
             AnalysisResult result = analyzeImageWithBase64(base64Image);
 
             if (result.isSuccess()) {
-                return result.getFeedback();
+                return result;
             } else {
                 logger.warn("Gemini API 피드백 생성 실패 - 기본 피드백 사용");
                 if (fallbackEnabled) {
-                    String[] fallbackMessages = {
-                            "방 상태가 전반적으로 깔끔하게 정리되어 있습니다.",
-                            "정리정돈이 잘 되어있고 청결한 상태입니다.",
-                            "침구류가 잘 정리되어 있고 바닥이 깨끗합니다.",
-                            "전체적으로 생활하기 좋은 환경으로 보입니다.",
-                            "방 청소와 정리가 잘 되어 있어 보기 좋습니다."
-                    };
-                    int randomIndex = (int)(Math.random() * fallbackMessages.length);
-                    return fallbackMessages[randomIndex];
+                    int randomIndex = (int)(Math.random() * FALLBACK_FEEDBACKS.length);
+                    return new AnalysisResult(0, FALLBACK_FEEDBACKS[randomIndex], true).asFallback();
                 }
-                return result.getFeedback();
+                return new AnalysisResult(0, result.getFeedback(), false).asFallback();
             }
 
         } catch (Exception e) {
             logger.error("점호 피드백 생성 중 예외 발생", e);
-            return "점호가 완료되었습니다.";
+            return new AnalysisResult(0, "점호가 완료되었습니다.", false).asFallback();
         }
     }
 
@@ -225,27 +267,28 @@ public class GeminiService {
             String fullUrl = apiUrl + "?key=" + apiKey;
             logger.info("Gemini API 호출 시작");
 
-            ResponseEntity<String> response = restTemplate.postForEntity(fullUrl, request, String.class);
+            ResponseEntity<String> response = metrics.gemini("request",
+                    () -> restTemplate.postForEntity(fullUrl, request, String.class));
 
             logger.info("Gemini API 응답 상태: {}", response.getStatusCode());
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return parseGeminiResponse(response.getBody());
+                return metrics.gemini("parse", () -> parseGeminiResponse(response.getBody()));
             } else {
                 logger.error("Gemini API 호출 실패. Status: {}", response.getStatusCode());
-                return new AnalysisResult(fallbackScore, "AI 분석 서비스에 오류가 발생했습니다.", fallbackEnabled);
+                return new AnalysisResult(fallbackScore, "AI 분석 서비스에 오류가 발생했습니다.", fallbackEnabled).asFallback();
             }
 
         } catch (Exception e) {
             logger.error("Base64 이미지 분석 중 오류 발생", e);
-            return new AnalysisResult(fallbackScore, "분석 중 오류가 발생했습니다: " + e.getMessage(), fallbackEnabled);
+            return new AnalysisResult(fallbackScore, "분석 중 오류가 발생했습니다: " + e.getMessage(), fallbackEnabled).asFallback();
         }
     }
 
     /**
      * MultipartFile을 Base64로 인코딩
      */
-    private String encodeMultipartFileToBase64(MultipartFile file) {
+    String encodeMultipartFileToBase64(MultipartFile file) {
         try {
             if (file == null || file.isEmpty()) {
                 logger.error("업로드된 파일이 비어있습니다.");
@@ -263,17 +306,16 @@ public class GeminiService {
 
     /**
      * 이미지 파일을 Base64로 인코딩
+     * ✅ 업로드 상대 경로를 저장소 SPI로 읽음 (로컬 디스크 / S3 모두 동작)
      */
     private String encodeImageToBase64(String imagePath) {
-        try {
-            Path path = Paths.get(imagePath);
-            if (!Files.exists(path)) {
-                logger.error("이미지 파일이 존재하지 않습니다: {}", imagePath);
-                return null;
-            }
+        if (!contentStorageService.exists(imagePath)) {
+            logger.error("이미지 파일이 존재하지 않습니다: {}", imagePath);
+            return null;
+        }
 
-            byte[] imageBytes = Files.readAllBytes(path);
-            return Base64.encodeBase64String(imageBytes);
+        try (InputStream in = contentStorageService.open(imagePath)) {
+            return Base64.encodeBase64String(in.readAllBytes());
 
         } catch (IOException e) {
             logger.error("이미지 파일 읽기 실패: {}", imagePath, e);
@@ -360,8 +402,9 @@ public class GeminiService {
 
     /**
      * ✅ Gemini API 응답 파싱 (개선된 버전)
+     * 벤치마크(src/jmh)에서 직접 호출하므로 package-private
      */
-    private AnalysisResult parseGeminiResponse(String responseBody) {
+    AnalysisResult parseGeminiResponse(String responseBody) {
         try {
             logger.debug("Gemini API 응답 파싱 시작");
 
@@ -370,25 +413,25 @@ public class GeminiService {
             if (rootNode.has("error")) {
                 String errorMessage = rootNode.path("error").path("message").asText("알 수 없는 API 오류");
                 logger.error("Gemini API가 오류를 반환했습니다: {}", errorMessage);
-                return new AnalysisResult(fallbackScore, "AI 분석 서비스 오류: " + errorMessage, fallbackEnabled);
+                return new AnalysisResult(fallbackScore, "AI 분석 서비스 오류: " + errorMessage, fallbackEnabled).asFallback();
             }
 
             JsonNode promptFeedbackNode = rootNode.path("promptFeedback");
             if (!promptFeedbackNode.isMissingNode() && promptFeedbackNode.has("blockReason")) {
                 String blockReason = promptFeedbackNode.path("blockReason").asText();
                 logger.error("Gemini API 요청이 차단되었습니다. 이유: {}", blockReason);
-                return new AnalysisResult(fallbackScore, "AI 분석이 거부되었습니다.", fallbackEnabled);
+                return new AnalysisResult(fallbackScore, "AI 분석이 거부되었습니다.", fallbackEnabled).asFallback();
             }
 
             JsonNode candidatesNode = rootNode.path("candidates");
             if (candidatesNode.isEmpty() || !candidatesNode.isArray()) {
                 logger.error("Gemini API 응답에 candidates가 없거나 잘못된 형식입니다.");
-                return new AnalysisResult(fallbackScore, "분석 결과를 받을 수 없어 기본 점수를 적용했습니다.", fallbackEnabled);
+                return new AnalysisResult(fallbackScore, "분석 결과를 받을 수 없어 기본 점수를 적용했습니다.", fallbackEnabled).asFallback();
             }
 
             JsonNode firstCandidate = candidatesNode.get(0);
             if (firstCandidate.isMissingNode()) {
-                return new AnalysisResult(fallbackScore, "분석 결과를 받을 수 없어 기본 점수를 적용했습니다.", fallbackEnabled);
+                return new AnalysisResult(fallbackScore, "분석 결과를 받을 수 없어 기본 점수를 적용했습니다.", fallbackEnabled).asFallback();
             }
 
             String finishReason = firstCandidate.path("finishReason").asText(null);
@@ -398,25 +441,25 @@ public class GeminiService {
 
             JsonNode contentNode = firstCandidate.path("content");
             if (contentNode.isMissingNode()) {
-                return new AnalysisResult(fallbackScore, "분석 결과를 파싱할 수 없어 기본 점수를 적용했습니다.", fallbackEnabled);
+                return new AnalysisResult(fallbackScore, "분석 결과를 파싱할 수 없어 기본 점수를 적용했습니다.", fallbackEnabled).asFallback();
             }
 
             JsonNode partsNode = contentNode.path("parts");
             if (partsNode.isEmpty() || !partsNode.isArray()) {
                 if ("MAX_TOKENS".equals(finishReason)) {
-                    return new AnalysisResult(fallbackScore, "방 상태가 양호합니다. (AI 분석 부분 완료)", true);
+                    return new AnalysisResult(fallbackScore, "방 상태가 양호합니다. (AI 분석 부분 완료)", true).asFallback();
                 }
-                return new AnalysisResult(fallbackScore, "분석 결과를 파싱할 수 없어 기본 점수를 적용했습니다.", fallbackEnabled);
+                return new AnalysisResult(fallbackScore, "분석 결과를 파싱할 수 없어 기본 점수를 적용했습니다.", fallbackEnabled).asFallback();
             }
 
             JsonNode firstPart = partsNode.get(0);
             if (firstPart.isMissingNode() || !firstPart.has("text")) {
-                return new AnalysisResult(fallbackScore, "분석 결과 텍스트를 찾을 수 없어 기본 점수를 적용했습니다.", fallbackEnabled);
+                return new AnalysisResult(fallbackScore, "분석 결과 텍스트를 찾을 수 없어 기본 점수를 적용했습니다.", fallbackEnabled).asFallback();
             }
 
             String text = firstPart.path("text").asText();
             if (text == null || text.trim().isEmpty()) {
-                return new AnalysisResult(fallbackScore, "분석 결과가 비어있어 기본 점수를 적용했습니다.", fallbackEnabled);
+                return new AnalysisResult(fallbackScore, "분석 결과가 비어있어 기본 점수를 적용했습니다.", fallbackEnabled).asFallback();
             }
 
             logger.info("Gemini API 응답 텍스트: {}", text);
@@ -436,7 +479,7 @@ public class GeminiService {
 
         } catch (Exception e) {
             logger.error("분석 텍스트 파싱 중 오류 발생", e);
-            return new AnalysisResult(fallbackScore, "분석 결과를 처리하는 중 오류가 발생했습니다.", fallbackEnabled);
+            return new AnalysisResult(fallbackScore, "분석 결과를 처리하는 중 오류가 발생했습니다.", fallbackEnabled).asFallback();
         }
     }
 
@@ -546,7 +589,7 @@ public class GeminiService {
     /**
      * 텍스트에서 점수 추출
      */
-    private int extractScoreFromText(String text) {
+    int extractScoreFromText(String text) {
         int score = fallbackScore;
 
         String[] lines = text.split("\n");
@@ -572,7 +615,7 @@ public class GeminiService {
     /**
      * 텍스트에서 피드백 추출
      */
-    private String extractFeedbackFromText(String text) {
+    String extractFeedbackFromText(String text) {
         String feedback = "분석이 완료되었습니다.";
 
         if (text.length() > 20) {
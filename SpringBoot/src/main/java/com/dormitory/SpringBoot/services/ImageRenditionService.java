@@ -0,0 +1,378 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.config.AsyncConfig;
+import com.dormitory.SpringBoot.utils.ImageRenditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업로드 이미지 파생본(썸네일/웹용) 생성 서비스
+ * ✅ 업로드 직후 전용 스레드 풀에서 비동기 생성 (업로드 응답 지연 없음)
+ * ✅ 고정 크기 정사각형 썸네일 + 긴 변 기준 축소한 웹용 이미지 (JPEG)
+ * ✅ EXIF 방향은 픽셀에 반영하고 메타데이터(EXIF, GPS 등)는 제거
+ * ✅ 큰 원본은 서브샘플링으로 디코딩하여 메모리 사용량 제한
+ */
+@Service
+public class ImageRenditionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageRenditionService.class);
+
+    private static final String JPEG_CONTENT_TYPE = "image/jpeg";
+
+    @Autowired
+    private ContentStorageService contentStorageService;
+
+    @Autowired
+    @Qualifier(AsyncConfig.IMAGE_RENDITION_EXECUTOR)
+    private TaskExecutor executor;
+
+    @Value("${file.rendition.enabled:true}")
+    private boolean enabled;
+
+    @Value("${file.rendition.thumbnail-size:320}")
+    private int thumbnailSize;
+
+    @Value("${file.rendition.web-max-size:1280}")
+    private int webMaxSize;
+
+    @Value("${file.rendition.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    // 같은 원본에 대한 중복 생성 방지 (동일 내용 파일이 연달아 업로드되는 경우)
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 파생본 생성 요청 (비동기)
+     *
+     * @param imagePath 원본 상대 경로 ("uploads/" 접두사 허용)
+     */
+    public void requestRenditions(String imagePath) {
+        if (!enabled || !ImageRenditions.supports(imagePath)) {
+            return;
+        }
+        if (!inProgress.add(imagePath)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generateRenditions(imagePath);
+                } finally {
+                    inProgress.remove(imagePath);
+                }
+            });
+        } catch (RuntimeException e) {
+            inProgress.remove(imagePath);
+            logger.warn("[Rendition] 파생본 생성 요청 거부 - 경로: {}, 오류: {}", imagePath, e.getMessage());
+        }
+    }
+
+    /**
+     * 파생본 생성 (이미 존재하면 건너뜀)
+     */
+    public void generateRenditions(String imagePath) {
+        String thumbnailPath = ImageRenditions.thumbnailPathOf(imagePath);
+        String webPath = ImageRenditions.webPathOf(imagePath);
+        if (thumbnailPath == null || webPath == null) {
+            return;
+        }
+        if (contentStorageService.exists(thumbnailPath) && contentStorageService.exists(webPath)) {
+            logger.debug("[Rendition] 파생본이 이미 존재합니다: {}", imagePath);
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        Path downloaded = null;
+        try {
+            // 원격 저장소는 임시 파일로 내려받아 처리
+            Optional<Path> localPath = contentStorageService.localPath(imagePath);
+            Path source;
+            if (localPath.isPresent()) {
+                source = localPath.get();
+            } else {
+                downloaded = contentStorageService.createTempFile(".src");
+                try (InputStream in = contentStorageService.open(imagePath)) {
+                    Files.copy(in, downloaded, StandardCopyOption.REPLACE_EXISTING);
+                }
+                source = downloaded;
+            }
+
+            BufferedImage decoded = decode(source, webMaxSize);
+            if (decoded == null) {
+                logger.warn("[Rendition] 이미지를 디코딩할 수 없습니다: {}", imagePath);
+                return;
+            }
+
+            BufferedImage web = applyOrientation(scaleToFit(decoded, webMaxSize), readExifOrientation(source));
+            BufferedImage thumbnail = cropToSquare(web, thumbnailSize);
+
+            writeRendition(webPath, web);
+            writeRendition(thumbnailPath, thumbnail);
+
+            logger.info("[Rendition] 파생본 생성 완료 - 원본: {}, 웹: {}x{}, 썸네일: {}x{}, 소요: {}ms",
+                    imagePath, web.getWidth(), web.getHeight(), thumbnail.getWidth(), thumbnail.getHeight(),
+                    System.currentTimeMillis() - startTime);
+
+        } catch (Exception e) {
+            logger.error("[Rendition] 파생본 생성 실패 - 원본: {}", imagePath, e);
+        } finally {
+            deleteQuietly(downloaded);
+        }
+    }
+
+    // =============================================================================
+    // 디코딩 / 변환
+    // =============================================================================
+
+    /**
+     * 목표 크기의 2배 이상이면 서브샘플링으로 디코딩 (전체 해상도 픽셀 버퍼를 만들지 않음)
+     */
+    private BufferedImage decode(Path source, int targetSize) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longest / (targetSize * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxSize 이하가 되도록 축소 (절반씩 단계적으로 줄여 계단 현상 방지)
+     */
+    private BufferedImage scaleToFit(BufferedImage image, int maxSize) {
+        BufferedImage current = toRgb(image);
+        int width = current.getWidth();
+        int height = current.getHeight();
+        double ratio = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        while (width != targetWidth || height != targetHeight) {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = resize(current, width, height);
+        }
+        return current;
+    }
+
+    /**
+     * 가운데 기준 정사각형으로 자른 뒤 고정 크기로 축소
+     */
+    private BufferedImage cropToSquare(BufferedImage image, int size) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        int x = (image.getWidth() - side) / 2;
+        int y = (image.getHeight() - side) / 2;
+        BufferedImage square = image.getSubimage(x, y, side, side);
+        return side <= size ? toRgb(square) : scaleToFit(square, size);
+    }
+
+    private BufferedImage resize(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * JPEG 출력을 위해 투명 영역은 흰 배경으로 합성한 RGB 이미지로 변환
+     */
+    private BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage target = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, source.getWidth(), source.getHeight());
+            graphics.drawImage(source, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * EXIF 방향(1~8)을 픽셀에 반영 (메타데이터를 제거하므로 회전 정보가 사라지기 전에 적용)
+     */
+    private BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return image;
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+        boolean swap = orientation >= 5;
+
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 전치
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 역전치
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);  // 반시계 방향 90도
+        };
+
+        BufferedImage target = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트에서 방향 태그(0x0112)만 읽음 (없거나 JPEG가 아니면 1)
+     */
+    private int readExifOrientation(Path source) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(source)))) {
+            if (in.readUnsignedShort() != 0xFFD8) {
+                return 1;
+            }
+            while (true) {
+                int marker = in.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA) {
+                    return 1;
+                }
+                int length = in.readUnsignedShort();
+                if (length < 2) {
+                    return 1;
+                }
+                if (marker == 0xFFE1) {
+                    byte[] segment = new byte[length - 2];
+                    in.readFully(segment);
+                    int orientation = parseExifOrientation(segment);
+                    if (orientation > 0) {
+                        return orientation;
+                    }
+                } else {
+                    in.skipNBytes(length - 2);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            return 1;
+        }
+    }
+
+    /**
+     * @return 방향 값, Exif 세그먼트가 아니면 0
+     */
+    private int parseExifOrientation(byte[] segment) {
+        if (segment.length < 14 || segment[0] != 'E' || segment[1] != 'x'
+                || segment[2] != 'i' || segment[3] != 'f') {
+            return 0;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(segment, 6, segment.length - 6).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+
+        int ifdOffset = tiff.getInt(4);
+        if (ifdOffset < 8 || ifdOffset + 2 > tiff.limit()) {
+            return 1;
+        }
+        int entries = tiff.getShort(ifdOffset) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = ifdOffset + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                break;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == 0x0112) {
+                int value = tiff.getShort(entry + 8) & 0xFFFF;
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    // =============================================================================
+    // 저장
+    // =============================================================================
+
+    /**
+     * JPEG로 인코딩하여 저장 (메타데이터 없이 기록하므로 EXIF 제거됨)
+     */
+    private void writeRendition(String renditionPath, BufferedImage image) throws IOException {
+        Path temp = contentStorageService.createTempFile(".jpg");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(output);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            contentStorageService.storeDerived(renditionPath, temp, JPEG_CONTENT_TYPE);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("[Rendition] 임시 파일 삭제 실패: {}", path);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.config.AsyncConfig;
+import com.dormitory.SpringBoot.event.InspectionEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 점호 도메인 이벤트 리스너
+ * ✅ 점호 트랜잭션 커밋 이후 전용 스레드 풀에서 후속 작업 처리
+ * ✅ 같은 사용자/날짜의 출석 반영은 최신 이벤트 하나로 병합(coalescing)
+ * ✅ 같은 키의 반영은 한 번에 하나만 실행 (키별 진행 중 표시)
+ * ✅ 실패 시 스케줄러로 지정 횟수만큼 재시도 (점호 저장 자체에는 영향 없음)
+ */
+@Component
+public class InspectionEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(InspectionEventListener.class);
+
+    @Autowired
+    private AttendanceTableService attendanceTableService;
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private InspectionMetrics metrics;
+
+    @Autowired
+    @Qualifier(AsyncConfig.INSPECTION_EVENT_EXECUTOR)
+    private TaskExecutor executor;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${inspection.events.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${inspection.events.retry.backoff-ms:200}")
+    private long backoffMs;
+
+    // 병합 대기 중인 출석 반영 이벤트 (키: 사용자@날짜)
+    private final ConcurrentHashMap<String, InspectionEvent> pendingAttendance = new ConcurrentHashMap<>();
+
+    // 반영 작업이 진행 중(또는 재시도 대기 중)인 키 - 키마다 반영 작업은 하나만 실행
+    private final Set<String> drainingKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 점호 이벤트 수신 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInspectionEvent(InspectionEvent event) {
+        logger.debug("점호 이벤트 수신: {}", event);
+
+        // 1. 반려/삭제된 점호의 이미지 파일 정리
+        if (!(event instanceof InspectionEvent.Submitted) && event.getImagePath() != null) {
+            String imagePath = event.getImagePath();
+            runWithRetry("점호 이미지 삭제", imagePath, () -> fileService.deleteFile(imagePath), 1);
+        }
+
+        // 2. 출석 테이블 반영 (같은 키의 대기 이벤트가 있으면 덮어쓰기만 하고 작업은 추가하지 않음)
+        String key = event.getCoalescingKey();
+        pendingAttendance.put(key, event);
+        startDrain(key);
+    }
+
+    /**
+     * 키에 진행 중인 반영 작업이 없을 때만 새 작업 시작
+     */
+    private void startDrain(String key) {
+        if (drainingKeys.add(key)) {
+            executor.execute(() -> drainAttendance(key, 1));
+        } else {
+            logger.debug("출석 반영 이벤트 병합 - 키: {}", key);
+        }
+    }
+
+    /**
+     * 병합된 최신 이벤트를 출석 테이블에 반영
+     * ✅ 반영 중 새 이벤트가 들어오면 이어서 다시 반영
+     * ✅ 실패하면 더 새로운 이벤트가 없을 때만 되돌려 두고 스케줄러로 재시도 (그동안 키는 계속 점유)
+     */
+    private void drainAttendance(String key, int attempt) {
+        InspectionEvent latest;
+        while ((latest = pendingAttendance.remove(key)) != null) {
+            try {
+                applyAttendance(latest);
+                attempt = 1;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    logger.error("출석 테이블 반영 최종 실패 - 대상: {}, 시도: {}회", key, attempt, e);
+                    attempt = 1;
+                    continue;
+                }
+                logger.warn("출석 테이블 반영 실패, 재시도 예정 - 대상: {}, 시도: {}회, 오류: {}",
+                        key, attempt, e.getMessage());
+                pendingAttendance.putIfAbsent(key, latest);
+                int nextAttempt = attempt + 1;
+                taskScheduler.schedule(() -> executor.execute(() -> drainAttendance(key, nextAttempt)),
+                        Instant.now().plusMillis(backoffMs * attempt));
+                return;
+            }
+        }
+
+        drainingKeys.remove(key);
+        // 점유 해제 직전에 들어온 이벤트가 남아 있으면 다시 시작
+        if (pendingAttendance.containsKey(key)) {
+            startDrain(key);
+        }
+    }
+
+    private void applyAttendance(InspectionEvent latest) {
+        if (latest instanceof InspectionEvent.Submitted) {
+            metrics.stage(InspectionMetrics.typeOf(latest.isReInspection()), InspectionMetrics.STAGE_ATTENDANCE_UPDATE,
+                    () -> attendanceTableService.updateAttendanceOnInspectionSubmit(
+                            latest.getUserId(), latest.getInspectionLocalDate(), latest.getScore(), latest.getStatus()));
+        } else if (latest instanceof InspectionEvent.Rejected) {
+            attendanceTableService.revertAttendanceOnInspectionRemoved(
+                    latest.getUserId(), latest.getInspectionLocalDate(), "REJECTED");
+        } else {
+            attendanceTableService.revertAttendanceOnInspectionRemoved(
+                    latest.getUserId(), latest.getInspectionLocalDate(), "PENDING");
+        }
+    }
+
+    /**
+     * Executor에서 실행하고, 실패하면 스케줄러로 재시도 (선형 백오프, 작업 스레드를 잠재우지 않음)
+     */
+    private void runWithRetry(String taskName, String target, Runnable task, int attempt) {
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    logger.error("{} 최종 실패 - 대상: {}, 시도: {}회", taskName, target, attempt, e);
+                    return;
+                }
+                logger.warn("{} 실패, 재시도 예정 - 대상: {}, 시도: {}회, 오류: {}",
+                        taskName, target, attempt, e.getMessage());
+                taskScheduler.schedule(() -> runWithRetry(taskName, target, task, attempt + 1),
+                        Instant.now().plusMillis(backoffMs * attempt));
+            }
+        });
+    }
+}
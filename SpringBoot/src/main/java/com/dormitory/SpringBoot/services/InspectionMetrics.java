@@ -0,0 +1,118 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.utils.TracingUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 점호 제출 경로 지표 (Micrometer → /actuator/prometheus)
+ * ✅ inspection.submit.stage{type, stage, result}: 단계별 소요 시간 (사용자 조회, 시간 확인, 당일 확인, EXIF, AI 평가, 파일 저장, DB 저장, 출석 반영)
+ * ✅ inspection.submit{type, outcome}: 제출 전체 소요 시간
+ * ✅ inspection.submit.outcome{type, outcome}: PASS / FAIL / EXIF 거부 / AI 대체 점수 / 오류 건수
+ * ✅ inspection.gemini{phase, result}: Gemini API 요청 / 응답 파싱 소요 시간
+ * 백분위 히스토그램은 management.metrics.distribution.percentiles-histogram.inspection으로 활성화
+ * 단계/Gemini 호출은 같은 이름의 추적 span(inspection.{stage}, gemini.{phase})으로도 기록
+ */
+@Component
+public class InspectionMetrics {
+
+    public static final String TYPE_INITIAL = "initial";
+    public static final String TYPE_RE = "re";
+
+    public static final String STAGE_USER_LOOKUP = "user_lookup";
+    public static final String STAGE_TIME_CHECK = "time_check";
+    public static final String STAGE_TODAY_CHECK = "today_check";
+    public static final String STAGE_EXIF = "exif";
+    public static final String STAGE_AI_EVALUATION = "ai_evaluation";
+    public static final String STAGE_FILE_WRITE = "file_write";
+    public static final String STAGE_DB_SAVE = "db_save";
+    public static final String STAGE_ATTENDANCE_UPDATE = "attendance_update";
+
+    public static final String OUTCOME_PASS = "pass";
+    public static final String OUTCOME_FAIL = "fail";
+    public static final String OUTCOME_EXIF_REJECT = "exif_reject";
+    public static final String OUTCOME_FALLBACK = "fallback";
+    public static final String OUTCOME_ERROR = "error";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TracingUtil tracing;
+
+    public static String typeOf(boolean isReInspection) {
+        return isReInspection ? TYPE_RE : TYPE_INITIAL;
+    }
+
+    /**
+     * 단계 실행 시간 기록 (예외 발생 시 result=error)
+     */
+    public <T> T stage(String type, String stage, Supplier<T> work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            return tracing.inSpan("inspection." + stage, work, "inspection.type", type);
+        } catch (RuntimeException e) {
+            result = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("inspection.submit.stage")
+                    .description("점호 제출 단계별 소요 시간")
+                    .tag("type", type)
+                    .tag("stage", stage)
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    public void stage(String type, String stage, Runnable work) {
+        stage(type, stage, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public Timer.Sample startSubmission() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * 제출 전체 시간 + 결과 건수 기록
+     */
+    public void finishSubmission(Timer.Sample sample, String type, String outcome) {
+        sample.stop(Timer.builder("inspection.submit")
+                .description("점호 제출 전체 소요 시간")
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+        countOutcome(type, outcome);
+    }
+
+    public void countOutcome(String type, String outcome) {
+        meterRegistry.counter("inspection.submit.outcome", "type", type, "outcome", outcome).increment();
+    }
+
+    /**
+     * Gemini 호출 단계 시간 기록 (phase: request | parse)
+     */
+    public <T> T gemini(String phase, Supplier<T> work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            return tracing.inSpan("gemini." + phase, work);
+        } catch (RuntimeException e) {
+            result = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("inspection.gemini")
+                    .description("Gemini API 요청/응답 파싱 소요 시간")
+                    .tag("phase", phase)
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+}
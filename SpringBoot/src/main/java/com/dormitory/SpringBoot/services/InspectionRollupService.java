@@ -0,0 +1,559 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.domain.InspectionDailyRollup;
+import com.dormitory.SpringBoot.domain.InspectionRollupDirtyDay;
+import com.dormitory.SpringBoot.domain.InspectionRollupState;
+import com.dormitory.SpringBoot.event.InspectionEvent;
+import com.dormitory.SpringBoot.repository.InspectionDailyRollupRepository;
+import com.dormitory.SpringBoot.repository.InspectionRejectionRepository;
+import com.dormitory.SpringBoot.repository.InspectionRepository;
+import com.dormitory.SpringBoot.repository.InspectionRollupDirtyDayRepository;
+import com.dormitory.SpringBoot.repository.InspectionRollupStateRepository;
+import com.dormitory.SpringBoot.utils.TimedSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 점호 일별 집계(롤업) 서비스
+ * ✅ 마감된 날짜는 일자 × 기숙사동 집계 테이블에서 조회 (원본 점호 수와 무관하게 일 수에 비례)
+ * ✅ 오늘(및 아직 마감되지 않은 날짜)은 해당 날짜의 원본만 집계해 실시간 반영
+ * ✅ 스케줄러가 지난 날짜를 마감하고, 마감 이후 변경된 날짜는 다시 집계
+ * ✅ 마감 기준 날짜와 재집계 대기 날짜는 DB에 저장 (마감은 상태 행 잠금으로 인스턴스 간 직렬화)
+ */
+@Service
+public class InspectionRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InspectionRollupService.class);
+
+    @Autowired
+    private InspectionDailyRollupRepository rollupRepository;
+
+    @Autowired
+    private InspectionRepository inspectionRepository;
+
+    @Autowired
+    private InspectionRejectionRepository rejectionRepository;
+
+    @Autowired
+    private InspectionRollupStateRepository stateRepository;
+
+    @Autowired
+    private InspectionRollupDirtyDayRepository dirtyDayRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${inspection.rollup.chunk-days:31}")
+    private int chunkDays;
+
+    // 오늘 집계 스냅샷 (점호 변경 시 무효화)
+    private final TimedSnapshot<DaySnapshot> todaySnapshot;
+
+    // DB 마감 상태 스냅샷 (이 인스턴스의 변경/마감 시 즉시 무효화, 다른 인스턴스 변경은 유효 시간 후 반영)
+    private final TimedSnapshot<RollupState> stateSnapshot;
+
+    public InspectionRollupService(@Value("${inspection.rollup.live-ttl-ms:30000}") long liveTtlMillis,
+                                   @Value("${inspection.rollup.state-ttl-ms:5000}") long stateTtlMillis) {
+        this.todaySnapshot = new TimedSnapshot<>(liveTtlMillis);
+        this.stateSnapshot = new TimedSnapshot<>(stateTtlMillis);
+    }
+
+    // =============================================================================
+    // 마감 (스케줄러)
+    // =============================================================================
+
+    /**
+     * 기동 완료 후 밀린 날짜 마감
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        finalizeClosedDays();
+    }
+
+    /**
+     * 지난 날짜 마감 + 변경된 날짜 재집계
+     */
+    @Scheduled(fixedDelayString = "${inspection.rollup.finalize-interval-ms:300000}",
+            initialDelayString = "${inspection.rollup.finalize-interval-ms:300000}")
+    public synchronized void finalizeClosedDays() {
+        try {
+            LocalDate yesterday = LocalDate.now().minusDays(1);
+            ensureStateRow(yesterday);
+
+            // 1. 아직 마감되지 않은 지난 날짜를 구간 단위로 마감
+            while (finalizeNextChunk(yesterday)) {
+                stateSnapshot.invalidate();
+            }
+
+            // 2. 마감 이후 변경된 날짜 재집계
+            for (InspectionRollupDirtyDay dirty : dirtyDayRepository.findAll()) {
+                if (reaggregateDirtyDay(dirty.getStatDate(), dirty.getChangeCount())) {
+                    logger.info("[InspectionRollup] 변경된 날짜 재집계 완료 - 날짜: {}", dirty.getStatDate());
+                }
+            }
+
+        } catch (Exception e) {
+            logger.error("[InspectionRollup] 일별 집계 마감 실패 - 다음 주기에 다시 시도합니다.", e);
+        } finally {
+            stateSnapshot.invalidate();
+        }
+    }
+
+    /**
+     * 상태 행이 없으면 최초 마감 시작점으로 생성
+     */
+    private void ensureStateRow(LocalDate yesterday) {
+        if (stateRepository.existsById(InspectionRollupState.SINGLETON_ID)) {
+            return;
+        }
+        LocalDate initial = initialWatermark(yesterday);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                stateRepository.insertIfAbsent(InspectionRollupState.SINGLETON_ID, initial));
+    }
+
+    /**
+     * 상태 행을 잠그고 다음 구간 마감 (마감할 날짜가 없으면 false)
+     */
+    private boolean finalizeNextChunk(LocalDate yesterday) {
+        Boolean advanced = new TransactionTemplate(transactionManager).execute(status -> {
+            InspectionRollupState state = lockState();
+            LocalDate through = state.getFinalizedThrough();
+            if (!through.isBefore(yesterday)) {
+                return false;
+            }
+            LocalDate start = through.plusDays(1);
+            LocalDate end = start.plusDays(Math.max(1, chunkDays) - 1);
+            if (end.isAfter(yesterday)) {
+                end = yesterday;
+            }
+            int rows = writeRollups(start, end);
+            state.setFinalizedThrough(end);
+            logger.info("[InspectionRollup] 마감 완료 - 기간: {} ~ {}, 집계 행: {}", start, end, rows);
+            return true;
+        });
+        return Boolean.TRUE.equals(advanced);
+    }
+
+    /**
+     * 상태 행을 잠그고 변경된 날짜 재집계 (재집계 중 다시 변경되면 대기 행을 남겨 다음 주기에 재집계)
+     */
+    private boolean reaggregateDirtyDay(LocalDate day, long changeCount) {
+        Boolean done = new TransactionTemplate(transactionManager).execute(status -> {
+            if (day.isAfter(lockState().getFinalizedThrough())) {
+                return false;
+            }
+            writeRollups(day, day);
+            dirtyDayRepository.deleteIfUnchanged(day, changeCount);
+            return true;
+        });
+        return Boolean.TRUE.equals(done);
+    }
+
+    private InspectionRollupState lockState() {
+        return stateRepository.findByIdForUpdate(InspectionRollupState.SINGLETON_ID)
+                .orElseThrow(() -> new RuntimeException("점호 집계 상태 행이 없습니다."));
+    }
+
+    /**
+     * 최초 마감 시작점 - 집계 테이블의 마지막 날짜, 없으면 가장 오래된 점호 전날
+     */
+    private LocalDate initialWatermark(LocalDate yesterday) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> rollupRepository.findMaxStatDate()
+                .or(() -> inspectionRepository.findMinInspectionDate()
+                        .map(first -> first.toLocalDate().minusDays(1)))
+                .orElse(yesterday));
+    }
+
+    /**
+     * 기간의 집계를 원본에서 다시 계산해 교체 (한 트랜잭션)
+     */
+    private int writeRollups(LocalDate start, LocalDate end) {
+        Integer written = new TransactionTemplate(transactionManager).execute(status -> {
+            Map<LocalDate, Map<String, DailyCounts>> live = aggregateRaw(start, end);
+            rollupRepository.deleteByStatDateBetween(start, end);
+
+            LocalDateTime now = LocalDateTime.now();
+            List<InspectionDailyRollup> rollups = new ArrayList<>();
+            live.forEach((day, byBuilding) -> byBuilding.forEach((building, counts) -> {
+                InspectionDailyRollup rollup = new InspectionDailyRollup(day, building);
+                counts.copyTo(rollup);
+                rollup.setFinalizedAt(now);
+                rollups.add(rollup);
+            }));
+            rollupRepository.saveAll(rollups);
+            return rollups.size();
+        });
+        return written != null ? written : 0;
+    }
+
+    // =============================================================================
+    // 변경 반영
+    // =============================================================================
+
+    /**
+     * 점호 제출/반려/삭제 이벤트 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInspectionEvent(InspectionEvent event) {
+        markChanged(event.getInspectionLocalDate());
+    }
+
+    /**
+     * 점호 기록이 수정된 날짜 표시 (트랜잭션 안이면 커밋 이후)
+     */
+    public void markChangedAfterCommit(LocalDate day) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markChanged(day);
+                }
+            });
+        } else {
+            markChanged(day);
+        }
+    }
+
+    /**
+     * 기간 전체를 원본에서 다시 집계 (JDBC 대량 적재 등 이벤트 없이 원본이 바뀐 경우)
+     */
+    public synchronized void rebuild(LocalDate start, LocalDate end) {
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            markChanged(day);
+        }
+        finalizeClosedDays();
+        logger.info("[InspectionRollup] 기간 재집계 완료 - 기간: {} ~ {}", start, end);
+    }
+
+    private void markChanged(LocalDate day) {
+        if (day == null) {
+            return;
+        }
+        if (day.equals(LocalDate.now())) {
+            todaySnapshot.invalidate();
+            return;
+        }
+        // 커밋 이후 호출되므로 새 트랜잭션으로 기록
+        try {
+            TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+            requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            requiresNew.executeWithoutResult(status -> {
+                if (dirtyDayRepository.increment(day) == 0 && dirtyDayRepository.insertIfAbsent(day) == 0) {
+                    dirtyDayRepository.increment(day);
+                }
+            });
+        } catch (Exception e) {
+            logger.error("[InspectionRollup] 변경 날짜 기록 실패 - 날짜: {} (rebuild로 재집계 필요)", day, e);
+        }
+        stateSnapshot.invalidate();
+    }
+
+    /**
+     * DB 마감 상태 (마감 기준 날짜가 null이면 아직 초기화 전 → 전부 원본 집계)
+     */
+    private RollupState currentState() {
+        return stateSnapshot.get(() -> new RollupState(
+                stateRepository.findFinalizedThrough(InspectionRollupState.SINGLETON_ID).orElse(null),
+                Set.copyOf(dirtyDayRepository.findAllStatDates())));
+    }
+
+    // =============================================================================
+    // 조회
+    // =============================================================================
+
+    /**
+     * 특정 날짜의 기숙사동별 집계
+     */
+    public Map<String, DailyCounts> getDay(LocalDate day) {
+        Map<String, DailyCounts> result = getDailyByBuilding(day, day).get(day);
+        return result != null ? result : new TreeMap<>();
+    }
+
+    /**
+     * 기간의 일별 합계 (날짜순, 점호가 없는 날짜는 제외)
+     */
+    public Map<LocalDate, DailyCounts> getDailyTotals(LocalDate start, LocalDate end) {
+        Map<LocalDate, DailyCounts> totals = new TreeMap<>();
+        getDailyByBuilding(start, end).forEach((day, byBuilding) -> {
+            DailyCounts total = new DailyCounts();
+            byBuilding.values().forEach(total::add);
+            totals.put(day, total);
+        });
+        return totals;
+    }
+
+    /**
+     * 전체 기간 합계
+     */
+    public DailyCounts getTotal() {
+        RollupState state = currentState();
+        LocalDate through = state.finalizedThrough();
+        LocalDate today = LocalDate.now();
+        DailyCounts total = new DailyCounts();
+
+        if (through == null) {
+            // 아직 마감 전 - 원본 전체 집계
+            getOpenDays(LocalDate.of(1970, 1, 1), today)
+                    .values().forEach(byBuilding -> byBuilding.values().forEach(total::add));
+            return total;
+        }
+
+        // 마감된 날짜 합계
+        for (Object[] row : rollupRepository.sumAll()) {
+            total.add(new DailyCounts(toLong(row[0]), toLong(row[1]), toLong(row[2]),
+                    toLong(row[3]), toLong(row[4]), toLong(row[5])));
+        }
+
+        // 마감 이후 변경된 날짜는 저장된 값 대신 원본 집계로 교체
+        for (LocalDate day : state.dirtyDays()) {
+            if (day.isAfter(through)) {
+                continue;
+            }
+            for (InspectionDailyRollup stored : rollupRepository.findByStatDate(day)) {
+                total.subtract(DailyCounts.of(stored));
+            }
+            aggregateRaw(day, day).values()
+                    .forEach(byBuilding -> byBuilding.values().forEach(total::add));
+        }
+
+        // 마감되지 않은 날짜 (오늘 포함)
+        getOpenDays(through.plusDays(1), today)
+                .values().forEach(byBuilding -> byBuilding.values().forEach(total::add));
+        return total;
+    }
+
+    /**
+     * 기간의 일자 × 기숙사동별 집계 (마감된 날짜는 집계 테이블, 나머지는 원본)
+     */
+    private Map<LocalDate, Map<String, DailyCounts>> getDailyByBuilding(LocalDate start, LocalDate end) {
+        RollupState state = currentState();
+        LocalDate through = state.finalizedThrough();
+        Map<LocalDate, Map<String, DailyCounts>> result = new TreeMap<>();
+
+        if (through != null && !start.isAfter(through)) {
+            LocalDate storedEnd = end.isAfter(through) ? through : end;
+            for (InspectionDailyRollup rollup : rollupRepository.findByStatDateBetweenOrderByStatDateAsc(start, storedEnd)) {
+                if (state.dirtyDays().contains(rollup.getStatDate())) {
+                    continue;
+                }
+                result.computeIfAbsent(rollup.getStatDate(), key -> new TreeMap<>())
+                        .put(rollup.getBuilding(), DailyCounts.of(rollup));
+            }
+            for (LocalDate day : state.dirtyDays()) {
+                if (!day.isBefore(start) && !day.isAfter(storedEnd)) {
+                    result.remove(day);
+                    result.putAll(aggregateRaw(day, day));
+                }
+            }
+        }
+
+        LocalDate openStart = through != null && !start.isAfter(through) ? through.plusDays(1) : start;
+        if (!openStart.isAfter(end)) {
+            result.putAll(getOpenDays(openStart, end));
+        }
+        return result;
+    }
+
+    /**
+     * 마감되지 않은 기간 집계 - 오늘은 스냅샷 재사용, 나머지는 원본 집계
+     */
+    private Map<LocalDate, Map<String, DailyCounts>> getOpenDays(LocalDate start, LocalDate end) {
+        LocalDate today = LocalDate.now();
+        Map<LocalDate, Map<String, DailyCounts>> result = new TreeMap<>();
+
+        LocalDate pastEnd = end.isBefore(today) ? end : today.minusDays(1);
+        if (!start.isAfter(pastEnd)) {
+            result.putAll(aggregateRaw(start, pastEnd));
+        }
+
+        if (!today.isBefore(start) && !today.isAfter(end)) {
+            DaySnapshot snapshot = todaySnapshot.get(() -> new DaySnapshot(today, aggregateRaw(today, today).get(today)));
+            if (!today.equals(snapshot.day)) {
+                // 날짜가 바뀐 직후의 이전 스냅샷은 버림
+                todaySnapshot.invalidate();
+                snapshot = todaySnapshot.get(() -> new DaySnapshot(today, aggregateRaw(today, today).get(today)));
+            }
+            if (snapshot.byBuilding != null) {
+                result.put(today, snapshot.byBuilding);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 원본 점호/반려 기록에서 기간 집계 (기간 내 행만 읽음)
+     */
+    private Map<LocalDate, Map<String, DailyCounts>> aggregateRaw(LocalDate start, LocalDate end) {
+        Map<LocalDate, Map<String, DailyCounts>> result = new TreeMap<>();
+
+        // [날짜, 기숙사동, 전체, 통과, 실패, 재검, 점수 합계]
+        for (Object[] row : inspectionRepository.aggregateDailyByBuilding(
+                start.atStartOfDay(), end.plusDays(1).atStartOfDay())) {
+            DailyCounts counts = countsFor(result, toLocalDate(row[0]), (String) row[1]);
+            counts.total += toLong(row[2]);
+            counts.passed += toLong(row[3]);
+            counts.failed += toLong(row[4]);
+            counts.reInspections += toLong(row[5]);
+            counts.scoreSum += toLong(row[6]);
+        }
+
+        // [날짜, 기숙사동, 반려 건수] - 반려된 점호는 삭제되므로 반려 기록에서 집계
+        for (Object[] row : rejectionRepository.countDailyByBuilding(
+                start.atStartOfDay(), end.plusDays(1).atStartOfDay())) {
+            countsFor(result, toLocalDate(row[0]), (String) row[1]).rejected += toLong(row[2]);
+        }
+        return result;
+    }
+
+    private static DailyCounts countsFor(Map<LocalDate, Map<String, DailyCounts>> result,
+                                         LocalDate day, String building) {
+        return result.computeIfAbsent(day, key -> new TreeMap<>())
+                .computeIfAbsent(building != null ? building : "", key -> new DailyCounts());
+    }
+
+    /**
+     * 집계 상태 (진단용)
+     */
+    public Map<String, Object> getStatus() {
+        RollupState state = currentState();
+        Map<String, Object> status = new HashMap<>();
+        status.put("finalizedThrough", state.finalizedThrough());
+        status.put("dirtyDays", new ArrayList<>(state.dirtyDays()));
+        return status;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate localDate) {
+            return localDate;
+        }
+        if (value instanceof Date sqlDate) {
+            return sqlDate.toLocalDate();
+        }
+        if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime.toLocalDate();
+        }
+        return LocalDate.parse(String.valueOf(value));
+    }
+
+    private record DaySnapshot(LocalDate day, Map<String, DailyCounts> byBuilding) {
+    }
+
+    private record RollupState(LocalDate finalizedThrough, Set<LocalDate> dirtyDays) {
+    }
+
+    /**
+     * 점호 집계 값 (전체/통과/실패/반려/재검/점수 합계)
+     */
+    public static class DailyCounts {
+        private long total;
+        private long passed;
+        private long failed;
+        private long rejected;
+        private long reInspections;
+        private long scoreSum;
+
+        public DailyCounts() {}
+
+        public DailyCounts(long total, long passed, long failed, long rejected, long reInspections, long scoreSum) {
+            this.total = total;
+            this.passed = passed;
+            this.failed = failed;
+            this.rejected = rejected;
+            this.reInspections = reInspections;
+            this.scoreSum = scoreSum;
+        }
+
+        static DailyCounts of(InspectionDailyRollup rollup) {
+            return new DailyCounts(rollup.getTotalCount(), rollup.getPassCount(), rollup.getFailCount(),
+                    rollup.getRejectedCount(), rollup.getReInspectionCount(), rollup.getScoreSum());
+        }
+
+        void copyTo(InspectionDailyRollup rollup) {
+            rollup.setTotalCount(total);
+            rollup.setPassCount(passed);
+            rollup.setFailCount(failed);
+            rollup.setRejectedCount(rejected);
+            rollup.setReInspectionCount(reInspections);
+            rollup.setScoreSum(scoreSum);
+        }
+
+        public void add(DailyCounts other) {
+            total += other.total;
+            passed += other.passed;
+            failed += other.failed;
+            rejected += other.rejected;
+            reInspections += other.reInspections;
+            scoreSum += other.scoreSum;
+        }
+
+        void subtract(DailyCounts other) {
+            total -= other.total;
+            passed -= other.passed;
+            failed -= other.failed;
+            rejected -= other.rejected;
+            reInspections -= other.reInspections;
+            scoreSum -= other.scoreSum;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public long getPassed() {
+            return passed;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public long getReInspections() {
+            return reInspections;
+        }
+
+        public long getScoreSum() {
+            return scoreSum;
+        }
+
+        public double getAverageScore() {
+            return total > 0 ? (double) scoreSum / total : 0.0;
+        }
+
+        public double getPassRate() {
+            return total > 0 ? (double) passed / total * 100.0 : 0.0;
+        }
+    }
+}
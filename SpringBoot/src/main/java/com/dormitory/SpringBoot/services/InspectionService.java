@@ -1,18 +1,28 @@
 package com.dormitory.SpringBoot.services;
 
+import com.dormitory.SpringBoot.config.AsyncConfig;
+import com.dormitory.SpringBoot.config.ReplicaRead;
 import com.dormitory.SpringBoot.domain.BuildingTableConfig;
 import com.dormitory.SpringBoot.domain.Inspection;
+import com.dormitory.SpringBoot.domain.InspectionRejection;
 import com.dormitory.SpringBoot.domain.InspectionSettings;
 import com.dormitory.SpringBoot.domain.User;
 import com.dormitory.SpringBoot.dto.InspectionRequest;
+import com.dormitory.SpringBoot.event.InspectionEvent;
+import com.dormitory.SpringBoot.repository.InspectionRejectionRepository;
 import com.dormitory.SpringBoot.repository.InspectionRepository;
 import com.dormitory.SpringBoot.repository.UserRepository;
 import com.dormitory.SpringBoot.utils.EncryptionUtil;
+import com.dormitory.SpringBoot.utils.ImageRenditions;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -22,17 +32,23 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
  * 점호 관련 비즈니스 로직을 처리하는 서비스
  * ✅ 시간 제한, EXIF 검증, 방 사진 검증 기능 통합
- * ✅ 통계 메서드 포함 (getTotalStatistics, getStatisticsByDate)
+ * ✅ 통계 메서드 포함 (getTotalStatistics, getStatisticsByDate) - 일별 집계 테이블 기준
  * ✅ 기숙사별 점호 현황 테이블 기능 추가
  * ✅ 예시 테이블에 다양한 상태(통과/실패/반려/미제출/빈방) 표시 추가
+ * ✅ 파일 삭제는 도메인 이벤트로 분리, 출석 테이블 반영은 이벤트 리스너에서 새로 수행 (커밋 이후 비동기 처리)
  */
 @Service
 @Transactional
@@ -40,9 +56,16 @@ public class InspectionService {
 
     private static final Logger logger = LoggerFactory.getLogger(InspectionService.class);
 
+    // 요약 모드 호실 상태 코드 (응답의 status 배열 값 = 이 목록의 인덱스)
+    private static final List<String> SUMMARY_STATUS_CODES =
+            List.of("EMPTY", "NOT_SUBMITTED", "PENDING", "PASS", "FAIL", "REJECTED");
+
     @Autowired
     private InspectionRepository inspectionRepository;
 
+    @Autowired
+    private InspectionRejectionRepository rejectionRepository;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -53,7 +76,7 @@ public class InspectionService {
     private FileService fileService;
 
     @Autowired
-    private AttendanceTableService attendanceTableService;
+    private ApplicationEventPublisher eventPublisher;
 
     @Autowired
     private InspectionSettingsService settingsService;
@@ -68,6 +91,25 @@ public class InspectionService {
     @Autowired
     private BuildingTableConfigService buildingConfigService;
 
+    @Autowired
+    private InspectionRollupService rollupService;
+
+    @Autowired
+    private InspectionUserStatsService userStatsService;
+
+    @Autowired
+    private AttendanceBitmapIndex attendanceBitmapIndex;
+
+    @Autowired
+    private RoomRosterIndex rosterIndex;
+
+    @Autowired
+    @Qualifier(AsyncConfig.DASHBOARD_POOL)
+    private ForkJoinPool dashboardPool;
+
+    @Autowired
+    private InspectionMetrics metrics;
+
     @Value("${inspection.pass.score:6}")
     private int passScore;
 
@@ -80,25 +122,30 @@ public class InspectionService {
      * ✅ 점호 제출 - 시간 제한 + EXIF 검증 + 방 사진 검증 통합
      */
     public InspectionRequest.Response submitInspection(String userId, String roomNumber, MultipartFile imageFile) {
+        String type = InspectionMetrics.TYPE_INITIAL;
+        Timer.Sample submission = metrics.startSubmission();
+        String outcome = InspectionMetrics.OUTCOME_ERROR;
         try {
             logger.info("점호 제출 시작 - 사용자: {}, 방번호: {}", userId, roomNumber);
 
             // 1. 사용자 정보 조회
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            User user = metrics.stage(type, InspectionMetrics.STAGE_USER_LOOKUP, () -> userRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다.")));
 
             // 방 번호 결정 (사용자 프로필 > 요청값)
             String finalRoomNumber = user.getRoomNumber() != null ? user.getRoomNumber() : roomNumber;
 
             // 2. 점호 시간 확인
-            InspectionSettingsService.InspectionTimeCheckResult timeCheck = settingsService.checkInspectionTimeAllowed();
+            InspectionSettingsService.InspectionTimeCheckResult timeCheck = metrics.stage(type,
+                    InspectionMetrics.STAGE_TIME_CHECK, () -> settingsService.checkInspectionTimeAllowed());
             if (!timeCheck.isAllowed()) {
                 logger.warn("점호 시간 외 제출 시도 - 사용자: {}", userId);
                 throw new RuntimeException(timeCheck.getMessage());
             }
 
             // 3. 오늘 이미 점호를 완료했는지 확인
-            List<Inspection> todayInspections = inspectionRepository.findTodayInspectionByUserId(userId);
+            List<Inspection> todayInspections = metrics.stage(type, InspectionMetrics.STAGE_TODAY_CHECK,
+                    () -> inspectionRepository.findTodayInspectionByUserId(userId));
             if (!todayInspections.isEmpty()) {
                 Inspection existing = todayInspections.get(0);
                 if ("PASS".equals(existing.getStatus())) {
@@ -119,8 +166,9 @@ public class InspectionService {
                 int radiusMeters = currentSettings.getGpsRadiusMeters() != null
                         ? currentSettings.getGpsRadiusMeters() : 100;
 
-                ExifService.ExifValidationResult exifResult = exifService.validateExif(
-                        imageFile, toleranceMinutes, expectedLatitude, expectedLongitude, radiusMeters);
+                ExifService.ExifValidationResult exifResult = metrics.stage(type, InspectionMetrics.STAGE_EXIF,
+                        () -> exifService.validateExif(
+                                imageFile, toleranceMinutes, expectedLatitude, expectedLongitude, radiusMeters));
 
                 if (!exifResult.isValid()) {
                     logger.warn("EXIF 검증 실패 - 사용자: {}, 메시지: {}", userId, exifResult.getMessage());
@@ -130,7 +178,10 @@ public class InspectionService {
                     String geminiFeedback = "❌ " + exifResult.getMessage();
                     String status = "FAIL";
 
-                    return saveInspection(userId, finalRoomNumber, imageFile, score, geminiFeedback, status, false);
+                    InspectionRequest.Response response =
+                            saveInspection(userId, finalRoomNumber, imageFile, score, geminiFeedback, status, false);
+                    outcome = InspectionMetrics.OUTCOME_EXIF_REJECT;
+                    return response;
                 }
 
                 // ✅ 촬영 날짜 검증 실패 시 즉시 0점 처리
@@ -139,20 +190,31 @@ public class InspectionService {
                     int score = 0;
                     String geminiFeedback = "❌ 오늘 촬영한 사진이 아닙니다. 과거에 촬영된 사진은 점호로 인정되지 않습니다.";
                     String status = "FAIL";
-                    return saveInspection(userId, finalRoomNumber, imageFile, score, geminiFeedback, status, false);
+                    InspectionRequest.Response response =
+                            saveInspection(userId, finalRoomNumber, imageFile, score, geminiFeedback, status, false);
+                    outcome = InspectionMetrics.OUTCOME_EXIF_REJECT;
+                    return response;
                 }
 
                 logger.info("EXIF 검증 통과 - 사용자: {}", userId);
             }
 
-            // 5. AI 평가
-            int score = geminiService.evaluateInspection(imageFile);
-            String geminiFeedback = geminiService.getInspectionFeedback(imageFile);
+            // 5. AI 평가 (점수/피드백 각각 Gemini 호출)
+            GeminiService.AnalysisResult evaluation = metrics.stage(type, InspectionMetrics.STAGE_AI_EVALUATION,
+                    () -> geminiService.evaluate(imageFile));
+            if (evaluation.isFallback()) {
+                metrics.countOutcome(type, InspectionMetrics.OUTCOME_FALLBACK);
+            }
+            int score = evaluation.getScore();
+            String geminiFeedback = evaluation.getFeedback();
             String status = score >= passScore ? "PASS" : "FAIL";
 
             logger.info("AI 평가 완료 - 사용자: {}, 점수: {}, 상태: {}", userId, score, status);
 
-            return saveInspection(userId, finalRoomNumber, imageFile, score, geminiFeedback, status, false);
+            InspectionRequest.Response response =
+                    saveInspection(userId, finalRoomNumber, imageFile, score, geminiFeedback, status, false);
+            outcome = "PASS".equals(status) ? InspectionMetrics.OUTCOME_PASS : InspectionMetrics.OUTCOME_FAIL;
+            return response;
 
         } catch (RuntimeException e) {
             logger.error("점호 제출 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
@@ -160,6 +222,8 @@ public class InspectionService {
         } catch (Exception e) {
             logger.error("점호 제출 중 예기치 않은 오류 발생 - 사용자: {}", userId, e);
             throw new RuntimeException("점호 제출 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            metrics.finishSubmission(submission, type, outcome);
         }
     }
 
@@ -167,16 +231,20 @@ public class InspectionService {
      * 재검 점호 제출
      */
     public InspectionRequest.Response submitReInspection(String userId, String roomNumber, MultipartFile imageFile) {
+        String type = InspectionMetrics.TYPE_RE;
+        Timer.Sample submission = metrics.startSubmission();
+        String outcome = InspectionMetrics.OUTCOME_ERROR;
         try {
             logger.info("재검 점호 제출 시작 - 사용자: {}, 방번호: {}", userId, roomNumber);
 
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            User user = metrics.stage(type, InspectionMetrics.STAGE_USER_LOOKUP, () -> userRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다.")));
 
             String finalRoomNumber = user.getRoomNumber() != null ? user.getRoomNumber() : roomNumber;
 
             // 오늘 실패한 점호가 있는지 확인
-            List<Inspection> todayInspections = inspectionRepository.findTodayInspectionByUserId(userId);
+            List<Inspection> todayInspections = metrics.stage(type, InspectionMetrics.STAGE_TODAY_CHECK,
+                    () -> inspectionRepository.findTodayInspectionByUserId(userId));
             if (todayInspections.isEmpty()) {
                 throw new RuntimeException("오늘 점호 기록이 없습니다.");
             }
@@ -186,13 +254,21 @@ public class InspectionService {
                 throw new RuntimeException("재검 대상이 아닙니다.");
             }
 
-            int score = geminiService.evaluateInspection(imageFile);
-            String geminiFeedback = geminiService.getInspectionFeedback(imageFile);
+            GeminiService.AnalysisResult evaluation = metrics.stage(type, InspectionMetrics.STAGE_AI_EVALUATION,
+                    () -> geminiService.evaluate(imageFile));
+            if (evaluation.isFallback()) {
+                metrics.countOutcome(type, InspectionMetrics.OUTCOME_FALLBACK);
+            }
+            int score = evaluation.getScore();
+            String geminiFeedback = evaluation.getFeedback();
             String status = score >= passScore ? "PASS" : "FAIL";
 
             logger.info("재검 AI 평가 완료 - 점수: {}, 상태: {}", score, status);
 
-            return saveInspection(userId, finalRoomNumber, imageFile, score, geminiFeedback, status, true);
+            InspectionRequest.Response response =
+                    saveInspection(userId, finalRoomNumber, imageFile, score, geminiFeedback, status, true);
+            outcome = "PASS".equals(status) ? InspectionMetrics.OUTCOME_PASS : InspectionMetrics.OUTCOME_FAIL;
+            return response;
 
         } catch (RuntimeException e) {
             logger.error("재검 점호 제출 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
@@ -200,6 +276,8 @@ public class InspectionService {
         } catch (Exception e) {
             logger.error("재검 점호 제출 중 예기치 않은 오류 발생 - 사용자: {}", userId, e);
             throw new RuntimeException("재검 점호 제출 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            metrics.finishSubmission(submission, type, outcome);
         }
     }
 
@@ -209,8 +287,10 @@ public class InspectionService {
     private InspectionRequest.Response saveInspection(String userId, String roomNumber,
                                                       MultipartFile imageFile, int score, String geminiFeedback,
                                                       String status, boolean isReInspection) {
+        String type = InspectionMetrics.typeOf(isReInspection);
         try {
-            String imagePath = fileService.uploadImage(imageFile, "inspections");
+            String imagePath = metrics.stage(type, InspectionMetrics.STAGE_FILE_WRITE,
+                    () -> fileService.uploadImage(imageFile, "inspections"));
 
             Inspection inspection = new Inspection();
             inspection.setUserId(userId);
@@ -223,9 +303,16 @@ public class InspectionService {
             inspection.setInspectionDate(LocalDateTime.now());
             inspection.setCreatedAt(LocalDateTime.now());
 
-            Inspection savedInspection = inspectionRepository.save(inspection);
+            Inspection savedInspection = metrics.stage(type, InspectionMetrics.STAGE_DB_SAVE, () -> {
+                Inspection saved = inspectionRepository.save(inspection);
+                userStatsService.onSubmitted(saved);
+                return saved;
+            });
             logger.info("점호 저장 완료 - ID: {}", savedInspection.getId());
 
+            // ✅ 출석 테이블 등 후속 반영은 커밋 이후 이벤트 리스너에서 처리
+            eventPublisher.publishEvent(new InspectionEvent.Submitted(savedInspection));
+
             return convertToResponse(savedInspection);
 
         } catch (Exception e) {
@@ -245,9 +332,7 @@ public class InspectionService {
             logger.info("사용자 점호 기록 조회 시작 - 사용자: {}", userId);
 
             List<Inspection> inspections = inspectionRepository.findByUserIdOrderByCreatedAtDesc(userId);
-            List<InspectionRequest.AdminResponse> responses = inspections.stream()
-                    .map(this::convertToAdminResponse)
-                    .collect(Collectors.toList());
+            List<InspectionRequest.AdminResponse> responses = convertToAdminResponses(inspections);
 
             logger.info("사용자 점호 기록 조회 완료 - 사용자: {}, 기록 수: {}", userId, responses.size());
             return responses;
@@ -283,6 +368,7 @@ public class InspectionService {
     /**
      * 모든 점호 기록 조회 (관리자용)
      */
+    @ReplicaRead
     @Transactional(readOnly = true)
     public List<InspectionRequest.AdminResponse> getAllInspections() {
         try {
@@ -290,10 +376,9 @@ public class InspectionService {
 
             List<Inspection> inspections = inspectionRepository.findAll();
 
-            List<InspectionRequest.AdminResponse> responses = inspections.stream()
+            List<InspectionRequest.AdminResponse> responses = convertToAdminResponses(inspections.stream()
                     .sorted((i1, i2) -> i2.getCreatedAt().compareTo(i1.getCreatedAt()))
-                    .map(this::convertToAdminResponse)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
 
             logger.info("전체 점호 기록 조회 완료 - 기록 수: {}", responses.size());
             return responses;
@@ -332,6 +417,7 @@ public class InspectionService {
     /**
      * 특정 날짜의 점호 기록 조회
      */
+    @ReplicaRead
     @Transactional(readOnly = true)
     public List<InspectionRequest.AdminResponse> getInspectionsByDate(String dateStr) {
         try {
@@ -341,9 +427,7 @@ public class InspectionService {
                     DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
 
             List<Inspection> inspections = inspectionRepository.findByInspectionDate(date);
-            List<InspectionRequest.AdminResponse> responses = inspections.stream()
-                    .map(this::convertToAdminResponse)
-                    .collect(Collectors.toList());
+            List<InspectionRequest.AdminResponse> responses = convertToAdminResponses(inspections);
 
             logger.info("특정 날짜 점호 기록 조회 완료 - 날짜: {}, 기록 수: {}", dateStr, responses.size());
             return responses;
@@ -368,18 +452,12 @@ public class InspectionService {
 
             String userId = inspection.getUserId();
 
-            // 이미지 파일 삭제
-            if (inspection.getImagePath() != null) {
-                try {
-                    fileService.deleteFile(inspection.getImagePath());
-                    logger.info("점호 이미지 삭제 완료: {}", inspection.getImagePath());
-                } catch (Exception e) {
-                    logger.warn("점호 이미지 삭제 실패: {}", e.getMessage());
-                }
-            }
-
-            // 점호 기록 삭제
+            // 점호 기록 삭제 (이미지 파일/출석 정리는 커밋 이후 이벤트로 처리)
+            // 반려 건수 집계용으로 반려 기록을 같은 트랜잭션에 남김
+            rejectionRepository.save(new InspectionRejection(inspection, reason));
             inspectionRepository.delete(inspection);
+            userStatsService.onRemoved(inspection);
+            eventPublisher.publishEvent(new InspectionEvent.Rejected(inspection, reason));
             logger.info("점호 반려 완료 - ID: {}, 사용자: {}", inspectionId, userId);
 
         } catch (RuntimeException e) {
@@ -401,18 +479,10 @@ public class InspectionService {
             Inspection inspection = inspectionRepository.findById(inspectionId)
                     .orElseThrow(() -> new RuntimeException("점호 기록을 찾을 수 없습니다: " + inspectionId));
 
-            // 이미지 파일 삭제
-            if (inspection.getImagePath() != null) {
-                try {
-                    fileService.deleteFile(inspection.getImagePath());
-                    logger.info("점호 이미지 삭제 완료: {}", inspection.getImagePath());
-                } catch (Exception e) {
-                    logger.warn("이미지 파일 삭제 실패: {}", e.getMessage());
-                }
-            }
-
-            // 점호 기록 삭제
+            // 점호 기록 삭제 (이미지 파일/출석 정리는 커밋 이후 이벤트로 처리)
             inspectionRepository.delete(inspection);
+            userStatsService.onRemoved(inspection);
+            eventPublisher.publishEvent(new InspectionEvent.Deleted(inspection));
             logger.info("점호 삭제 완료 - ID: {}", inspectionId);
 
         } catch (RuntimeException e) {
@@ -434,6 +504,11 @@ public class InspectionService {
             Inspection inspection = inspectionRepository.findById(inspectionId)
                     .orElseThrow(() -> new RuntimeException("점호 기록을 찾을 수 없습니다: " + inspectionId));
 
+            // 사용자 통계 증분 갱신을 위한 수정 전 값
+            Integer previousScore = inspection.getScore();
+            String previousStatus = inspection.getStatus();
+            boolean previousReInspection = Boolean.TRUE.equals(inspection.getIsReInspection());
+
             if (updateData.containsKey("score")) {
                 inspection.setScore((Integer) updateData.get("score"));
             }
@@ -453,6 +528,12 @@ public class InspectionService {
             inspection.setUpdatedAt(LocalDateTime.now());
 
             Inspection updatedInspection = inspectionRepository.save(inspection);
+            userStatsService.onUpdated(updatedInspection, previousScore, previousStatus, previousReInspection);
+            if (updatedInspection.getInspectionDate() != null) {
+                rollupService.markChangedAfterCommit(updatedInspection.getInspectionDate().toLocalDate());
+                attendanceBitmapIndex.refreshAfterCommit(updatedInspection.getUserId(),
+                        updatedInspection.getInspectionDate().toLocalDate());
+            }
             logger.info("점호 기록 수정 완료 - ID: {}", inspectionId);
 
             return convertToAdminResponse(updatedInspection);
@@ -495,17 +576,18 @@ public class InspectionService {
     // ==================== 통계 메서드 ====================
 
     /**
-     * 전체 통계 조회
+     * 전체 통계 조회 (일별 집계 테이블 기준)
      */
     @Transactional(readOnly = true)
     public InspectionRequest.Statistics getTotalStatistics() {
         try {
             logger.info("전체 통계 조회 시작");
 
-            long total = inspectionRepository.count();
-            long passed = inspectionRepository.countByStatus("PASS");
-            long failed = inspectionRepository.countByStatus("FAIL");
-            long reInspections = inspectionRepository.findByIsReInspectionTrueOrderByCreatedAtDesc().size();
+            InspectionRollupService.DailyCounts counts = rollupService.getTotal();
+            long total = counts.getTotal();
+            long passed = counts.getPassed();
+            long failed = counts.getFailed();
+            long reInspections = counts.getReInspections();
 
             InspectionRequest.Statistics result = new InspectionRequest.Statistics(
                     total, passed, failed, reInspections, LocalDateTime.now());
@@ -521,23 +603,49 @@ public class InspectionService {
     }
 
     /**
-     * 날짜별 점호 통계 조회
+     * 사용자별 점호 통계 조회 (사용자 누적 통계 행 기준)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getUserStatistics(String userId) {
+        try {
+            logger.info("사용자 점호 통계 조회 - 사용자: {}", userId);
+            return userStatsService.getUserStats(userId);
+        } catch (Exception e) {
+            logger.error("사용자 점호 통계 조회 중 오류 발생 - 사용자: {}", userId, e);
+            throw new RuntimeException("사용자 점호 통계 조회에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자별 점호 통계 전체 재구축 (관리자)
+     *
+     * @return 재구축한 사용자 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildUserStatistics() {
+        logger.info("사용자 점호 통계 재구축 요청");
+        return userStatsService.rebuildAll();
+    }
+
+    /**
+     * 날짜별 점호 통계 조회 (일별 집계 테이블 기준, 오늘은 실시간)
      */
     @Transactional(readOnly = true)
     public InspectionRequest.Statistics getStatisticsByDate(String dateStr) {
         try {
             logger.info("날짜별 통계 조회 시작 - 날짜: {}", dateStr);
 
-            LocalDateTime date = LocalDateTime.parse(dateStr + " 00:00:00",
-                    DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+            LocalDate day = LocalDate.parse(dateStr);
 
-            long total = inspectionRepository.countTotalInspectionsByDate(date);
-            long passed = inspectionRepository.countPassedInspectionsByDate(date);
-            long failed = inspectionRepository.countFailedInspectionsByDate(date);
-            long reInspections = inspectionRepository.countReInspectionsByDate(date);
+            InspectionRollupService.DailyCounts counts = new InspectionRollupService.DailyCounts();
+            rollupService.getDay(day).values().forEach(counts::add);
+            long total = counts.getTotal();
+            long passed = counts.getPassed();
+            long failed = counts.getFailed();
+            long reInspections = counts.getReInspections();
 
             InspectionRequest.Statistics result = new InspectionRequest.Statistics(
-                    total, passed, failed, reInspections, date);
+                    total, passed, failed, reInspections, day.atStartOfDay());
 
             logger.info("날짜별 통계 조회 완료 - 날짜: {}, 전체: {}, 통과: {}, 실패: {}",
                     dateStr, total, passed, failed);
@@ -549,6 +657,81 @@ public class InspectionService {
         }
     }
 
+    /**
+     * 기간별 일별 점호 통계 (일별 집계 테이블 기준)
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getDailyStatistics(LocalDate startDate, LocalDate endDate) {
+        try {
+            logger.info("일별 통계 조회 - 기간: {} ~ {}", startDate, endDate);
+
+            List<Map<String, Object>> result = new ArrayList<>();
+            rollupService.getDailyTotals(startDate, endDate)
+                    .forEach((day, counts) -> result.add(toStatisticsMap("date", day.toString(), counts)));
+            return result;
+
+        } catch (Exception e) {
+            logger.error("일별 통계 조회 중 오류 발생", e);
+            throw new RuntimeException("일별 통계 조회에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 기간별 월별 점호 통계 (일별 집계를 월 단위로 합산)
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getMonthlyStatistics(LocalDate startDate, LocalDate endDate) {
+        try {
+            logger.info("월별 통계 조회 - 기간: {} ~ {}", startDate, endDate);
+
+            Map<String, InspectionRollupService.DailyCounts> byMonth = new LinkedHashMap<>();
+            rollupService.getDailyTotals(startDate, endDate).forEach((day, counts) ->
+                    byMonth.computeIfAbsent(day.toString().substring(0, 7),
+                            key -> new InspectionRollupService.DailyCounts()).add(counts));
+
+            List<Map<String, Object>> result = new ArrayList<>();
+            byMonth.forEach((month, counts) -> result.add(toStatisticsMap("month", month, counts)));
+            return result;
+
+        } catch (Exception e) {
+            logger.error("월별 통계 조회 중 오류 발생", e);
+            throw new RuntimeException("월별 통계 조회에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 날짜별 기숙사동 통계 (기숙사동 정보가 없는 사용자는 "미지정")
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getBuildingStatistics(LocalDate date) {
+        try {
+            logger.info("기숙사동별 통계 조회 - 날짜: {}", date);
+
+            List<Map<String, Object>> result = new ArrayList<>();
+            rollupService.getDay(date).forEach((building, counts) ->
+                    result.add(toStatisticsMap("building", building.isEmpty() ? "미지정" : building, counts)));
+            return result;
+
+        } catch (Exception e) {
+            logger.error("기숙사동별 통계 조회 중 오류 발생", e);
+            throw new RuntimeException("기숙사동별 통계 조회에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    private Map<String, Object> toStatisticsMap(String keyName, String key,
+                                                InspectionRollupService.DailyCounts counts) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put(keyName, key);
+        map.put("totalInspections", counts.getTotal());
+        map.put("passedInspections", counts.getPassed());
+        map.put("failedInspections", counts.getFailed());
+        map.put("rejectedInspections", counts.getRejected());
+        map.put("reInspections", counts.getReInspections());
+        map.put("averageScore", Math.round(counts.getAverageScore() * 100.0) / 100.0);
+        map.put("passRate", Math.round(counts.getPassRate() * 100.0) / 100.0);
+        return map;
+    }
+
     // ==================== 기숙사별 점호 현황 테이블 메서드 ====================
 
     /**
@@ -587,15 +770,15 @@ public class InspectionService {
             logger.info("테이블 설정 - 층: {}~{}, 호실: {}~{}, 형식: {}, 예시: {}",
                     startFloor, endFloor, startRoom, endRoom, roomNumberFormat, isDefaultConfig);
 
-            // 해당 기숙사의 모든 사용자 조회
-            List<User> buildingUsers = userRepository.findByDormitoryBuildingAndIsActiveTrue(building);
-
             // 해당 날짜의 점호 기록 조회
             List<Inspection> inspections = inspectionRepository.findByInspectionDateBetween(startOfDay, endOfDay);
 
-            // 해당 기숙사 사용자들의 점호 기록만 필터링
+            // 해당 기숙사 사용자들의 점호 기록만 필터링 (명부 색인으로 소속 동 확인)
             Map<String, Inspection> userInspectionMap = inspections.stream()
-                    .filter(i -> buildingUsers.stream().anyMatch(u -> u.getId().equals(i.getUserId())))
+                    .filter(i -> {
+                        RoomRosterIndex.Resident resident = rosterIndex.getResident(i.getUserId());
+                        return resident != null && building.equals(resident.getBuilding());
+                    })
                     .collect(Collectors.toMap(
                             Inspection::getUserId,
                             i -> i,
@@ -689,10 +872,8 @@ public class InspectionService {
                         exampleStatusIndex++;
                     } else {
                         // ✅ 실제 데이터 처리 (기존 로직)
-                        // 해당 호실의 사용자 찾기
-                        List<User> roomUsers = buildingUsers.stream()
-                                .filter(u -> roomNumber.equals(u.getRoomNumber()))
-                                .collect(Collectors.toList());
+                        // 해당 호실의 사용자 찾기 (명부 색인)
+                        List<RoomRosterIndex.Resident> roomUsers = rosterIndex.getResidents(building, roomNumber);
 
                         if (roomUsers.isEmpty()) {
                             roomStatus.put("status", "EMPTY");
@@ -708,12 +889,12 @@ public class InspectionService {
                             boolean hasPending = false;
                             int submittedCount = 0;
 
-                            for (User user : roomUsers) {
+                            for (RoomRosterIndex.Resident user : roomUsers) {
                                 Map<String, Object> userStatus = new HashMap<>();
-                                userStatus.put("userId", user.getId());
+                                userStatus.put("userId", user.getUserId());
                                 userStatus.put("userName", decryptUserName(user.getName()));
 
-                                Inspection inspection = userInspectionMap.get(user.getId());
+                                Inspection inspection = userInspectionMap.get(user.getUserId());
 
                                 if (inspection != null) {
                                     submittedCount++;
@@ -837,6 +1018,253 @@ public class InspectionService {
         }
     }
 
+    /**
+     * ✅ 기숙사별 점호 현황 요약 (그리드 전용)
+     * 호실별 상태 코드/인원만 층 × 호실 2차원 배열로 반환 (이름 복호화, 점호 상세, 피드백 제외)
+     * 호실 상세는 getRoomInspectionDetail로 따로 조회
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getBuildingInspectionSummary(String building, String dateStr) {
+        try {
+            LocalDate targetDate = (dateStr == null || dateStr.isEmpty()) ? LocalDate.now() : LocalDate.parse(dateStr);
+
+            BuildingTableConfig tableConfig = buildingConfigService.getConfigOrDefault(building);
+            Map<String, String> userStatusMap = tableConfig.getId() == null
+                    ? Map.of() : loadDailyUserStatuses(targetDate);
+
+            return buildBuildingSummary(building, targetDate, tableConfig, userStatusMap);
+
+        } catch (Exception e) {
+            logger.error("기숙사별 점호 현황 요약 조회 실패 - 동: {}", building, e);
+            throw new RuntimeException("기숙사별 점호 현황 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * ✅ 전체 기숙사 점호 현황 요약 (캠퍼스 대시보드)
+     * 당일 점호 상태 조회 1회 + 명부 색인을 모든 동이 공유하고, 동별 그리드 계산은 전용 ForkJoinPool에서 병렬 처리
+     * 동별 계산 시간(elapsedMs)을 함께 반환
+     * 테이블 설정이 없는 동은 예시 그리드(isExample=true)로 표시만 하고 전체 합계에서는 제외 (exampleBuildings)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getCampusInspectionSummary(String dateStr) {
+        long startTime = System.nanoTime();
+        try {
+            LocalDate targetDate = (dateStr == null || dateStr.isEmpty()) ? LocalDate.now() : LocalDate.parse(dateStr);
+
+            // 공유 데이터는 요청 스레드(트랜잭션 안)에서 미리 조회
+            List<String> buildings = getAllBuildings();
+            Map<String, BuildingTableConfig> activeConfigs = buildingConfigService.getActiveConfigs().stream()
+                    .collect(Collectors.toMap(BuildingTableConfig::getBuildingName, c -> c, (first, second) -> first));
+            Map<String, BuildingTableConfig> configs = new LinkedHashMap<>();
+            for (String building : buildings) {
+                BuildingTableConfig config = activeConfigs.get(building);
+                configs.put(building, config != null ? config : buildingConfigService.getConfigOrDefault(building));
+            }
+            Map<String, String> userStatusMap = loadDailyUserStatuses(targetDate);
+            long fetchMs = (System.nanoTime() - startTime) / 1_000_000;
+
+            // 동별 계산 (DB 접근 없음)
+            List<Callable<Map<String, Object>>> tasks = new ArrayList<>();
+            for (Map.Entry<String, BuildingTableConfig> entry : configs.entrySet()) {
+                tasks.add(() -> {
+                    long buildingStart = System.nanoTime();
+                    Map<String, Object> summary;
+                    try {
+                        summary = buildBuildingSummary(entry.getKey(), targetDate, entry.getValue(), userStatusMap);
+                    } catch (RuntimeException e) {
+                        logger.warn("기숙사 현황 계산 실패 - 동: {}, 오류: {}", entry.getKey(), e.getMessage());
+                        summary = new HashMap<>();
+                        summary.put("building", entry.getKey());
+                        summary.put("error", e.getMessage());
+                    }
+                    summary.put("elapsedMs", (System.nanoTime() - buildingStart) / 1_000_000.0);
+                    return summary;
+                });
+            }
+
+            List<Map<String, Object>> buildingSummaries = new ArrayList<>(tasks.size());
+            for (Future<Map<String, Object>> future : dashboardPool.invokeAll(tasks)) {
+                buildingSummaries.add(future.get());
+            }
+
+            // 전체 합계 (예시 테이블 동 제외)
+            Map<String, Long> campusStatistics = new LinkedHashMap<>();
+            List<String> exampleBuildings = new ArrayList<>();
+            for (Map<String, Object> summary : buildingSummaries) {
+                if (Boolean.TRUE.equals(summary.get("isExample"))) {
+                    exampleBuildings.add((String) summary.get("building"));
+                    continue;
+                }
+                Object statistics = summary.get("statistics");
+                if (statistics instanceof Map<?, ?> stats) {
+                    stats.forEach((key, value) -> {
+                        if (value instanceof Number number) {
+                            campusStatistics.merge(String.valueOf(key), number.longValue(), Long::sum);
+                        }
+                    });
+                }
+            }
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("date", targetDate.toString());
+            result.put("statusCodes", SUMMARY_STATUS_CODES);
+            result.put("buildings", buildingSummaries);
+            result.put("statistics", campusStatistics);
+            result.put("exampleBuildings", exampleBuildings);
+            result.put("parallelism", dashboardPool.getParallelism());
+            result.put("fetchMs", fetchMs);
+            result.put("totalMs", (System.nanoTime() - startTime) / 1_000_000);
+
+            logger.info("전체 기숙사 점호 현황 요약 완료 - {}개 동, 조회: {}ms, 전체: {}ms",
+                    buildings.size(), fetchMs, result.get("totalMs"));
+            return result;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("전체 기숙사 점호 현황 조회가 중단되었습니다.");
+        } catch (Exception e) {
+            logger.error("전체 기숙사 점호 현황 조회 실패", e);
+            throw new RuntimeException("전체 기숙사 점호 현황 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자별 당일 최종 점호 상태 (사용자 ID, 일시, 상태만 조회)
+     */
+    private Map<String, String> loadDailyUserStatuses(LocalDate targetDate) {
+        Map<String, String> userStatusMap = new HashMap<>();
+        Map<String, LocalDateTime> latestAt = new HashMap<>();
+        for (Object[] row : inspectionRepository.findSubmissionStatusBetween(
+                targetDate.atStartOfDay(), targetDate.plusDays(1).atStartOfDay())) {
+            String userId = (String) row[0];
+            LocalDateTime at = (LocalDateTime) row[1];
+            LocalDateTime previous = latestAt.get(userId);
+            if (previous == null || (at != null && !at.isBefore(previous))) {
+                latestAt.put(userId, at);
+                userStatusMap.put(userId, row[2] != null ? (String) row[2] : "PENDING");
+            }
+        }
+        return userStatusMap;
+    }
+
+    /**
+     * 기숙사 1개 동의 요약 그리드 계산 (DB 접근 없음 - 명부 색인과 전달받은 상태만 사용)
+     * 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+     */
+    Map<String, Object> buildBuildingSummary(String building, LocalDate targetDate,
+                                                     BuildingTableConfig tableConfig,
+                                                     Map<String, String> userStatusMap) {
+        boolean isDefaultConfig = (tableConfig.getId() == null);
+        int startFloor = tableConfig.getStartFloor();
+        int endFloor = tableConfig.getEndFloor();
+        int startRoom = tableConfig.getStartRoom();
+        int endRoom = tableConfig.getEndRoom();
+
+        // 예시 테이블용 상태 순환 (전체 모드와 동일)
+        String[] exampleStatuses = {"PASS", "FAIL", "NOT_SUBMITTED", "REJECTED", "EMPTY"};
+        int exampleStatusIndex = 0;
+
+        int floorCount = Math.max(0, endFloor - startFloor + 1);
+        int roomCount = Math.max(0, endRoom - startRoom + 1);
+        int[][] statusGrid = new int[floorCount][roomCount];
+        int[][] userCountGrid = new int[floorCount][roomCount];
+        int[][] submittedGrid = new int[floorCount][roomCount];
+        int[] statusCounts = new int[SUMMARY_STATUS_CODES.size()];
+
+        for (int f = 0; f < floorCount; f++) {
+            for (int r = 0; r < roomCount; r++) {
+                String status;
+                int userCount;
+                int submittedCount;
+
+                if (isDefaultConfig) {
+                    status = exampleStatuses[exampleStatusIndex++ % exampleStatuses.length];
+                    userCount = "EMPTY".equals(status) ? 0 : 1;
+                    submittedCount = ("EMPTY".equals(status) || "NOT_SUBMITTED".equals(status)) ? 0 : 1;
+                } else {
+                    String roomNumber = tableConfig.generateRoomNumber(startFloor + f, startRoom + r);
+                    List<RoomRosterIndex.Resident> residents = rosterIndex.getResidents(building, roomNumber);
+                    List<String> statuses = new ArrayList<>(residents.size());
+                    submittedCount = 0;
+                    for (RoomRosterIndex.Resident resident : residents) {
+                        String userStatus = userStatusMap.get(resident.getUserId());
+                        if (userStatus != null) {
+                            submittedCount++;
+                            statuses.add(userStatus);
+                        } else {
+                            statuses.add("NOT_SUBMITTED");
+                        }
+                    }
+                    userCount = residents.size();
+                    status = determineOverallStatusOf(statuses);
+                }
+
+                int code = SUMMARY_STATUS_CODES.indexOf(status);
+                if (code < 0) {
+                    code = SUMMARY_STATUS_CODES.indexOf("NOT_SUBMITTED");
+                }
+                statusGrid[f][r] = code;
+                userCountGrid[f][r] = userCount;
+                submittedGrid[f][r] = submittedCount;
+                statusCounts[code]++;
+            }
+        }
+
+        List<Integer> floors = new ArrayList<>();
+        for (int f = startFloor; f <= endFloor; f++) {
+            floors.add(f);
+        }
+        List<Integer> rooms = new ArrayList<>();
+        for (int r = startRoom; r <= endRoom; r++) {
+            rooms.add(r);
+        }
+
+        int totalRooms = floorCount * roomCount;
+        int emptyCount = statusCounts[SUMMARY_STATUS_CODES.indexOf("EMPTY")];
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("totalRooms", totalRooms);
+        statistics.put("occupiedRooms", totalRooms - emptyCount);
+        statistics.put("passCount", statusCounts[SUMMARY_STATUS_CODES.indexOf("PASS")]);
+        statistics.put("failCount", statusCounts[SUMMARY_STATUS_CODES.indexOf("FAIL")]);
+        statistics.put("rejectedCount", statusCounts[SUMMARY_STATUS_CODES.indexOf("REJECTED")]);
+        statistics.put("pendingCount", statusCounts[SUMMARY_STATUS_CODES.indexOf("PENDING")]);
+        statistics.put("notSubmittedCount", statusCounts[SUMMARY_STATUS_CODES.indexOf("NOT_SUBMITTED")]);
+        statistics.put("emptyCount", emptyCount);
+
+        Map<String, Object> configInfo = new HashMap<>();
+        configInfo.put("startFloor", startFloor);
+        configInfo.put("endFloor", endFloor);
+        configInfo.put("startRoom", startRoom);
+        configInfo.put("endRoom", endRoom);
+        configInfo.put("roomNumberFormat", tableConfig.getRoomNumberFormat());
+        configInfo.put("configId", tableConfig.getId());
+        configInfo.put("isDefault", isDefaultConfig);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("building", building);
+        result.put("date", targetDate.toString());
+        result.put("view", "summary");
+        result.put("isExample", isDefaultConfig);
+        result.put("floors", floors);
+        result.put("rooms", rooms);
+        result.put("statusCodes", SUMMARY_STATUS_CODES);
+        result.put("status", statusGrid);
+        result.put("userCount", userCountGrid);
+        result.put("submittedCount", submittedGrid);
+        result.put("statistics", statistics);
+        result.put("tableConfig", configInfo);
+        return result;
+    }
+
+    /**
+     * 기숙사 테이블 설정에 따른 방 번호 (층 + 호실)
+     */
+    @Transactional(readOnly = true)
+    public String resolveRoomNumber(String building, int floor, int room) {
+        return buildingConfigService.getConfigOrDefault(building).generateRoomNumber(floor, room);
+    }
+
     /**
      * 전체 기숙사 동 목록 조회
      * ✅ 사용자 데이터 + 테이블 설정 모두에서 기숙사 목록을 가져옴
@@ -846,8 +1274,8 @@ public class InspectionService {
         try {
             logger.info("전체 기숙사 동 목록 조회");
 
-            // 1. 사용자 데이터에서 기숙사 목록 조회
-            List<String> userBuildings = userRepository.findDistinctDormitoryBuildings();
+            // 1. 사용자 데이터에서 기숙사 목록 조회 (명부 색인)
+            List<String> userBuildings = rosterIndex.getBuildings();
 
             // 2. 테이블 설정에서 기숙사 목록 조회
             List<BuildingTableConfig> configs = buildingConfigService.getActiveConfigs();
@@ -899,8 +1327,8 @@ public class InspectionService {
             LocalDateTime startOfDay = targetDate.atStartOfDay();
             LocalDateTime endOfDay = targetDate.atTime(23, 59, 59);
 
-            // 해당 호실의 사용자들 조회
-            List<User> roomUsers = userRepository.findByDormitoryBuildingAndRoomNumberAndIsActiveTrue(building, roomNumber);
+            // 해당 호실의 사용자들 조회 (명부 색인)
+            List<RoomRosterIndex.Resident> roomUsers = rosterIndex.getResidents(building, roomNumber);
 
             Map<String, Object> result = new HashMap<>();
             result.put("building", building);
@@ -915,23 +1343,28 @@ public class InspectionService {
                 return result;
             }
 
+            // 호실 거주자 전원의 해당 날짜 점호 기록 조회 (쿼리 1회, 사용자별 첫 기록 사용)
+            List<String> userIds = roomUsers.stream().map(RoomRosterIndex.Resident::getUserId).collect(Collectors.toList());
+            Map<String, Inspection> inspectionByUser = new HashMap<>();
+            for (Inspection inspection : inspectionRepository.findByUserIdInAndInspectionDateBetweenOrderByIdAsc(
+                    userIds, startOfDay, endOfDay)) {
+                inspectionByUser.putIfAbsent(inspection.getUserId(), inspection);
+            }
+
             List<Map<String, Object>> userDetails = new ArrayList<>();
 
-            for (User user : roomUsers) {
+            for (RoomRosterIndex.Resident user : roomUsers) {
                 Map<String, Object> userDetail = new HashMap<>();
-                userDetail.put("userId", user.getId());
+                userDetail.put("userId", user.getUserId());
                 userDetail.put("userName", decryptUserName(user.getName()));
 
-                // 해당 날짜의 점호 기록 조회
-                List<Inspection> inspections = inspectionRepository.findByUserIdAndInspectionDateBetween(
-                        user.getId(), startOfDay, endOfDay);
+                Inspection inspection = inspectionByUser.get(user.getUserId());
 
-                if (inspections.isEmpty()) {
+                if (inspection == null) {
                     userDetail.put("inspectionStatus", "NOT_SUBMITTED");
                     userDetail.put("statusText", "미제출");
                     userDetail.put("inspection", null);
                 } else {
-                    Inspection inspection = inspections.get(0);
                     userDetail.put("inspectionStatus", inspection.getStatus());
                     userDetail.put("statusText", getStatusText(inspection.getStatus()));
 
@@ -942,6 +1375,7 @@ public class InspectionService {
                     inspectionData.put("geminiFeedback", inspection.getGeminiFeedback());
                     inspectionData.put("adminComment", inspection.getAdminComment());
                     inspectionData.put("imagePath", inspection.getImagePath());
+                    inspectionData.put("thumbnailPath", ImageRenditions.thumbnailPathOf(inspection.getImagePath()));
                     inspectionData.put("inspectionDate", inspection.getInspectionDate());
 
                     userDetail.put("inspection", inspectionData);
@@ -1014,14 +1448,22 @@ public class InspectionService {
      * 호실 전체 상태 결정
      */
     private String determineOverallStatus(List<Map<String, Object>> userDetails) {
+        return determineOverallStatusOf(userDetails.stream()
+                .map(user -> (String) user.get("inspectionStatus"))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 호실 전체 상태 결정 (거주자별 상태 목록)
+     */
+    private static String determineOverallStatusOf(List<String> statuses) {
         boolean hasPass = false;
         boolean hasFail = false;
         boolean hasRejected = false;
         boolean hasPending = false;
         boolean hasNotSubmitted = false;
 
-        for (Map<String, Object> user : userDetails) {
-            String status = (String) user.get("inspectionStatus");
+        for (String status : statuses) {
             switch (status) {
                 case "PASS": hasPass = true; break;
                 case "FAIL": hasFail = true; break;
@@ -1059,6 +1501,52 @@ public class InspectionService {
     }
 
     private InspectionRequest.AdminResponse convertToAdminResponse(Inspection inspection) {
+        return convertToAdminResponses(List.of(inspection)).get(0);
+    }
+
+    /**
+     * 관리자용 응답 변환 (목록)
+     * ✅ 사용자 이름/기숙사동은 명부 색인에서 조회하고, 명부에 없는(비활성) 사용자만 한 번에 DB 조회
+     * ✅ 사용자별 이름 복호화는 한 번만 수행
+     */
+    private List<InspectionRequest.AdminResponse> convertToAdminResponses(List<Inspection> inspections) {
+        Map<String, UserLabel> labels = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (Inspection inspection : inspections) {
+            String userId = inspection.getUserId();
+            if (userId == null || labels.containsKey(userId) || missing.contains(userId)) {
+                continue;
+            }
+            RoomRosterIndex.Resident resident = rosterIndex.getResident(userId);
+            if (resident != null) {
+                labels.put(userId, new UserLabel(
+                        resident.getName() != null ? decryptUserName(resident.getName()) : userId,
+                        resident.getBuilding()));
+            } else {
+                missing.add(userId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            try {
+                for (User u : userRepository.findAllById(missing)) {
+                    labels.put(u.getId(), new UserLabel(
+                            u.getName() != null ? decryptUserName(u.getName()) : u.getId(),
+                            u.getDormitoryBuilding()));
+                }
+            } catch (Exception e) {
+                logger.warn("사용자 정보 조회 실패 - 사용자 수: {}, 오류: {}", missing.size(), e.getMessage());
+            }
+        }
+
+        List<InspectionRequest.AdminResponse> responses = new ArrayList<>(inspections.size());
+        for (Inspection inspection : inspections) {
+            responses.add(toAdminResponse(inspection, labels.get(inspection.getUserId())));
+        }
+        return responses;
+    }
+
+    private InspectionRequest.AdminResponse toAdminResponse(Inspection inspection, UserLabel label) {
         InspectionRequest.AdminResponse response = new InspectionRequest.AdminResponse();
         response.setId(inspection.getId());
         response.setUserId(inspection.getUserId());
@@ -1073,25 +1561,16 @@ public class InspectionService {
         response.setCreatedAt(inspection.getCreatedAt());
         response.setUpdatedAt(inspection.getUpdatedAt());
 
-        // 사용자 이름 조회 및 복호화
-        try {
-            Optional<User> user = userRepository.findById(inspection.getUserId());
-            if (user.isPresent()) {
-                User u = user.get();
-                if (u.getName() != null) {
-                    response.setUserName(decryptUserName(u.getName()));
-                } else {
-                    response.setUserName(u.getId());
-                }
-                response.setDormitoryBuilding(u.getDormitoryBuilding());
-            } else {
-                response.setUserName(inspection.getUserId());
-            }
-        } catch (Exception e) {
-            logger.warn("사용자 정보 조회 실패 - 사용자ID: {}", inspection.getUserId());
+        if (label != null) {
+            response.setUserName(label.userName());
+            response.setDormitoryBuilding(label.dormitoryBuilding());
+        } else {
             response.setUserName(inspection.getUserId());
         }
 
         return response;
     }
-}
\ No newline at end of file
+
+    private record UserLabel(String userName, String dormitoryBuilding) {
+    }
+}
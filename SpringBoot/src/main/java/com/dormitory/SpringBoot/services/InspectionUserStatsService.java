@@ -0,0 +1,359 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.domain.Inspection;
+import com.dormitory.SpringBoot.domain.InspectionUserStats;
+import com.dormitory.SpringBoot.repository.InspectionRepository;
+import com.dormitory.SpringBoot.repository.InspectionUserStatsRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 사용자별 점호 누적 통계 서비스
+ * ✅ 제출/반려/삭제/수정 시 점호 트랜잭션 커밋 이후 짧은 별도 트랜잭션에서 O(1) 증분 갱신
+ *    (점호 트랜잭션은 통계 행 잠금을 잡지 않으므로 같은 사용자의 제출이 서로를 기다리지 않음, 갱신 순서는 사용자 행 잠금으로 보장)
+ * ✅ 최저/최고 점수나 현재 연속 기록에 걸린 기록이 빠지거나 바뀌면 해당 사용자만 재계산
+ * ✅ 주기적인 전체 재구축으로 누적 오차 보정
+ */
+@Service
+public class InspectionUserStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InspectionUserStatsService.class);
+
+    @Autowired
+    private InspectionUserStatsRepository statsRepository;
+
+    @Autowired
+    private InspectionRepository inspectionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${inspection.user-stats.streak-page-size:50}")
+    private int streakPageSize;
+
+    // 커밋 이후 통계 갱신용 트랜잭션 (커밋 이후 콜백에서는 새 트랜잭션이 필요)
+    private TransactionTemplate statsTransaction;
+
+    @PostConstruct
+    public void init() {
+        this.statsTransaction = new TransactionTemplate(transactionManager);
+        this.statsTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // =============================================================================
+    // 증분 갱신 (점호 트랜잭션 안에서 호출 → 커밋 이후 반영)
+    // =============================================================================
+
+    /**
+     * 점호 제출 반영
+     */
+    public void onSubmitted(Inspection inspection) {
+        Change change = Change.of(inspection);
+        afterCommit(change.userId(), () -> applySubmitted(change));
+    }
+
+    /**
+     * 점호 반려/삭제 반영 (점호 삭제 이후 호출)
+     */
+    public void onRemoved(Inspection inspection) {
+        // 삭제를 먼저 DB에 반영 (트랜잭션 밖에서 호출되어 바로 재계산하는 경우 삭제된 기록을 세지 않도록)
+        inspectionRepository.flush();
+        Change change = Change.of(inspection);
+        afterCommit(change.userId(), () -> applyRemoved(change));
+    }
+
+    /**
+     * 관리자 수정 반영
+     *
+     * @param previousScore        수정 전 점수
+     * @param previousStatus       수정 전 상태
+     * @param previousReInspection 수정 전 재검 여부
+     */
+    public void onUpdated(Inspection inspection, Integer previousScore, String previousStatus,
+                          boolean previousReInspection) {
+        Change change = Change.of(inspection);
+        Change previous = new Change(change.userId(), previousScore, previousStatus, previousReInspection, change.at());
+        afterCommit(change.userId(), () -> applyUpdated(change, previous));
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후, 아니면 바로 별도 트랜잭션에서 갱신
+     * 갱신 실패는 점호 처리에 영향을 주지 않음 (주기적인 전체 재구축으로 보정)
+     */
+    private void afterCommit(String userId, Runnable update) {
+        Runnable guarded = () -> {
+            try {
+                statsTransaction.executeWithoutResult(status -> update.run());
+            } catch (Exception e) {
+                logger.error("[InspectionUserStats] 사용자 통계 갱신 실패 - 사용자: {}", userId, e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+
+    private void applySubmitted(Change change) {
+        InspectionUserStats stats = lockOrCreate(change.userId());
+        LocalDateTime at = change.at();
+
+        // 처음 만든 행이거나 마지막 기록보다 이전 일시의 점호면 재계산
+        if (stats.isEmpty() || at == null
+                || (stats.getLastInspectionAt() != null && at.isBefore(stats.getLastInspectionAt()))) {
+            recompute(stats);
+            return;
+        }
+
+        int score = scoreOf(change.score());
+        stats.setInspectionCount(stats.getInspectionCount() + 1);
+        stats.setScoreSum(stats.getScoreSum() + score);
+        stats.setMinScore(stats.getMinScore() == null ? score : Math.min(stats.getMinScore(), score));
+        stats.setMaxScore(stats.getMaxScore() == null ? score : Math.max(stats.getMaxScore(), score));
+        adjustStatusCounts(stats, change.status(), change.reInspection(), 1);
+
+        // 연속 기록
+        if (Objects.equals(change.status(), stats.getLastStatus())) {
+            stats.setCurrentStreak(stats.getCurrentStreak() + 1);
+        } else {
+            stats.setCurrentStreak(1);
+            stats.setStreakStartedAt(at);
+        }
+        stats.setLastStatus(change.status());
+        stats.setLastInspectionAt(at);
+        stats.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private void applyRemoved(Change change) {
+        InspectionUserStats stats = lockOrCreate(change.userId());
+        int score = scoreOf(change.score());
+
+        if (stats.isEmpty() || stats.getInspectionCount() <= 1
+                || isExtreme(stats, score) || isInCurrentStreak(stats, change.at())) {
+            recompute(stats);
+            return;
+        }
+
+        stats.setInspectionCount(stats.getInspectionCount() - 1);
+        stats.setScoreSum(stats.getScoreSum() - score);
+        adjustStatusCounts(stats, change.status(), change.reInspection(), -1);
+        stats.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private void applyUpdated(Change change, Change previous) {
+        boolean scoreChanged = !Objects.equals(previous.score(), change.score());
+        boolean statusChanged = !Objects.equals(previous.status(), change.status());
+        if (!scoreChanged && !statusChanged && previous.reInspection() == change.reInspection()) {
+            return;
+        }
+
+        InspectionUserStats stats = lockOrCreate(change.userId());
+        int oldScore = scoreOf(previous.score());
+        int newScore = scoreOf(change.score());
+
+        if (stats.isEmpty()
+                || (scoreChanged && isExtreme(stats, oldScore))
+                || (statusChanged && isInCurrentStreak(stats, change.at()))) {
+            recompute(stats);
+            return;
+        }
+
+        stats.setScoreSum(stats.getScoreSum() - oldScore + newScore);
+        stats.setMinScore(stats.getMinScore() == null ? newScore : Math.min(stats.getMinScore(), newScore));
+        stats.setMaxScore(stats.getMaxScore() == null ? newScore : Math.max(stats.getMaxScore(), newScore));
+        adjustStatusCounts(stats, previous.status(), previous.reInspection(), -1);
+        adjustStatusCounts(stats, change.status(), change.reInspection(), 1);
+        stats.setUpdatedAt(LocalDateTime.now());
+    }
+
+    // =============================================================================
+    // 조회
+    // =============================================================================
+
+    /**
+     * 사용자 점호 통계 (행 1개 조회)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getUserStats(String userId) {
+        InspectionUserStats stats = statsRepository.findById(userId).orElseGet(() -> new InspectionUserStats(userId));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("userId", userId);
+        result.put("totalInspections", stats.getInspectionCount());
+        result.put("passedInspections", stats.getPassCount());
+        result.put("failedInspections", stats.getFailCount());
+        result.put("reInspections", stats.getReInspectionCount());
+        result.put("averageScore", Math.round(stats.getAverageScore() * 100.0) / 100.0);
+        result.put("minScore", stats.getMinScore());
+        result.put("maxScore", stats.getMaxScore());
+        result.put("passRate", stats.getInspectionCount() > 0
+                ? Math.round((double) stats.getPassCount() / stats.getInspectionCount() * 10000.0) / 100.0
+                : 0.0);
+        result.put("lastStatus", stats.getLastStatus());
+        result.put("currentPassStreak", stats.getCurrentPassStreak());
+        result.put("currentFailStreak", stats.getCurrentFailStreak());
+        result.put("lastInspectionAt", stats.getLastInspectionAt());
+        return result;
+    }
+
+    // =============================================================================
+    // 재구축
+    // =============================================================================
+
+    /**
+     * 전체 사용자 통계 재구축 (사용자별 개별 트랜잭션)
+     *
+     * @return 재구축한 사용자 수
+     */
+    @Scheduled(cron = "${inspection.user-stats.rebuild-cron:0 30 3 * * *}")
+    public int rebuildAll() {
+        long startTime = System.currentTimeMillis();
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Set<String> userIds = new LinkedHashSet<>();
+        readOnly.executeWithoutResult(status -> {
+            userIds.addAll(inspectionRepository.findDistinctUserIds());
+            userIds.addAll(statsRepository.findAllUserIds());
+        });
+
+        TransactionTemplate writable = new TransactionTemplate(transactionManager);
+        int rebuilt = 0;
+        for (String userId : userIds) {
+            try {
+                writable.executeWithoutResult(status -> recompute(lockOrCreate(userId)));
+                rebuilt++;
+            } catch (Exception e) {
+                logger.error("[InspectionUserStats] 사용자 통계 재구축 실패 - 사용자: {}", userId, e);
+            }
+        }
+
+        logger.info("[InspectionUserStats] 사용자 통계 재구축 완료 - 사용자: {}명, 소요: {}ms",
+                rebuilt, System.currentTimeMillis() - startTime);
+        return rebuilt;
+    }
+
+    /**
+     * 한 사용자의 통계를 점호 이력에서 다시 계산 (집계 쿼리 1회 + 최근 이력 일부)
+     */
+    private void recompute(InspectionUserStats stats) {
+        String userId = stats.getUserId();
+
+        // [전체, 점수 합계, 최저 점수, 최고 점수, 통과, 실패, 재검]
+        List<Object[]> rows = inspectionRepository.aggregateByUserId(userId);
+        Object[] row = rows.isEmpty() ? new Object[7] : rows.get(0);
+        stats.setInspectionCount(toLong(row[0]));
+        stats.setScoreSum(toLong(row[1]));
+        stats.setMinScore(row[2] instanceof Number min ? min.intValue() : null);
+        stats.setMaxScore(row[3] instanceof Number max ? max.intValue() : null);
+        stats.setPassCount(toLong(row[4]));
+        stats.setFailCount(toLong(row[5]));
+        stats.setReInspectionCount(toLong(row[6]));
+
+        // 최신 기록부터 상태가 바뀔 때까지만 읽어 연속 기록 계산
+        String lastStatus = null;
+        int streak = 0;
+        LocalDateTime streakStartedAt = null;
+        LocalDateTime lastInspectionAt = null;
+        int page = 0;
+        scan:
+        while (true) {
+            List<Object[]> history = inspectionRepository.findStatusHistoryByUserId(
+                    userId, PageRequest.of(page, streakPageSize));
+            for (Object[] entry : history) {
+                String status = (String) entry[0];
+                LocalDateTime at = (LocalDateTime) entry[1];
+                if (lastInspectionAt == null) {
+                    lastInspectionAt = at;
+                    lastStatus = status;
+                } else if (!Objects.equals(status, lastStatus)) {
+                    break scan;
+                }
+                streak++;
+                streakStartedAt = at;
+            }
+            if (history.size() < streakPageSize) {
+                break;
+            }
+            page++;
+        }
+
+        stats.setLastStatus(lastStatus);
+        stats.setCurrentStreak(streak);
+        stats.setStreakStartedAt(streakStartedAt);
+        stats.setLastInspectionAt(lastInspectionAt);
+        stats.setUpdatedAt(LocalDateTime.now());
+
+        logger.debug("[InspectionUserStats] 사용자 통계 재계산 - {}", stats);
+    }
+
+    private InspectionUserStats lockOrCreate(String userId) {
+        statsRepository.insertIfAbsent(userId);
+        return statsRepository.findByUserIdForUpdate(userId)
+                .orElseThrow(() -> new RuntimeException("사용자 점호 통계를 찾을 수 없습니다: " + userId));
+    }
+
+    private static void adjustStatusCounts(InspectionUserStats stats, String status, boolean reInspection, int delta) {
+        if ("PASS".equals(status)) {
+            stats.setPassCount(stats.getPassCount() + delta);
+        } else if ("FAIL".equals(status)) {
+            stats.setFailCount(stats.getFailCount() + delta);
+        }
+        if (reInspection) {
+            stats.setReInspectionCount(stats.getReInspectionCount() + delta);
+        }
+    }
+
+    private static boolean isExtreme(InspectionUserStats stats, int score) {
+        return Objects.equals(stats.getMinScore(), score) || Objects.equals(stats.getMaxScore(), score);
+    }
+
+    private static boolean isInCurrentStreak(InspectionUserStats stats, LocalDateTime at) {
+        return at == null || stats.getStreakStartedAt() == null || !at.isBefore(stats.getStreakStartedAt());
+    }
+
+    private static int scoreOf(Integer score) {
+        return score != null ? score : 0;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    /**
+     * 커밋 이후 반영할 점호 값 (엔티티는 이후에 바뀔 수 있으므로 호출 시점에 복사)
+     */
+    private record Change(String userId, Integer score, String status, boolean reInspection, LocalDateTime at) {
+
+        static Change of(Inspection inspection) {
+            return new Change(inspection.getUserId(), inspection.getScore(), inspection.getStatus(),
+                    Boolean.TRUE.equals(inspection.getIsReInspection()), inspection.getInspectionDate());
+        }
+    }
+}
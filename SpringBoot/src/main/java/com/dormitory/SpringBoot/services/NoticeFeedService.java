@@ -0,0 +1,357 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.config.RoutingDataSource;
+import com.dormitory.SpringBoot.domain.Notice;
+import com.dormitory.SpringBoot.domain.NoticeFeedChange;
+import com.dormitory.SpringBoot.domain.NoticeFeedVersion;
+import com.dormitory.SpringBoot.repository.NoticeFeedChangeRepository;
+import com.dormitory.SpringBoot.repository.NoticeFeedVersionRepository;
+import com.dormitory.SpringBoot.repository.NoticeRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공지사항 목록(피드) 스냅샷 서비스
+ * ✅ 전체 목록을 메모리 스냅샷으로 유지 - 작성/수정/삭제/고정 시에만 다시 로드
+ * ✅ 변경될 때마다 버전 증가 → 클라이언트는 ETag(버전)로 304 응답을 받음
+ *    (버전은 DB(notice_feed_version)에 저장 - 재시작 후에도 같은 버전은 같은 목록)
+ * ✅ since=버전 요청 시 그 이후 변경/삭제된 공지사항만 반환
+ *    (공지사항별 변경/삭제 버전도 DB(notice_feed_change)에 저장 - 어느 인스턴스에서 변경해도 같은 결과)
+ * ✅ 조회마다 DB 버전을 확인해 다른 인스턴스의 변경이 있으면 스냅샷을 다시 로드 (오래된 304 방지)
+ * ✅ 조회수는 버전에 포함하지 않고 응답 시점의 값을 덧씌움 (약한 ETag)
+ */
+@Service
+public class NoticeFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NoticeFeedService.class);
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private NoticeFeedVersionRepository feedVersionRepository;
+
+    @Autowired
+    private NoticeFeedChangeRepository feedChangeRepository;
+
+    @Autowired
+    private NoticeViewCounter noticeViewCounter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 삭제 이력 최대 보관 수 (초과 시 오래된 since 요청은 전체 목록으로 응답)
+    @Value("${notice.feed.max-tombstones:500}")
+    private int maxTombstones;
+
+    private final Object lock = new Object();
+
+    // 현재 스냅샷 (null이거나 DB 버전과 다르면 다시 로드)
+    private volatile Snapshot snapshot;
+
+    // 버전 증가/조회용 트랜잭션 (커밋 이후 호출되므로 새 트랜잭션)
+    private TransactionTemplate versionTransaction;
+
+    // 버전 행 존재 확인 여부
+    private volatile boolean versionRowReady;
+
+    // 스냅샷 로드 이후 DB에 반영된 조회수 증가분
+    private final ConcurrentHashMap<Long, Long> flushedViews = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        versionTransaction = new TransactionTemplate(transactionManager);
+        versionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        noticeViewCounter.addFlushListener((id, delta) -> flushedViews.merge(id, delta, Long::sum));
+    }
+
+    // =============================================================================
+    // 조회
+    // =============================================================================
+
+    /**
+     * 현재 피드 버전
+     */
+    public long currentVersion() {
+        return current().version;
+    }
+
+    /**
+     * 전체 공지사항 목록 (고정 공지사항 우선, 현재 조회수 반영)
+     */
+    public List<Notice> getAllNotices() {
+        return withLiveViewCounts(current().notices);
+    }
+
+    /**
+     * 피드 조회
+     *
+     * @param since 클라이언트가 마지막으로 받은 버전 (null이면 전체)
+     */
+    public Feed getFeed(Long since) {
+        Snapshot current = current();
+
+        // 이력 범위를 벗어난 버전(정리된 삭제 이력 이전, 아직 없는 미래 버전)은 전체 목록
+        if (since == null || since < current.deltaFloor || since > current.version) {
+            return new Feed(current.version, true, withLiveViewCounts(current.notices), List.of());
+        }
+
+        List<Notice> changed = new ArrayList<>();
+        for (Notice notice : current.notices) {
+            Long changedAt = current.changeVersions.get(notice.getId());
+            if (changedAt != null && changedAt > since) {
+                changed.add(notice);
+            }
+        }
+        List<Long> deletedIds = new ArrayList<>();
+        current.tombstones.forEach((id, deletedAt) -> {
+            if (deletedAt > since) {
+                deletedIds.add(id);
+            }
+        });
+
+        return new Feed(current.version, false, withLiveViewCounts(changed), deletedIds);
+    }
+
+    // =============================================================================
+    // 변경 통지 (커밋 이후 NoticeService에서 호출)
+    // =============================================================================
+
+    /**
+     * 공지사항 작성/수정/고정 변경
+     */
+    public void markChanged(Long noticeId) {
+        recordChange(noticeId, false);
+    }
+
+    /**
+     * 공지사항 삭제
+     */
+    public void markDeleted(Long noticeId) {
+        recordChange(noticeId, true);
+    }
+
+    // =============================================================================
+    // 내부
+    // =============================================================================
+
+    private Snapshot current() {
+        FeedState state;
+        try {
+            state = readPersistedState();
+        } catch (RuntimeException e) {
+            // DB 버전 확인 실패 시 기존 스냅샷이 있으면 그대로 응답
+            Snapshot current = snapshot;
+            if (current == null) {
+                throw e;
+            }
+            logger.warn("공지사항 피드 버전 확인 실패 - 기존 스냅샷 사용: {}", e.getMessage());
+            return current;
+        }
+
+        Snapshot current = snapshot;
+        if (current != null && current.covers(state)) {
+            return current;
+        }
+        synchronized (lock) {
+            current = snapshot;
+            if (current != null && current.covers(state)) {
+                return current;
+            }
+            // 변경 직후 다시 만드는 스냅샷이므로 복제 지연 없이 주 DB에서 조회
+            // 목록 로드와 반영분 초기화 사이에 조회수 반영이 끼면 이중 집계/누락되므로 반영을 잠시 막음
+            // (버전을 먼저 읽었으므로 그 사이 커밋된 변경은 다음 조회에서 다시 변경분으로 전달됨)
+            List<Notice> notices = noticeViewCounter.withoutFlush(() -> {
+                List<Notice> loaded = RoutingDataSource.onPrimary(noticeRepository::findAllOrderByPinnedAndCreatedAt);
+                flushedViews.clear();
+                return loaded;
+            });
+            Map<Long, Long> changeVersions = new HashMap<>();
+            Map<Long, Long> tombstones = new HashMap<>();
+            for (NoticeFeedChange change : RoutingDataSource.onPrimary(feedChangeRepository::findAll)) {
+                (change.isDeleted() ? tombstones : changeVersions).put(change.getNoticeId(), change.getVersion());
+            }
+            snapshot = new Snapshot(state.version(), state.deltaFloor(), List.copyOf(notices),
+                    Map.copyOf(changeVersions), Map.copyOf(tombstones));
+            logger.debug("공지사항 피드 스냅샷 갱신 - 버전: {}, 개수: {}", state.version(), notices.size());
+            return snapshot;
+        }
+    }
+
+    /**
+     * 버전 1 증가 후 공지사항 변경/삭제 버전 기록
+     * ✅ 버전 행 잠금으로 여러 인스턴스의 기록 순서가 직렬화됨
+     */
+    private void recordChange(Long noticeId, boolean deleted) {
+        try {
+            versionTransaction.executeWithoutResult(status -> {
+                ensureVersionRow();
+                feedVersionRepository.increment(NoticeFeedVersion.SINGLETON_ID);
+                long version = feedVersionRepository.findVersion(NoticeFeedVersion.SINGLETON_ID);
+
+                NoticeFeedChange change = feedChangeRepository.findById(noticeId)
+                        .orElseGet(() -> new NoticeFeedChange(noticeId, version, deleted));
+                change.setVersion(version);
+                change.setDeleted(deleted);
+                feedChangeRepository.save(change);
+
+                if (deleted) {
+                    pruneTombstones();
+                }
+            });
+        } catch (Exception e) {
+            logger.warn("공지사항 피드 변경 기록 실패 - ID: {}, {}", noticeId, e.getMessage());
+        }
+        snapshot = null;
+    }
+
+    /**
+     * 삭제 이력이 너무 많으면 오래된 것부터 제거하고 delta 가능 범위를 올림
+     */
+    private void pruneTombstones() {
+        long excess = feedChangeRepository.countByDeletedTrue() - maxTombstones;
+        if (excess <= 0) {
+            return;
+        }
+        List<Long> oldest = feedChangeRepository.findOldestTombstoneVersions(PageRequest.of(0, (int) excess));
+        if (oldest.isEmpty()) {
+            return;
+        }
+        long floor = oldest.get(oldest.size() - 1);
+        feedChangeRepository.deleteTombstonesUpTo(floor);
+        feedVersionRepository.raiseDeltaFloor(NoticeFeedVersion.SINGLETON_ID, floor);
+    }
+
+    /**
+     * DB 버전/변경분 하한 조회 (행이 없으면 생성)
+     */
+    private FeedState readPersistedState() {
+        NoticeFeedVersion persisted = versionTransaction.execute(status -> {
+            ensureVersionRow();
+            return feedVersionRepository.findById(NoticeFeedVersion.SINGLETON_ID).orElse(null);
+        });
+        if (persisted == null) {
+            return new FeedState(0L, 0L);
+        }
+        long version = persisted.getVersion();
+        return new FeedState(version, persisted.getDeltaFloor() != null ? persisted.getDeltaFloor() : version);
+    }
+
+    /**
+     * 버전 행 최초 생성 - 시작값은 공지사항 마지막 수정 시각(ms)
+     */
+    private void ensureVersionRow() {
+        if (versionRowReady) {
+            return;
+        }
+        LocalDateTime latestUpdate = feedVersionRepository.findLatestNoticeUpdate();
+        long initialVersion = latestUpdate != null
+                ? latestUpdate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+        feedVersionRepository.insertIfAbsent(NoticeFeedVersion.SINGLETON_ID, initialVersion);
+        feedVersionRepository.initDeltaFloor(NoticeFeedVersion.SINGLETON_ID);
+        versionRowReady = true;
+    }
+
+    /**
+     * 스냅샷은 공유되므로 사본에 현재 조회수(DB 반영분 + 대기 중 증가분)를 반영
+     */
+    private List<Notice> withLiveViewCounts(List<Notice> notices) {
+        List<Notice> result = new ArrayList<>(notices.size());
+        for (Notice notice : notices) {
+            long viewCount = (notice.getViewCount() != null ? notice.getViewCount() : 0)
+                    + flushedViews.getOrDefault(notice.getId(), 0L)
+                    + noticeViewCounter.pendingCount(notice.getId());
+            result.add(notice.copyWithViewCount(viewCount));
+        }
+        return result;
+    }
+
+    /**
+     * DB에 저장된 피드 버전 / 변경분 제공 하한
+     */
+    private record FeedState(long version, long deltaFloor) {}
+
+    /**
+     * 불변 피드 스냅샷
+     */
+    private static final class Snapshot {
+        private final long version;
+        private final long deltaFloor;
+        private final List<Notice> notices;
+        private final Map<Long, Long> changeVersions;
+        private final Map<Long, Long> tombstones;
+
+        private Snapshot(long version, long deltaFloor, List<Notice> notices,
+                         Map<Long, Long> changeVersions, Map<Long, Long> tombstones) {
+            this.version = version;
+            this.deltaFloor = deltaFloor;
+            this.notices = notices;
+            this.changeVersions = changeVersions;
+            this.tombstones = tombstones;
+        }
+
+        /**
+         * DB 상태 이후에 만든 스냅샷인지 (버전은 증가만 하므로 더 크면 더 최신)
+         */
+        private boolean covers(FeedState state) {
+            return version >= state.version() && deltaFloor >= state.deltaFloor();
+        }
+    }
+
+    /**
+     * 피드 응답
+     */
+    public static class Feed {
+        private final long version;
+        private final boolean full;
+        private final List<Notice> notices;
+        private final List<Long> deletedIds;
+
+        public Feed(long version, boolean full, List<Notice> notices, List<Long> deletedIds) {
+            this.version = version;
+            this.full = full;
+            this.notices = notices;
+            this.deletedIds = deletedIds;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public boolean isFull() {
+            return full;
+        }
+
+        public List<Notice> getNotices() {
+            return notices;
+        }
+
+        public List<Long> getDeletedIds() {
+            return deletedIds;
+        }
+
+        /**
+         * 약한 ETag (조회수 변화는 의미상 동일한 응답으로 취급)
+         */
+        public String getETag() {
+            return "W/\"" + version + "\"";
+        }
+    }
+}
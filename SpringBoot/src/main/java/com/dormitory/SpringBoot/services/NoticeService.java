@@ -1,126 +1,118 @@
 package com.dormitory.SpringBoot.services;
 
+import com.dormitory.SpringBoot.config.ReplicaRead;
+import com.dormitory.SpringBoot.config.RoutingDataSource;
 import com.dormitory.SpringBoot.domain.Notice;
 import com.dormitory.SpringBoot.repository.NoticeRepository;
+import com.dormitory.SpringBoot.search.SearchPage;
+import com.dormitory.SpringBoot.search.SearchResult;
 import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * 공지사항 비즈니스 로직 서비스
  * ✅ 수정: Railway Volume 경로 지원 + 조회수 증가 시 updated_at 변경 안함
+ * ✅ 첨부 파일은 ContentStorageService(내용 주소 기반, 중복 제거)에 저장
+ * ✅ 상세 조회는 캐시된 공지사항 + 메모리 조회수 카운터로 처리 (DB 왕복/행 잠금 없음)
  */
 @Service
 @Transactional
 public class NoticeService {
 
+    private static final Logger logger = LoggerFactory.getLogger(NoticeService.class);
+
     @Autowired
     private NoticeRepository noticeRepository;
 
-    @Value("${file.upload.path:/app/uploads}")
-    private String configuredUploadPath;
+    @Autowired
+    private ContentStorageService contentStorageService;
 
-    // 실제 사용할 업로드 경로 (런타임에 결정)
-    private String uploadBasePath;
-    private String noticeUploadDirectory;
+    @Autowired
+    private ImageRenditionService imageRenditionService;
 
-    /**
-     * 서비스 초기화 시 업로드 경로 설정
-     */
-    @PostConstruct
-    public void init() {
-        this.uploadBasePath = resolveUploadPath();
-        this.noticeUploadDirectory = uploadBasePath + "/notices/";
+    @Autowired
+    private NoticeViewCounter noticeViewCounter;
 
-        // 디렉토리 생성
-        ensureDirectoryExists(noticeUploadDirectory);
+    @Autowired
+    private NoticeFeedService noticeFeedService;
 
-        System.out.println("[NoticeService] 업로드 기본 경로: " + uploadBasePath);
-        System.out.println("[NoticeService] 공지사항 업로드 경로: " + noticeUploadDirectory);
-    }
+    @Autowired
+    private SearchIndexService searchIndexService;
 
-    /**
-     * 업로드 경로 결정
-     */
-    private String resolveUploadPath() {
-        // 1. 환경변수 확인
-        String envPath = System.getenv("FILE_UPLOAD_PATH");
-        if (envPath != null && !envPath.isEmpty()) {
-            return envPath;
-        }
+    @Value("${notice.cache.max-size:500}")
+    private int noticeCacheMaxSize;
 
-        // 2. Railway Volume 경로 확인
-        File railwayVolume = new File("/app/uploads");
-        if (railwayVolume.exists() || isRunningOnRailway()) {
-            return "/app/uploads";
-        }
+    // 상세 조회용 공지사항 캐시 (조회수는 DB 반영 시점 기준 값, 최대 개수 초과 시 가장 오래 안 읽힌 항목 제거)
+    private Map<Long, Notice> noticeCache;
 
-        // 3. 로컬 개발 환경
-        return System.getProperty("user.dir") + "/uploads";
-    }
+    @PostConstruct
+    public void init() {
+        noticeCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Notice> eldest) {
+                return size() > noticeCacheMaxSize;
+            }
+        });
 
-    /**
-     * Railway 환경인지 확인
-     */
-    private boolean isRunningOnRailway() {
-        return System.getenv("RAILWAY_ENVIRONMENT") != null ||
-                System.getenv("RAILWAY_PROJECT_ID") != null;
+        // 조회수가 DB에 반영되면 캐시된 기준 조회수를 다시 읽도록 무효화
+        noticeViewCounter.addFlushListener((id, delta) -> noticeCache.remove(id));
     }
 
     /**
-     * 디렉토리가 없으면 생성
+     * 모든 공지사항 조회 (고정 공지사항 우선)
+     * ✅ 메모리 피드 스냅샷에서 반환 (변경 시에만 DB 재조회)
      */
-    private void ensureDirectoryExists(String path) {
-        try {
-            Path dirPath = Paths.get(path);
-            if (!Files.exists(dirPath)) {
-                Files.createDirectories(dirPath);
-                System.out.println("[NoticeService] 디렉토리 생성: " + path);
-            }
-        } catch (IOException e) {
-            System.err.println("[NoticeService] 디렉토리 생성 실패: " + path + " - " + e.getMessage());
-        }
+    @Transactional(readOnly = true)
+    public List<Notice> getAllNotices() {
+        return noticeFeedService.getAllNotices();
     }
 
     /**
-     * 모든 공지사항 조회 (고정 공지사항 우선)
+     * 버전 기반 공지사항 피드 조회 (since 이후 변경분만)
      */
     @Transactional(readOnly = true)
-    public List<Notice> getAllNotices() {
-        return noticeRepository.findAllOrderByPinnedAndCreatedAt();
+    public NoticeFeedService.Feed getNoticeFeed(Long since) {
+        return noticeFeedService.getFeed(since);
     }
 
     /**
      * ✅ 수정: 특정 공지사항 조회 및 조회수 증가
-     * Native Query를 사용하여 updated_at은 변경하지 않음
+     * 조회수는 메모리 카운터에 누적 후 주기적으로 일괄 반영 (updated_at은 변경되지 않음)
+     * 반환되는 조회수 = DB 반영값 + 반영 대기 중인 증가분
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public Notice getNoticeById(Long id) {
-        // 1. 먼저 공지사항 존재 여부 확인
-        if (!noticeRepository.existsById(id)) {
-            throw new RuntimeException("공지사항을 찾을 수 없습니다. ID: " + id);
+        // 1. 캐시 조회 (없으면 DB에서 한 번만 로드)
+        //    캐시에 오래 남는 값이므로 복제 지연 없이 주 DB에서 조회
+        Notice cached = noticeCache.get(id);
+        if (cached == null) {
+            cached = RoutingDataSource.onPrimary(() -> noticeRepository.findById(id))
+                    .orElseThrow(() -> new RuntimeException("공지사항을 찾을 수 없습니다. ID: " + id));
+            noticeCache.put(id, cached);
         }
 
-        // 2. Native Query로 조회수만 증가 (updated_at은 변경되지 않음)
-        noticeRepository.incrementViewCountOnly(id);
+        // 2. 메모리 카운터로 조회수 증가
+        noticeViewCounter.increment(id);
 
-        // 3. 증가된 조회수를 반영하여 조회
-        return noticeRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("공지사항을 찾을 수 없습니다. ID: " + id));
+        // 3. 캐시 객체는 공유되므로 사본에 현재 조회수를 반영하여 반환
+        long baseCount = cached.getViewCount() != null ? cached.getViewCount() : 0;
+        return cached.copyWithViewCount(baseCount + noticeViewCounter.pendingCount(id));
     }
 
     /**
@@ -147,7 +139,10 @@ public class NoticeService {
                 notice.setImagePath(imagePath);
             }
 
-            return noticeRepository.save(notice);
+            Notice saved = noticeRepository.save(notice);
+            publishChangeAfterCommit(saved.getId(), false);
+            searchIndexService.indexNotice(saved);
+            return saved;
         } catch (IOException e) {
             throw new RuntimeException("파일 업로드 실패: " + e.getMessage());
         } catch (Exception e) {
@@ -180,6 +175,8 @@ public class NoticeService {
                 notice.setImagePath(imagePath);
             }
 
+            publishChangeAfterCommit(id, false);
+            searchIndexService.indexNotice(notice);
             return noticeRepository.save(notice);
         } catch (IOException e) {
             throw new RuntimeException("파일 업로드 실패: " + e.getMessage());
@@ -203,6 +200,9 @@ public class NoticeService {
             }
 
             noticeRepository.delete(notice);
+            noticeViewCounter.discard(id);
+            publishChangeAfterCommit(id, true);
+            searchIndexService.removeNotice(id);
         } catch (Exception e) {
             throw new RuntimeException("공지사항 삭제 실패: " + e.getMessage());
         }
@@ -213,10 +213,26 @@ public class NoticeService {
      */
     @Transactional(readOnly = true)
     public List<Notice> searchNotices(String keyword) {
+        return searchNotices(keyword, 0, 0).getItems();
+    }
+
+    /**
+     * 공지사항 검색 (관련도 순, 페이지 단위)
+     * ✅ 검색 색인 사용, 색인 구축 전에는 DB LIKE 검색으로 대체
+     */
+    @Transactional(readOnly = true)
+    public SearchResult<Notice> searchNotices(String keyword, int page, int size) {
         if (keyword == null || keyword.trim().isEmpty()) {
-            return getAllNotices();
+            return SearchResult.of(getAllNotices(), page, size);
+        }
+        if (!searchIndexService.isReady()) {
+            return SearchResult.of(noticeRepository.findByTitleOrContentContainingIgnoreCase(keyword.trim()), page, size);
         }
-        return noticeRepository.findByTitleOrContentContainingIgnoreCase(keyword.trim());
+
+        SearchPage hits = searchIndexService.searchNotices(keyword, page, size);
+        List<Notice> notices = SearchIndexService.orderByIds(hits.getIds(),
+                noticeRepository.findAllById(hits.getIds()), Notice::getId);
+        return new SearchResult<>(notices, hits.getTotal(), page, size);
     }
 
     /**
@@ -228,12 +244,14 @@ public class NoticeService {
                 .orElseThrow(() -> new RuntimeException("공지사항을 찾을 수 없습니다. ID: " + id));
 
         notice.setIsPinned(!notice.getIsPinned());
+        publishChangeAfterCommit(id, false);
         return noticeRepository.save(notice);
     }
 
     /**
      * 공지사항 통계
      */
+    @ReplicaRead
     @Transactional(readOnly = true)
     public Map<String, Object> getNoticeStatistics() {
         Map<String, Object> statistics = new HashMap<>();
@@ -281,54 +299,54 @@ public class NoticeService {
     }
 
     /**
-     * 파일 업로드 처리
-     * ✅ 수정: 동적 경로 사용
+     * 커밋 이후 캐시 무효화 및 피드 버전 증가
+     * (커밋 전에 반영하면 다른 요청이 이전 값을 다시 캐시할 수 있음)
      */
-    private String saveUploadedFile(MultipartFile file) throws IOException {
-        // 업로드 디렉토리 확인/생성
-        ensureDirectoryExists(noticeUploadDirectory);
-
-        // 파일명 생성 (UUID + 원본 확장자)
-        String originalFilename = file.getOriginalFilename();
-        String extension = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+    private void publishChangeAfterCommit(Long id, boolean deleted) {
+        noticeCache.remove(id);
+        Runnable publish = () -> {
+            noticeCache.remove(id);
+            if (deleted) {
+                noticeFeedService.markDeleted(id);
+            } else {
+                noticeFeedService.markChanged(id);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish.run();
+                }
+            });
+        } else {
+            publish.run();
         }
-        String newFilename = UUID.randomUUID().toString() + extension;
+    }
 
-        // 파일 저장 (절대 경로)
-        Path filePath = Paths.get(noticeUploadDirectory, newFilename);
-        Files.copy(file.getInputStream(), filePath);
+    /**
+     * 파일 업로드 처리
+     * ✅ 수정: 공용 저장 엔진 사용 (동일 첨부 파일은 디스크를 추가로 사용하지 않음)
+     */
+    private String saveUploadedFile(MultipartFile file) throws IOException {
+        String relativePath = contentStorageService.store(file);
+        logger.info("[NoticeService] 파일 저장 완료: {}", relativePath);
 
-        System.out.println("[NoticeService] 파일 저장 완료: " + filePath);
+        // 이미지인 경우 썸네일/웹용 파생본 비동기 생성
+        imageRenditionService.requestRenditions(relativePath);
 
         // DB에 저장할 상대 경로 반환 (URL 매핑용)
-        return "uploads/notices/" + newFilename;
+        return "uploads/" + relativePath;
     }
 
     /**
-     * 업로드된 파일 삭제
-     * ✅ 수정: 동적 경로 사용
+     * 업로드된 파일 삭제 (참조 해제 - 커밋 이후, 롤백되면 파일 유지)
      */
     private void deleteUploadedFile(String relativePath) {
-        try {
-            if (relativePath != null && !relativePath.isEmpty()) {
-                // 상대 경로에서 실제 파일 경로 생성
-                String actualPath;
-                if (relativePath.startsWith("uploads/")) {
-                    // "uploads/notices/xxx.jpg" -> "/app/uploads/notices/xxx.jpg"
-                    actualPath = uploadBasePath + "/" + relativePath.substring("uploads/".length());
-                } else {
-                    actualPath = uploadBasePath + "/" + relativePath;
-                }
-
-                Path path = Paths.get(actualPath);
-                if (Files.deleteIfExists(path)) {
-                    System.out.println("[NoticeService] 파일 삭제 완료: " + actualPath);
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("[NoticeService] 파일 삭제 실패: " + relativePath + " - " + e.getMessage());
+        if (relativePath != null && !relativePath.isEmpty()) {
+            contentStorageService.releaseAfterCommit(relativePath);
+            logger.info("[NoticeService] 커밋 후 파일 참조 해제 예약: {}", relativePath);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package com.dormitory.SpringBoot.services;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 공지사항 조회수 지연 반영(write-behind) 카운터
+ * ✅ 조회 시에는 메모리 카운터(LongAdder)만 증가 - DB 행 잠금 없음
+ * ✅ 일정 주기마다 누적된 증가분을 JDBC 배치 UPDATE 한 번으로 반영
+ * ✅ 반영 실패 시 증가분은 카운터에 그대로 남아 다음 주기에 재시도
+ */
+@Component
+public class NoticeViewCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(NoticeViewCounter.class);
+
+    // updated_at(@LastModifiedDate)을 건드리지 않도록 네이티브 UPDATE 사용
+    private static final String FLUSH_SQL = "UPDATE notices SET view_count = view_count + ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 반영 대기 중인 조회수 증가분 (공지사항 ID → 증가분)
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 반영 직후(대기 증가분 차감 이후) 호출되는 콜백 (공지사항 ID, 반영된 증가분) - 캐시 무효화용
+    private final List<BiConsumer<Long, Long>> flushListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 조회수 1 증가 (메모리)
+     */
+    public void increment(Long noticeId) {
+        pending.computeIfAbsent(noticeId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분
+     */
+    public long pendingCount(Long noticeId) {
+        LongAdder adder = pending.get(noticeId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 삭제된 공지사항의 증가분 폐기
+     */
+    public void discard(Long noticeId) {
+        pending.remove(noticeId);
+    }
+
+    /**
+     * DB 반영 후 호출될 콜백 등록
+     */
+    public void addFlushListener(BiConsumer<Long, Long> flushListener) {
+        flushListeners.add(flushListener);
+    }
+
+    /**
+     * 반영(flush)이 끼어들지 않는 상태로 작업 실행 (DB 조회값과 반영 기록을 함께 맞출 때)
+     */
+    public synchronized <T> T withoutFlush(Supplier<T> work) {
+        return work.get();
+    }
+
+    /**
+     * 누적된 증가분을 DB에 일괄 반영
+     * 반영한 만큼만 카운터에서 차감하므로 반영 중에 들어온 조회는 유실되지 않음
+     */
+    @Scheduled(fixedDelayString = "${notice.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Long> ids = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta > 0) {
+                ids.add(entry.getKey());
+                deltas.add(delta);
+                batch.add(new Object[]{delta, entry.getKey()});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (Exception e) {
+            logger.warn("공지사항 조회수 반영 실패, 다음 주기에 재시도 - 대상: {}건, 오류: {}", batch.size(), e.getMessage());
+            return;
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            // 콜백보다 먼저 차감해야 콜백(캐시 무효화 등)에서 반영분을 DB 값과 대기분 양쪽에 이중 집계하지 않음
+            LongAdder adder = pending.get(id);
+            if (adder != null) {
+                adder.add(-deltas.get(i));
+            }
+            for (BiConsumer<Long, Long> listener : flushListeners) {
+                listener.accept(id, deltas.get(i));
+            }
+        }
+        logger.debug("공지사항 조회수 반영 완료 - 대상: {}건", batch.size());
+    }
+
+    /**
+     * 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
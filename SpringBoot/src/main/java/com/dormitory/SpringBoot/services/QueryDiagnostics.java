@@ -0,0 +1,213 @@
+package com.dormitory.SpringBoot.services;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * DB 사용 진단 지표 (Micrometer + 느린 SQL 링 버퍼)
+ * ✅ db.repository.query{repository, method, result}: 리포지토리 메서드 실행 시간
+ * ✅ db.repository.rows{repository, method}: 리포지토리 메서드가 반환한 행 수
+ * ✅ db.connection.hold{caller}: 커넥션 점유 시간 (커넥션을 얻은 서비스/컨트롤러 메서드 기준)
+ * ✅ 느린 SQL: 임계치(diagnostic.db.slow-query-ms)를 넘은 SQL과 바인드 형태(값 제외, 타입만)를 최근 N건 보관
+ */
+@Component
+public class QueryDiagnostics {
+
+    private static final String APP_PACKAGE = "com.dormitory.SpringBoot.";
+    private static final String CONFIG_PACKAGE = "com.dormitory.SpringBoot.config.";
+    private static final int MAX_SQL_LENGTH = 2000;
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${diagnostic.db.slow-query-ms:200}")
+    private long slowQueryMs;
+
+    @Value("${diagnostic.db.slow-query-buffer-size:100}")
+    private int slowQueryBufferSize;
+
+    @Value("${diagnostic.db.caller-tracking:true}")
+    private boolean callerTracking;
+
+    // 최근 느린 SQL (오래된 것부터 제거)
+    private final Deque<SlowQuery> slowQueries = new ArrayDeque<>();
+
+    /**
+     * 리포지토리 메서드 실행 기록 (rows < 0이면 행 수 미기록 - Stream, count 등)
+     */
+    public void recordRepositoryCall(String repository, String method, long elapsedNanos, long rows, boolean error) {
+        Timer.builder("db.repository.query")
+                .description("리포지토리 메서드 실행 시간")
+                .tag("repository", repository)
+                .tag("method", method)
+                .tag("result", error ? "error" : "success")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (rows >= 0) {
+            DistributionSummary.builder("db.repository.rows")
+                    .description("리포지토리 메서드 반환 행 수")
+                    .baseUnit("rows")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .record(rows);
+        }
+    }
+
+    /**
+     * 커넥션 점유 시간 기록
+     */
+    public void recordConnectionHold(String caller, long heldNanos) {
+        Timer.builder("db.connection.hold")
+                .description("커넥션 점유 시간 (획득 ~ 반환)")
+                .tag("caller", caller)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(heldNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * SQL 실행 기록 - 임계치를 넘은 경우만 링 버퍼에 보관
+     */
+    public void recordStatement(String sql, List<String> bindShape, int batchSize, long elapsedNanos) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMs < slowQueryMs || sql == null) {
+            return;
+        }
+        String normalized = sql.replaceAll("\\s+", " ").trim();
+        if (normalized.length() > MAX_SQL_LENGTH) {
+            normalized = normalized.substring(0, MAX_SQL_LENGTH) + "...";
+        }
+        SlowQuery slowQuery = new SlowQuery(LocalDateTime.now(), elapsedMs, normalized,
+                List.copyOf(bindShape), batchSize, resolveCaller(), Thread.currentThread().getName());
+        synchronized (slowQueries) {
+            slowQueries.addLast(slowQuery);
+            while (slowQueries.size() > slowQueryBufferSize) {
+                slowQueries.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드에서 DB를 사용 중인 애플리케이션 메서드 (설정/프록시 클래스 제외, 첫 번째 프레임)
+     */
+    public String resolveCaller() {
+        if (!callerTracking) {
+            return "untracked";
+        }
+        Optional<StackWalker.StackFrame> frame = STACK_WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(APP_PACKAGE)
+                        && !f.getClassName().startsWith(CONFIG_PACKAGE)
+                        && !f.getClassName().contains("$$")
+                        && !f.getClassName().equals(QueryDiagnostics.class.getName()))
+                .findFirst());
+        return frame.map(f -> {
+            String className = f.getClassName();
+            return className.substring(className.lastIndexOf('.') + 1) + "." + f.getMethodName();
+        }).orElse("framework");
+    }
+
+    /**
+     * 최근 느린 SQL (최신순)
+     */
+    public List<SlowQuery> getSlowQueries() {
+        synchronized (slowQueries) {
+            List<SlowQuery> result = new ArrayList<>(slowQueries);
+            Collections.reverse(result);
+            return result;
+        }
+    }
+
+    public void clearSlowQueries() {
+        synchronized (slowQueries) {
+            slowQueries.clear();
+        }
+    }
+
+    public long getSlowQueryMs() {
+        return slowQueryMs;
+    }
+
+    /**
+     * 호출 메서드별 커넥션 점유 시간 (총 점유 시간 순)
+     */
+    public List<Map<String, Object>> getConnectionHoldStats() {
+        return meterRegistry.find("db.connection.hold").timers().stream()
+                .sorted(Comparator.comparingDouble((Timer timer) -> timer.totalTime(TimeUnit.MILLISECONDS)).reversed())
+                .map(timer -> {
+                    HistogramSnapshot snapshot = timer.takeSnapshot();
+                    Map<String, Object> stats = new LinkedHashMap<>();
+                    stats.put("caller", timer.getId().getTag("caller"));
+                    stats.put("count", snapshot.count());
+                    stats.put("totalMs", round(snapshot.total(TimeUnit.MILLISECONDS)));
+                    stats.put("meanMs", round(snapshot.mean(TimeUnit.MILLISECONDS)));
+                    stats.put("maxMs", round(snapshot.max(TimeUnit.MILLISECONDS)));
+                    for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                        stats.put("p" + Math.round(percentile.percentile() * 100) + "Ms",
+                                round(percentile.value(TimeUnit.MILLISECONDS)));
+                    }
+                    return stats;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 리포지토리 메서드별 실행 시간/행 수 (총 실행 시간 순 상위 top개)
+     */
+    public List<Map<String, Object>> getRepositoryStats(int top) {
+        return meterRegistry.find("db.repository.query").timers().stream()
+                .sorted(Comparator.comparingDouble((Timer timer) -> timer.totalTime(TimeUnit.MILLISECONDS)).reversed())
+                .limit(Math.max(1, top))
+                .map(timer -> {
+                    String repository = timer.getId().getTag("repository");
+                    String method = timer.getId().getTag("method");
+                    Map<String, Object> stats = new LinkedHashMap<>();
+                    stats.put("query", repository + "." + method);
+                    stats.put("result", timer.getId().getTag("result"));
+                    stats.put("count", timer.count());
+                    stats.put("totalMs", round(timer.totalTime(TimeUnit.MILLISECONDS)));
+                    stats.put("meanMs", round(timer.mean(TimeUnit.MILLISECONDS)));
+                    stats.put("maxMs", round(timer.max(TimeUnit.MILLISECONDS)));
+                    DistributionSummary rows = meterRegistry.find("db.repository.rows")
+                            .tag("repository", repository).tag("method", method).summary();
+                    if (rows != null) {
+                        stats.put("meanRows", round(rows.mean()));
+                        stats.put("maxRows", (long) rows.max());
+                    }
+                    return stats;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * 느린 SQL 기록 (바인드 값은 보관하지 않고 타입 목록만 보관)
+     */
+    public record SlowQuery(LocalDateTime executedAt, long elapsedMs, String sql, List<String> bindShape,
+                            int batchSize, String caller, String thread) {
+    }
+}
@@ -0,0 +1,372 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.domain.BuildingTableConfig;
+import com.dormitory.SpringBoot.domain.User;
+import com.dormitory.SpringBoot.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 기숙사 거주자 명부 색인 (기숙사동 → 호실 → 거주자, 메모리)
+ * ✅ 기동 시 활성 사용자를 한 번 적재하고, 가입/정보 수정/활성화·비활성화/호실 변경 시 커밋 이후 해당 사용자만 갱신
+ * ✅ 동·호실별 거주자, 층별 호실 조회를 요청마다 users 테이블을 읽지 않고 O(1)로 처리
+ * ✅ 주기적인 전체 재적재로 직접 수정된 데이터 보정
+ */
+@Service
+public class RoomRosterIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomRosterIndex.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 사용자 ID → 거주자
+    private final Map<String, Resident> residentsById = new HashMap<>();
+
+    // 기숙사동 → 호실 → 거주자 목록
+    private final Map<String, Map<String, List<Resident>>> roomsByBuilding = new HashMap<>();
+
+    // 기숙사동 → 층별 호실 목록 (방 번호 형식별로 필요할 때 구성, 해당 동 변경 시 폐기)
+    private final Map<String, FloorView> floorViews = new HashMap<>();
+
+    // 재적재 중 들어온 변경 (적재 완료 후 다시 반영)
+    private List<Runnable> pendingDuringLoad;
+
+    private volatile boolean loaded = false;
+
+    // =============================================================================
+    // 적재
+    // =============================================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 활성 사용자 전체 재적재 (쿼리 1회)
+     */
+    @Scheduled(fixedDelayString = "${roster.refresh-ms:600000}", initialDelayString = "${roster.refresh-ms:600000}")
+    public synchronized void reload() {
+        long startTime = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<User> users;
+        try {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            users = readOnly.execute(status -> userRepository.findByIsActiveTrue());
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        replaceAll(users);
+
+        logger.info("[RoomRoster] 명부 적재 완료 - 거주자: {}명, 기숙사동: {}개, 소요: {}ms",
+                residentsById.size(), roomsByBuilding.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 명부 전체 교체 (재적재 중 들어온 변경은 교체 후 다시 반영)
+     * 벤치마크(src/jmh)에서 DB 없이 명부를 채울 때도 사용
+     */
+    void replaceAll(List<User> users) {
+        lock.writeLock().lock();
+        try {
+            residentsById.clear();
+            roomsByBuilding.clear();
+            floorViews.clear();
+            if (users != null) {
+                users.forEach(user -> put(Resident.from(user)));
+            }
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.forEach(Runnable::run);
+                pendingDuringLoad = null;
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            reload();
+        }
+    }
+
+    // =============================================================================
+    // 변경 반영
+    // =============================================================================
+
+    /**
+     * 사용자 저장 결과 반영 (트랜잭션 안이면 커밋 이후)
+     * ✅ 비활성 사용자는 명부에서 제거
+     */
+    public void updateAfterCommit(User user) {
+        String userId = user.getId();
+        Resident resident = Boolean.TRUE.equals(user.getIsActive()) ? Resident.from(user) : null;
+        Runnable change = () -> {
+            remove(userId);
+            if (resident != null) {
+                put(resident);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Resident resident) {
+        residentsById.put(resident.getUserId(), resident);
+        if (resident.getBuilding() == null) {
+            return;
+        }
+        roomsByBuilding.computeIfAbsent(resident.getBuilding(), key -> new TreeMap<>())
+                .computeIfAbsent(resident.getRoomNumber() != null ? resident.getRoomNumber() : "", key -> new ArrayList<>())
+                .add(resident);
+        floorViews.remove(resident.getBuilding());
+    }
+
+    private void remove(String userId) {
+        Resident previous = residentsById.remove(userId);
+        if (previous == null || previous.getBuilding() == null) {
+            return;
+        }
+        Map<String, List<Resident>> rooms = roomsByBuilding.get(previous.getBuilding());
+        if (rooms != null) {
+            String room = previous.getRoomNumber() != null ? previous.getRoomNumber() : "";
+            List<Resident> residents = rooms.get(room);
+            if (residents != null) {
+                residents.removeIf(r -> r.getUserId().equals(userId));
+                if (residents.isEmpty()) {
+                    rooms.remove(room);
+                }
+            }
+            if (rooms.isEmpty()) {
+                roomsByBuilding.remove(previous.getBuilding());
+            }
+        }
+        floorViews.remove(previous.getBuilding());
+    }
+
+    // =============================================================================
+    // 조회
+    // =============================================================================
+
+    /**
+     * 호실 거주자 목록
+     */
+    public List<Resident> getResidents(String building, String roomNumber) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Map<String, List<Resident>> rooms = roomsByBuilding.get(building);
+            List<Resident> residents = rooms != null ? rooms.get(roomNumber) : null;
+            return residents != null ? List.copyOf(residents) : List.of();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기숙사동 전체 거주자 (호실 순)
+     */
+    public List<Resident> getBuildingResidents(String building) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Map<String, List<Resident>> rooms = roomsByBuilding.get(building);
+            if (rooms == null) {
+                return List.of();
+            }
+            List<Resident> residents = new ArrayList<>();
+            rooms.values().forEach(residents::addAll);
+            return residents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 활성 사용자 전체
+     */
+    public List<Resident> getAllResidents() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(residentsById.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 조회 (활성 사용자가 아니면 null)
+     */
+    public Resident getResident(String userId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return residentsById.get(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 거주자가 있는 기숙사동 목록 (정렬)
+     */
+    public List<String> getBuildings() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            List<String> buildings = new ArrayList<>(roomsByBuilding.keySet());
+            Collections.sort(buildings);
+            return buildings;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 층별 거주 호실 목록 (테이블 설정의 방 번호 형식으로 층 계산)
+     */
+    public Map<Integer, List<String>> getRoomsByFloor(String building, BuildingTableConfig config) {
+        ensureLoaded();
+        String format = config.getRoomNumberFormat();
+
+        lock.readLock().lock();
+        try {
+            FloorView view = floorViews.get(building);
+            if (view != null && view.format.equals(String.valueOf(format))) {
+                return view.rooms;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            Map<Integer, List<String>> byFloor = new TreeMap<>();
+            Map<String, List<Resident>> rooms = roomsByBuilding.getOrDefault(building, Map.of());
+            for (String roomNumber : rooms.keySet()) {
+                int floor = config.parseRoomNumber(roomNumber)[0];
+                byFloor.computeIfAbsent(floor, key -> new ArrayList<>()).add(roomNumber);
+            }
+            byFloor.replaceAll((floor, list) -> List.copyOf(list));
+            Map<Integer, List<String>> view = Collections.unmodifiableMap(byFloor);
+            floorViews.put(building, new FloorView(String.valueOf(format), view));
+            return view;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 특정 층의 거주 호실 목록
+     */
+    public List<String> getRoomsOnFloor(String building, int floor, BuildingTableConfig config) {
+        return getRoomsByFloor(building, config).getOrDefault(floor, List.of());
+    }
+
+    private record FloorView(String format, Map<Integer, List<String>> rooms) {
+    }
+
+    /**
+     * 거주자 정보 (이름은 DB에 저장된 암호화 값 그대로)
+     */
+    public static final class Resident {
+        private final String userId;
+        private final String name;
+        private final String building;
+        private final String roomNumber;
+        private final boolean admin;
+
+        public Resident(String userId, String name, String building, String roomNumber, boolean admin) {
+            this.userId = userId;
+            this.name = name;
+            this.building = building;
+            this.roomNumber = roomNumber;
+            this.admin = admin;
+        }
+
+        static Resident from(User user) {
+            return new Resident(user.getId(), user.getName(), user.getDormitoryBuilding(),
+                    user.getRoomNumber(), Boolean.TRUE.equals(user.getIsAdmin()));
+        }
+
+        public String getUserId() {
+            return userId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getBuilding() {
+            return building;
+        }
+
+        public String getRoomNumber() {
+            return roomNumber;
+        }
+
+        public boolean isAdmin() {
+            return admin;
+        }
+    }
+}
@@ -12,9 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +33,9 @@ public class RoomTemplateService {
     @Autowired
     private FileService fileService;
 
+    @Autowired
+    private ContentStorageService contentStorageService;
+
     /**
      * 템플릿 등록
      */
@@ -255,16 +256,15 @@ public class RoomTemplateService {
 
     /**
      * 파일 경로에서 Base64 로드 (캐시 갱신용)
+     * ✅ 저장소 SPI로 읽음 (로컬 디스크 / S3 모두 동작)
      */
     public String loadBase64FromPath(String imagePath) {
-        try {
-            Path path = Paths.get("uploads", imagePath);
-            if (!Files.exists(path)) {
-                logger.warn("이미지 파일이 존재하지 않음: {}", imagePath);
-                return null;
-            }
-            byte[] bytes = Files.readAllBytes(path);
-            return Base64.encodeBase64String(bytes);
+        if (!contentStorageService.exists(imagePath)) {
+            logger.warn("이미지 파일이 존재하지 않음: {}", imagePath);
+            return null;
+        }
+        try (InputStream in = contentStorageService.open(imagePath)) {
+            return Base64.encodeBase64String(in.readAllBytes());
         } catch (IOException e) {
             logger.error("이미지 로드 실패: {}", imagePath, e);
             return null;
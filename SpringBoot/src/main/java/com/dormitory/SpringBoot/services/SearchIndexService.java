@@ -0,0 +1,275 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.domain.Complaint;
+import com.dormitory.SpringBoot.domain.Document;
+import com.dormitory.SpringBoot.domain.Notice;
+import com.dormitory.SpringBoot.repository.ComplaintRepository;
+import com.dormitory.SpringBoot.repository.DocumentRepository;
+import com.dormitory.SpringBoot.repository.NoticeRepository;
+import com.dormitory.SpringBoot.search.InvertedIndex;
+import com.dormitory.SpringBoot.search.NgramTokenizer;
+import com.dormitory.SpringBoot.search.SearchPage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 공지사항/민원/서류 통합 검색 색인 서비스
+ * ✅ 기동 시 DB에서 전체 색인 구축 (구축 전에는 기존 LIKE 검색 사용)
+ * ✅ 저장/삭제 시 커밋 이후 해당 문서만 증분 갱신
+ * ✅ 필드별 가중치: 제목 > 카테고리 > 본문
+ */
+@Service
+public class SearchIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexService.class);
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float CONTENT_WEIGHT = 1.0f;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${search.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.index.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    private final InvertedIndex noticeIndex = new InvertedIndex("notices");
+    private final InvertedIndex complaintIndex = new InvertedIndex("complaints");
+    private final InvertedIndex documentIndex = new InvertedIndex("documents");
+
+    private volatile boolean ready = false;
+
+    // =============================================================================
+    // 색인 구축
+    // =============================================================================
+
+    /**
+     * 기동 완료 후 전체 색인 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 색인 재구축 (재구축 중 변경은 완료 후 다시 적용)
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        try {
+            rebuildIndex(noticeIndex, noticeRepository, this::noticeTerms, Notice::getId);
+            rebuildIndex(complaintIndex, complaintRepository, this::complaintTerms, Complaint::getId);
+            rebuildIndex(documentIndex, documentRepository, this::documentTerms, Document::getId);
+            ready = true;
+
+            logger.info("[SearchIndex] 색인 구축 완료 - 공지: {}건, 민원: {}건, 서류: {}건, 소요: {}ms",
+                    noticeIndex.documentCount(), complaintIndex.documentCount(),
+                    documentIndex.documentCount(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            logger.error("[SearchIndex] 색인 구축 실패 - 기존 DB 검색을 계속 사용합니다.", e);
+        }
+    }
+
+    private <T> void rebuildIndex(InvertedIndex index, JpaRepository<T, Long> repository,
+                                  Function<T, Map<String, Float>> tokenizer, Function<T, Long> idGetter) {
+        index.beginRebuild();
+        Map<Long, Map<String, Float>> documents = new HashMap<>();
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        int pageNumber = 0;
+        while (true) {
+            int current = pageNumber;
+            Page<T> page = readOnly.execute(status ->
+                    repository.findAll(PageRequest.of(current, rebuildBatchSize, Sort.by("id"))));
+            if (page == null) {
+                break;
+            }
+            for (T entity : page.getContent()) {
+                documents.put(idGetter.apply(entity), tokenizer.apply(entity));
+            }
+            if (!page.hasNext()) {
+                break;
+            }
+            pageNumber++;
+        }
+
+        index.finishRebuild(documents);
+    }
+
+    // =============================================================================
+    // 증분 갱신 (커밋 이후 반영)
+    // =============================================================================
+
+    public void indexNotice(Notice notice) {
+        afterCommit(noticeIndex, notice.getId(), noticeTerms(notice));
+    }
+
+    public void removeNotice(Long id) {
+        afterCommit(noticeIndex, id, null);
+    }
+
+    public void indexComplaint(Complaint complaint) {
+        afterCommit(complaintIndex, complaint.getId(), complaintTerms(complaint));
+    }
+
+    public void removeComplaint(Long id) {
+        afterCommit(complaintIndex, id, null);
+    }
+
+    public void indexDocument(Document document) {
+        afterCommit(documentIndex, document.getId(), documentTerms(document));
+    }
+
+    public void removeDocument(Long id) {
+        afterCommit(documentIndex, id, null);
+    }
+
+    /**
+     * 토큰은 호출 시점에 계산하고, 색인 반영은 커밋 이후 (롤백된 내용이 검색되지 않도록)
+     *
+     * @param terms null이면 삭제
+     */
+    private void afterCommit(InvertedIndex index, Long id, Map<String, Float> terms) {
+        if (!enabled || id == null) {
+            return;
+        }
+        Runnable apply = () -> {
+            if (terms == null) {
+                index.remove(id);
+            } else {
+                index.put(id, terms);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    // =============================================================================
+    // 검색
+    // =============================================================================
+
+    /**
+     * 색인 사용 가능 여부 (false면 호출자가 DB 검색으로 대체)
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public SearchPage searchNotices(String keyword, int page, int size) {
+        return noticeIndex.search(keyword, page, size);
+    }
+
+    public SearchPage searchComplaints(String keyword, int page, int size) {
+        return complaintIndex.search(keyword, page, size);
+    }
+
+    public SearchPage searchDocuments(String keyword, int page, int size) {
+        return documentIndex.search(keyword, page, size);
+    }
+
+    /**
+     * ID 목록 순서(관련도 순)대로 엔티티 정렬 (색인 이후 삭제된 문서는 제외)
+     */
+    public static <T> List<T> orderByIds(List<Long> ids, List<T> entities, Function<T, Long> idGetter) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T entity : entities) {
+            byId.put(idGetter.apply(entity), entity);
+        }
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T entity = byId.get(id);
+            if (entity != null) {
+                ordered.add(entity);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * 색인 상태 (진단용)
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("ready", ready);
+        for (InvertedIndex index : List.of(noticeIndex, complaintIndex, documentIndex)) {
+            Map<String, Object> indexStatus = new LinkedHashMap<>();
+            indexStatus.put("documents", index.documentCount());
+            indexStatus.put("terms", index.termCount());
+            status.put(index.getName(), indexStatus);
+        }
+        return status;
+    }
+
+    // =============================================================================
+    // 필드별 토큰화
+    // =============================================================================
+
+    private Map<String, Float> noticeTerms(Notice notice) {
+        Map<String, Float> terms = new HashMap<>();
+        NgramTokenizer.accumulate(terms, notice.getTitle(), TITLE_WEIGHT);
+        NgramTokenizer.accumulate(terms, notice.getContent(), CONTENT_WEIGHT);
+        return terms;
+    }
+
+    private Map<String, Float> complaintTerms(Complaint complaint) {
+        Map<String, Float> terms = new HashMap<>();
+        NgramTokenizer.accumulate(terms, complaint.getTitle(), TITLE_WEIGHT);
+        NgramTokenizer.accumulate(terms, complaint.getCategory(), CATEGORY_WEIGHT);
+        NgramTokenizer.accumulate(terms, complaint.getContent(), CONTENT_WEIGHT);
+        return terms;
+    }
+
+    private Map<String, Float> documentTerms(Document document) {
+        Map<String, Float> terms = new HashMap<>();
+        NgramTokenizer.accumulate(terms, document.getTitle(), TITLE_WEIGHT);
+        NgramTokenizer.accumulate(terms, document.getCategory(), CATEGORY_WEIGHT);
+        NgramTokenizer.accumulate(terms, document.getContent(), CONTENT_WEIGHT);
+        return terms;
+    }
+}
@@ -43,6 +43,9 @@ public class UserService {
     @Autowired
     private EncryptionUtil encryptionUtil;
 
+    @Autowired
+    private RoomRosterIndex rosterIndex;
+
     /**
      * 사용자 회원가입
      * 관리자 계정: 거주 동/방 번호 자동으로 "관리실" 설정
@@ -112,6 +115,7 @@ public class UserService {
             }
 
             user = userRepository.save(user);
+            rosterIndex.updateAfterCommit(user);
             logger.info("회원가입 완료 - 사용자ID: {}, 거주 동: {}, 방 번호: {}",
                     user.getId(), user.getDormitoryBuilding(), user.getRoomNumber());
 
@@ -223,6 +227,7 @@ public class UserService {
 
             user.setUpdatedAt(LocalDateTime.now());
             user = userRepository.save(user);
+            rosterIndex.updateAfterCommit(user);
 
             logger.info("사용자 정보 수정 완료 - 사용자ID: {}", userId);
             return convertToResponse(user);
@@ -300,6 +305,7 @@ public class UserService {
             user.setUpdatedAt(LocalDateTime.now());
 
             userRepository.save(user);
+            rosterIndex.updateAfterCommit(user);
             logger.info("사용자 비활성화 완료 - 사용자ID: {}", userId);
 
         } catch (Exception e) {
@@ -322,6 +328,7 @@ public class UserService {
             user.setUpdatedAt(LocalDateTime.now());
 
             userRepository.save(user);
+            rosterIndex.updateAfterCommit(user);
             logger.info("사용자 활성화 완료 - 사용자ID: {}", userId);
 
         } catch (Exception e) {
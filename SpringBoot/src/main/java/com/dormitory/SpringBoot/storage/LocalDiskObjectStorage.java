@@ -0,0 +1,96 @@
+package com.dormitory.SpringBoot.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 로컬 디스크 저장소 (기존 동작: FILE_UPLOAD_PATH, /app/uploads 또는 user.dir/uploads)
+ */
+public class LocalDiskObjectStorage implements ObjectStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalDiskObjectStorage.class);
+
+    private final Path baseDirectory;
+
+    public LocalDiskObjectStorage(Path baseDirectory) {
+        this.baseDirectory = baseDirectory.toAbsolutePath().normalize();
+    }
+
+    /**
+     * 원본을 대상 경로로 원자적 이동
+     * 스테이징 디렉토리가 다른 파일 시스템이면 대상 폴더의 숨김 임시 파일로 복사한 뒤 이름만 원자적으로 변경
+     * (다른 요청이 복사 중인 파일을 읽지 않도록)
+     */
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Path partial = target.resolveSibling("." + target.getFileName() + "." + UUID.randomUUID() + ".part");
+            try {
+                Files.copy(source, partial);
+                Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(partial);
+            }
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        boolean deleted = Files.deleteIfExists(resolve(key));
+        if (!deleted) {
+            logger.warn("[LocalDisk] 삭제할 파일이 존재하지 않습니다: {}", key);
+        }
+        return deleted;
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.of(resolve(key));
+    }
+
+    @Override
+    public Optional<URI> presignedReadUrl(String key, Duration ttl) {
+        return Optional.empty();
+    }
+
+    @Override
+    public String describe() {
+        return "local:" + baseDirectory;
+    }
+
+    /**
+     * 키를 실제 경로로 변환 (기본 경로 밖으로 벗어나지 않음)
+     */
+    private Path resolve(String key) {
+        Path resolved = baseDirectory.resolve(key).normalize();
+        if (!resolved.startsWith(baseDirectory)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다: " + key);
+        }
+        return resolved;
+    }
+}
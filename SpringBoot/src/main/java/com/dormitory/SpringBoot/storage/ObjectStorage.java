@@ -0,0 +1,53 @@
+package com.dormitory.SpringBoot.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 저장소 SPI
+ * ✅ 키는 업로드 기본 경로 기준 상대 경로 (예: cas/ab/cd/{sha256}.jpg)
+ * ✅ file.storage.type 설정으로 로컬 디스크 / S3 호환 저장소 선택
+ */
+public interface ObjectStorage {
+
+    /**
+     * 로컬 파일을 저장소에 업로드 (원본 파일은 호출자가 정리)
+     */
+    void put(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * 객체 존재 여부
+     */
+    boolean exists(String key);
+
+    /**
+     * 객체 읽기 스트림 (호출자가 닫아야 함)
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 객체 삭제
+     *
+     * @return 실제 삭제 여부
+     */
+    boolean delete(String key) throws IOException;
+
+    /**
+     * 로컬 디스크에 있는 경우 실제 파일 경로 (직접 서빙용)
+     */
+    Optional<Path> localPath(String key);
+
+    /**
+     * 원격 저장소인 경우 사전 서명된 읽기 URL (클라이언트가 저장소에서 직접 다운로드)
+     */
+    Optional<URI> presignedReadUrl(String key, Duration ttl);
+
+    /**
+     * 진단용 설명
+     */
+    String describe();
+}
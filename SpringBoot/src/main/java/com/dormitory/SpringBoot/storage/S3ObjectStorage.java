@@ -0,0 +1,227 @@
+package com.dormitory.SpringBoot.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * S3 호환 객체 저장소 (AWS S3, MinIO 등)
+ * ✅ 임계값 이상 파일은 멀티파트 업로드 (파트 단위 스트리밍, 힙에 전체 적재하지 않음)
+ * ✅ 다운로드는 사전 서명 URL로 리다이렉트하여 이미지 바이트가 JVM을 거치지 않음
+ * ✅ 여러 인스턴스가 같은 버킷을 공유하므로 로드밸런서 뒤 다중 복제 가능
+ */
+public class S3ObjectStorage implements ObjectStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(S3ObjectStorage.class);
+
+    private final S3Client s3Client;
+    private final S3Presigner presigner;
+    private final String bucket;
+    private final long multipartThresholdBytes;
+    private final long partSizeBytes;
+
+    public S3ObjectStorage(S3Client s3Client, S3Presigner presigner, String bucket,
+                           long multipartThresholdBytes, long partSizeBytes) {
+        this.s3Client = s3Client;
+        this.presigner = presigner;
+        this.bucket = bucket;
+        this.multipartThresholdBytes = multipartThresholdBytes;
+        // S3 규격상 마지막 파트를 제외한 파트는 최소 5MB
+        this.partSizeBytes = Math.max(partSizeBytes, 5L * 1024 * 1024);
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        long size = Files.size(source);
+        try {
+            if (size < multipartThresholdBytes) {
+                PutObjectRequest request = PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(size)
+                        .build();
+                s3Client.putObject(request, RequestBody.fromFile(source));
+            } else {
+                putMultipart(key, source, contentType, size);
+            }
+            logger.info("[S3] 업로드 완료 - 버킷: {}, 키: {}, 크기: {} bytes", bucket, key, size);
+        } catch (S3Exception e) {
+            throw new IOException("S3 업로드 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 멀티파트 업로드 - 파일을 파트 크기만큼 순차적으로 스트리밍
+     */
+    private void putMultipart(String key, Path source, String contentType, long size) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        List<CompletedPart> completedParts = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(source)) {
+            int partNumber = 1;
+            long remaining = size;
+            while (remaining > 0) {
+                long partLength = Math.min(partSizeBytes, remaining);
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength(partLength)
+                                .build(),
+                        RequestBody.fromInputStream(new BoundedInputStream(in, partLength), partLength)).eTag();
+                completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                remaining -= partLength;
+                partNumber++;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+
+        } catch (IOException | RuntimeException e) {
+            logger.warn("[S3] 멀티파트 업로드 중단 - 키: {}, 오류: {}", key, e.getMessage());
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (S3Exception e) {
+            throw new IOException("S3 다운로드 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+            logger.info("[S3] 삭제 완료 - 키: {}", key);
+            return true;
+        } catch (S3Exception e) {
+            throw new IOException("S3 삭제 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<URI> presignedReadUrl(String key, Duration ttl) {
+        GetObjectPresignRequest request = GetObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .getObjectRequest(GetObjectRequest.builder().bucket(bucket).key(key).build())
+                .build();
+        try {
+            return Optional.of(presigner.presignGetObject(request).url().toURI());
+        } catch (URISyntaxException e) {
+            logger.error("[S3] 사전 서명 URL 생성 실패 - 키: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String describe() {
+        return "s3:" + bucket;
+    }
+
+    /**
+     * 원본 스트림에서 지정 길이만 읽는 스트림 (원본은 닫지 않음)
+     */
+    private static class BoundedInputStream extends InputStream {
+        private final InputStream delegate;
+        private long remaining;
+
+        BoundedInputStream(InputStream delegate, long limit) {
+            this.delegate = delegate;
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = delegate.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = delegate.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+            // 원본 스트림은 putMultipart에서 닫음
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.dormitory.SpringBoot.utils;
+
+import javax.imageio.ImageIO;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드 이미지 파생본(썸네일/웹용) 경로 규칙
+ * ✅ 원본 옆에 결정적인 이름으로 저장: cas/ab/cd/{sha256}.png → cas/ab/cd/{sha256}.png.thumb.jpg
+ * ✅ 원본이 내용 주소(cas/) 경로이고 ImageIO로 읽을 수 있는 형식일 때만 파생본 생성
+ * ✅ "uploads/" 접두사가 붙은 경로(공지사항 등)는 접두사를 그대로 유지
+ */
+public final class ImageRenditions {
+
+    public static final String THUMBNAIL = "thumb";
+    public static final String WEB = "web";
+
+    private static final String CAS_PREFIX = "cas/";
+    private static final String RENDITION_EXTENSION = ".jpg";
+
+    // 현재 런타임에서 디코딩 가능한 이미지 확장자 (ImageIO 플러그인에 따라 달라짐)
+    private static final Set<String> READABLE_EXTENSIONS = Arrays.stream(ImageIO.getReaderFileSuffixes())
+            .map(suffix -> suffix.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+
+    private ImageRenditions() {
+    }
+
+    /**
+     * 썸네일 경로 (파생본 대상이 아니면 null)
+     */
+    public static String thumbnailPathOf(String imagePath) {
+        return renditionPathOf(imagePath, THUMBNAIL);
+    }
+
+    /**
+     * 웹용 중간 크기 경로 (파생본 대상이 아니면 null)
+     */
+    public static String webPathOf(String imagePath) {
+        return renditionPathOf(imagePath, WEB);
+    }
+
+    /**
+     * 원본 경로에 대한 파생본 경로
+     */
+    public static String renditionPathOf(String imagePath, String rendition) {
+        if (!supports(imagePath)) {
+            return null;
+        }
+        return imagePath + "." + rendition + RENDITION_EXTENSION;
+    }
+
+    /**
+     * 파생본 생성 대상 여부 (내용 주소 경로 + 디코딩 가능한 이미지)
+     */
+    public static boolean supports(String imagePath) {
+        if (imagePath == null || isRendition(imagePath)) {
+            return false;
+        }
+        String path = stripUploadsPrefix(imagePath);
+        if (!path.startsWith(CAS_PREFIX)) {
+            return false;
+        }
+        int dot = path.lastIndexOf('.');
+        return dot >= 0 && READABLE_EXTENSIONS.contains(path.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 파생본 경로인지 확인
+     */
+    public static boolean isRendition(String path) {
+        return path != null && (path.endsWith("." + THUMBNAIL + RENDITION_EXTENSION)
+                || path.endsWith("." + WEB + RENDITION_EXTENSION));
+    }
+
+    /**
+     * 파생본 경로에서 원본 경로 복원 (파생본이 아니면 그대로 반환)
+     */
+    public static String originalPathOf(String path) {
+        if (!isRendition(path)) {
+            return path;
+        }
+        String withoutExtension = path.substring(0, path.length() - RENDITION_EXTENSION.length());
+        return withoutExtension.substring(0, withoutExtension.lastIndexOf('.'));
+    }
+
+    private static String stripUploadsPrefix(String path) {
+        String normalized = path.startsWith("/") ? path.substring(1) : path;
+        return normalized.startsWith("uploads/") ? normalized.substring("uploads/".length()) : normalized;
+    }
+}
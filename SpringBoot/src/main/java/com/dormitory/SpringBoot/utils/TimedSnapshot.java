@@ -0,0 +1,81 @@
+package com.dormitory.SpringBoot.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 짧은 유효 시간을 가진 단일 값 스냅샷 (통계 대시보드용)
+ * ✅ 유효 시간 안에는 저장된 값을 그대로 반환 (DB 조회 없음)
+ * ✅ 만료 시 한 스레드만 다시 계산하고 나머지는 그 결과를 사용
+ * ✅ 데이터 변경 시 커밋 이후 무효화하여 다음 조회에서 즉시 재계산
+ */
+public class TimedSnapshot<T> {
+
+    private final long ttlMillis;
+
+    private volatile Entry<T> entry;
+
+    public TimedSnapshot(long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 유효한 스냅샷이 있으면 반환, 없으면 loader로 계산 후 저장
+     */
+    public T get(Supplier<T> loader) {
+        Entry<T> current = entry;
+        if (current != null && !current.isExpired()) {
+            return current.value;
+        }
+        synchronized (this) {
+            current = entry;
+            if (current != null && !current.isExpired()) {
+                return current.value;
+            }
+            T value = loader.get();
+            if (ttlMillis > 0) {
+                entry = new Entry<>(value, System.currentTimeMillis() + ttlMillis);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * 스냅샷 즉시 무효화
+     */
+    public void invalidate() {
+        entry = null;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 무효화 (트랜잭션 밖이면 즉시)
+     */
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T value;
+        private final long expiresAt;
+
+        private Entry(T value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.dormitory.SpringBoot.utils;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 분산 추적 span 유틸리티 (Micrometer Tracing → OpenTelemetry)
+ * ✅ 현재 span(HTTP 요청 등)의 하위 span을 만들고 작업 동안 현재 span으로 설정
+ * ✅ 하위 작업의 로그에도 같은 traceId/spanId가 MDC로 들어감
+ * ✅ 예외 발생 시 span에 오류 기록 후 그대로 전달
+ * 추적이 비활성화되어 Tracer Bean이 없으면 아무것도 기록하지 않음 (Tracer.NOOP)
+ */
+@Component
+public class TracingUtil {
+
+    @Autowired
+    private ObjectProvider<Tracer> tracerProvider;
+
+    /**
+     * span 안에서 작업 실행 (tags: 키, 값, 키, 값 ...)
+     */
+    public <T> T inSpan(String name, Supplier<T> work, String... tags) {
+        Tracer tracer = tracerProvider.getIfAvailable(() -> Tracer.NOOP);
+        Span span = tracer.nextSpan().name(name);
+        for (int i = 0; i + 1 < tags.length; i += 2) {
+            span.tag(tags[i], tags[i + 1]);
+        }
+        span.start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return work.get();
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    public void inSpan(String name, Runnable work, String... tags) {
+        inSpan(name, () -> {
+            work.run();
+            return null;
+        }, tags);
+    }
+}
@@ -0,0 +1,318 @@
+package com.dormitory.SpringBoot;
+
+import com.dormitory.SpringBoot.domain.BuildingTableConfig;
+import com.dormitory.SpringBoot.domain.Inspection;
+import com.dormitory.SpringBoot.domain.Notice;
+import com.dormitory.SpringBoot.domain.User;
+import com.dormitory.SpringBoot.repository.BuildingTableConfigRepository;
+import com.dormitory.SpringBoot.repository.InspectionRepository;
+import com.dormitory.SpringBoot.repository.NoticeRepository;
+import com.dormitory.SpringBoot.repository.UserRepository;
+import com.dormitory.SpringBoot.services.AttendanceBitmapIndex;
+import com.dormitory.SpringBoot.services.InspectionRollupService;
+import com.dormitory.SpringBoot.services.QueryDiagnostics;
+import com.dormitory.SpringBoot.services.RoomRosterIndex;
+import com.dormitory.SpringBoot.utils.EncryptionUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 엔드포인트별 SQL 실행 수 / 응답 시간 회귀 테스트
+ * ✅ 메모리 H2에 기숙사 2개 동(3층 x 5호실, 호실당 2명)과 오늘 점호 기록을 적재
+ * ✅ 각 엔드포인트를 한 번 호출해 캐시/색인을 데운 뒤 다시 호출해 측정
+ * ✅ SQL 실행 수는 DataSource(InstrumentedDataSource) 단계에서 집계 - JPA뿐 아니라 JdbcTemplate SQL도 포함
+ * ✅ SQL 실행 수가 예산을 넘으면 실행된 SQL 목록과 함께 실패
+ * ✅ 응답 시간은 데운 뒤 N회 반복한 p95로 비교 (한 번의 지연에 흔들리지 않도록 넉넉하게,
+ *    느린 CI에서는 -Dquery-budget.latency-scale=2 처럼 배율 조정)
+ *
+ * SQL 예산은 N+1 조회가 다시 생기면 바로 걸리도록 현재 쿼리 수에 맞춰 잡고,
+ * 쿼리를 줄이면 함께 낮출 것
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("query-budget")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointQueryBudgetTests {
+
+    private static final List<String> BUILDINGS = List.of("A동", "B동");
+    private static final int FLOORS = 3;
+    private static final int ROOMS_PER_FLOOR = 5;
+    private static final int RESIDENTS_PER_ROOM = 2;
+
+    private static final String ADMIN_ID = "budget-admin";
+    private static final String STUDENT_ID = "A동-101-0";
+
+    // 응답 시간 측정 반복 횟수 (p95 계산용)
+    private static final int LATENCY_ITERATIONS = 20;
+
+    private static final double LATENCY_SCALE =
+            Double.parseDouble(System.getProperty("query-budget.latency-scale", "1"));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private InspectionRepository inspectionRepository;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private BuildingTableConfigRepository buildingTableConfigRepository;
+
+    @Autowired
+    private EncryptionUtil encryptionUtil;
+
+    @Autowired
+    private RoomRosterIndex rosterIndex;
+
+    @Autowired
+    private AttendanceBitmapIndex attendanceBitmapIndex;
+
+    @Autowired
+    private InspectionRollupService rollupService;
+
+    private Long sampleInspectionId;
+
+    /**
+     * 측정 대상 엔드포인트 (이름, URL, 관리자 여부, 최대 SQL 수, 응답 시간 p95 상한 ms)
+     */
+    static Stream<EndpointBudget> endpoints() {
+        String today = LocalDate.now().toString();
+        return Stream.of(
+                new EndpointBudget("전체 점호 기록", "/api/inspections/admin/all", true, 2, 500),
+                new EndpointBudget("날짜별 점호 기록", "/api/inspections/admin/date/" + today, true, 2, 500),
+                new EndpointBudget("점호 상세", "/api/inspections/admin/{inspectionId}", true, 2, 300),
+                new EndpointBudget("기숙사동 현황", "/api/inspections/admin/building-status/A동", true, 3, 500),
+                new EndpointBudget("기숙사동 현황 요약", "/api/inspections/admin/building-status/A동?view=summary", true, 3, 500),
+                new EndpointBudget("전체 기숙사 현황", "/api/inspections/admin/campus-status", true, 4, 800),
+                new EndpointBudget("호실 점호 상세", "/api/inspections/admin/room-status/A동/1/1", true, 3, 300),
+                new EndpointBudget("기숙사동 목록", "/api/inspections/admin/buildings", true, 1, 300),
+                new EndpointBudget("점호 통계", "/api/inspections/statistics", true, 3, 500),
+                new EndpointBudget("출석 테이블", "/api/attendance/table?date=" + today, true, 3, 500),
+                new EndpointBudget("미제출자", "/api/attendance/not-submitted", true, 1, 300),
+                new EndpointBudget("제출 현황 요약", "/api/attendance/submission-summary", true, 1, 300),
+                new EndpointBudget("내 점호 기록", "/api/inspections/my", false, 2, 300),
+                new EndpointBudget("공지사항 목록", "/api/notices", false, 4, 500)
+        );
+    }
+
+    @BeforeAll
+    void seed() {
+        List<User> users = new ArrayList<>();
+        users.add(new User(ADMIN_ID, "{noop}password", true));
+
+        List<Inspection> inspections = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        int sequence = 0;
+
+        for (String building : BUILDINGS) {
+            BuildingTableConfig config = new BuildingTableConfig();
+            config.setBuildingName(building);
+            config.setStartFloor(1);
+            config.setEndFloor(FLOORS);
+            config.setStartRoom(1);
+            config.setEndRoom(ROOMS_PER_FLOOR);
+            config.setRoomNumberFormat("FLOOR_ROOM");
+            config.setIsActive(true);
+            buildingTableConfigRepository.save(config);
+
+            for (int floor = 1; floor <= FLOORS; floor++) {
+                for (int room = 1; room <= ROOMS_PER_FLOOR; room++) {
+                    String roomNumber = config.generateRoomNumber(floor, room);
+                    for (int resident = 0; resident < RESIDENTS_PER_ROOM; resident++) {
+                        String userId = building + "-" + roomNumber + "-" + resident;
+                        User user = new User(userId, "{noop}password", false);
+                        user.setName(encryptionUtil.encrypt("학생" + sequence));
+                        user.setDormitoryBuilding(building);
+                        user.setRoomNumber(roomNumber);
+                        users.add(user);
+
+                        // 3명 중 2명 제출 (통과/불합격 번갈아)
+                        if (sequence % 3 != 2) {
+                            boolean pass = sequence % 2 == 0;
+                            Inspection inspection = new Inspection(userId, roomNumber, "inspections/seed-" + sequence + ".jpg",
+                                    pass ? 8 : 4, pass ? "PASS" : "FAIL", "seed");
+                            inspection.setInspectionDate(now);
+                            inspections.add(inspection);
+                        }
+                        sequence++;
+                    }
+                }
+            }
+        }
+
+        userRepository.saveAll(users);
+        sampleInspectionId = inspectionRepository.saveAll(inspections).get(0).getId();
+        for (int i = 0; i < 10; i++) {
+            noticeRepository.save(new Notice("공지 " + i, "내용 " + i, ADMIN_ID));
+        }
+
+        // 기동 시 빈 DB로 구성된 메모리 색인을 적재 데이터로 다시 구성
+        rosterIndex.reload();
+        attendanceBitmapIndex.reload();
+        rollupService.markChangedAfterCommit(LocalDate.now());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("endpoints")
+    void endpointStaysWithinBudget(EndpointBudget budget) throws Exception {
+        String url = budget.url().replace("{inspectionId}", String.valueOf(sampleInspectionId));
+        UsernamePasswordAuthenticationToken principal = new UsernamePasswordAuthenticationToken(
+                budget.admin() ? ADMIN_ID : STUDENT_ID, null,
+                List.of(new SimpleGrantedAuthority(budget.admin() ? "ROLE_ADMIN" : "ROLE_USER")));
+
+        // 캐시/색인 준비 (측정 제외)
+        mockMvc.perform(get(url).with(authentication(principal)));
+
+        StatementCapture.start();
+        MvcResult result;
+        try {
+            result = mockMvc.perform(get(url).with(authentication(principal))).andReturn();
+        } finally {
+            StatementCapture.stop();
+        }
+        List<String> executed = StatementCapture.snapshot();
+
+        assertEquals(200, result.getResponse().getStatus(),
+                budget.name() + " 응답 실패: " + result.getResponse().getContentAsString());
+
+        if (executed.size() > budget.maxStatements()) {
+            StringBuilder message = new StringBuilder()
+                    .append(budget.name()).append(" (").append(url).append(") 예산 초과")
+                    .append(" - SQL: ").append(executed.size()).append("/").append(budget.maxStatements());
+            for (int i = 0; i < executed.size(); i++) {
+                message.append(System.lineSeparator()).append("  ").append(i + 1).append(". ").append(executed.get(i));
+            }
+            fail(message.toString());
+        }
+
+        // 응답 시간 p95
+        long[] elapsedMs = new long[LATENCY_ITERATIONS];
+        for (int i = 0; i < LATENCY_ITERATIONS; i++) {
+            long startTime = System.nanoTime();
+            mockMvc.perform(get(url).with(authentication(principal)));
+            elapsedMs[i] = (System.nanoTime() - startTime) / 1_000_000;
+        }
+        Arrays.sort(elapsedMs);
+        long p95 = elapsedMs[(int) Math.ceil(LATENCY_ITERATIONS * 0.95) - 1];
+        long limit = Math.round(budget.maxP95Millis() * LATENCY_SCALE);
+        if (p95 > limit) {
+            fail(budget.name() + " (" + url + ") 응답 시간 예산 초과 - p95: " + p95 + "ms/" + limit + "ms"
+                    + ", 측정값(ms): " + Arrays.toString(elapsedMs));
+        }
+    }
+
+    /**
+     * 비트맵 색인 응답의 학생 이름은 복호화된 평문이어야 함 (명부에는 암호화된 값이 들어 있음)
+     */
+    @Test
+    void attendanceIndexEndpointsReturnPlaintextNames() throws Exception {
+        UsernamePasswordAuthenticationToken principal = new UsernamePasswordAuthenticationToken(
+                ADMIN_ID, null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        for (String url : List.of("/api/attendance/not-submitted", "/api/attendance/consecutive-failures?days=1")) {
+            MvcResult result = mockMvc.perform(get(url).with(authentication(principal))).andReturn();
+            assertEquals(200, result.getResponse().getStatus(), url + " 응답 실패");
+
+            JsonNode students = objectMapper.readTree(result.getResponse().getContentAsByteArray()).path("data");
+            assertFalse(students.isEmpty(), url + " 결과 없음");
+            for (JsonNode student : students) {
+                String name = student.path("name").asText();
+                assertTrue(name.startsWith("학생"), url + " 이름이 평문이 아님: " + name);
+            }
+        }
+    }
+
+    record EndpointBudget(String name, String url, boolean admin, int maxStatements, long maxP95Millis) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * 측정 중인 스레드에서 실행된 SQL 문을 기록 (백그라운드 작업 SQL 제외)
+     */
+    static class StatementCapture {
+
+        private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        private static volatile Thread measuring;
+
+        static void start() {
+            STATEMENTS.clear();
+            measuring = Thread.currentThread();
+        }
+
+        static void stop() {
+            measuring = null;
+        }
+
+        static List<String> snapshot() {
+            synchronized (STATEMENTS) {
+                return new ArrayList<>(STATEMENTS);
+            }
+        }
+
+        static void record(String sql) {
+            if (Thread.currentThread() == measuring) {
+                STATEMENTS.add(sql != null ? sql : "(batch)");
+            }
+        }
+    }
+
+    /**
+     * InstrumentedDataSource가 호출하는 진단 컴포넌트를 감싸 실행된 SQL을 모두 기록
+     */
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        @Primary
+        QueryDiagnostics capturingQueryDiagnostics() {
+            return new QueryDiagnostics() {
+                @Override
+                public void recordStatement(String sql, List<String> bindShape, int batchSize, long elapsedNanos) {
+                    StatementCapture.record(sql);
+                    super.recordStatement(sql, bindShape, batchSize, elapsedNanos);
+                }
+            };
+        }
+    }
+}
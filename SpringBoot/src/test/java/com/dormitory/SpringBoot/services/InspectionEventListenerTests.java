@@ -0,0 +1,133 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.domain.Inspection;
+import com.dormitory.SpringBoot.event.InspectionEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 점호 이벤트 → 출석 테이블 반영 검증
+ * ✅ 제출 이벤트는 출석 테이블에 점수/상태를 기록 (기존에는 호출되지 않던 신규 동작)
+ * ✅ 반려/삭제 이벤트는 출석을 되돌리고 이미지를 삭제
+ * ✅ 같은 사용자/날짜의 대기 이벤트는 최신 하나만 반영
+ * ✅ 반영 실패 시 스케줄러로 재시도 (작업 스레드에서 대기하지 않음)
+ */
+class InspectionEventListenerTests {
+
+    private static final LocalDateTime INSPECTION_DATE = LocalDateTime.of(2026, 3, 2, 21, 30);
+
+    private final List<Runnable> queued = new ArrayList<>();
+
+    private InspectionEventListener listener;
+    private AttendanceTableService attendanceTableService;
+    private FileService fileService;
+    private TaskScheduler taskScheduler;
+
+    @BeforeEach
+    void setUp() {
+        attendanceTableService = mock(AttendanceTableService.class);
+        fileService = mock(FileService.class);
+        taskScheduler = mock(TaskScheduler.class);
+        InspectionMetrics metrics = mock(InspectionMetrics.class);
+        doAnswer(invocation -> {
+            invocation.getArgument(2, Runnable.class).run();
+            return null;
+        }).when(metrics).stage(anyString(), anyString(), any(Runnable.class));
+
+        listener = new InspectionEventListener();
+        ReflectionTestUtils.setField(listener, "attendanceTableService", attendanceTableService);
+        ReflectionTestUtils.setField(listener, "fileService", fileService);
+        ReflectionTestUtils.setField(listener, "metrics", metrics);
+        ReflectionTestUtils.setField(listener, "executor", (TaskExecutor) queued::add);
+        ReflectionTestUtils.setField(listener, "taskScheduler", taskScheduler);
+        ReflectionTestUtils.setField(listener, "maxAttempts", 3);
+        ReflectionTestUtils.setField(listener, "backoffMs", 200L);
+    }
+
+    @Test
+    void submittedEventUpdatesAttendance() {
+        listener.onInspectionEvent(new InspectionEvent.Submitted(inspection("user-1", 8, "PASS")));
+        runQueued();
+
+        verify(attendanceTableService).updateAttendanceOnInspectionSubmit(
+                "user-1", INSPECTION_DATE.toLocalDate(), 8, "PASS");
+        verify(fileService, never()).deleteFile(anyString());
+    }
+
+    @Test
+    void rejectedEventRevertsAttendanceAndDeletesImage() {
+        listener.onInspectionEvent(new InspectionEvent.Rejected(inspection("user-1", 4, "FAIL"), "사진 불량"));
+        runQueued();
+
+        verify(attendanceTableService).revertAttendanceOnInspectionRemoved(
+                "user-1", INSPECTION_DATE.toLocalDate(), "REJECTED");
+        verify(fileService).deleteFile("inspections/user-1.jpg");
+    }
+
+    @Test
+    void pendingEventsForSameDayAreCoalesced() {
+        Inspection inspection = inspection("user-1", 8, "PASS");
+        listener.onInspectionEvent(new InspectionEvent.Submitted(inspection));
+        listener.onInspectionEvent(new InspectionEvent.Deleted(inspection));
+        runQueued();
+
+        verify(attendanceTableService, never()).updateAttendanceOnInspectionSubmit(
+                anyString(), any(), any(), anyString());
+        verify(attendanceTableService, times(1)).revertAttendanceOnInspectionRemoved(
+                "user-1", INSPECTION_DATE.toLocalDate(), "PENDING");
+    }
+
+    @Test
+    void failedUpdateIsRetriedOnScheduler() {
+        doThrow(new RuntimeException("DB 연결 실패")).doNothing().when(attendanceTableService)
+                .updateAttendanceOnInspectionSubmit("user-1", INSPECTION_DATE.toLocalDate(), 8, "PASS");
+
+        listener.onInspectionEvent(new InspectionEvent.Submitted(inspection("user-1", 8, "PASS")));
+        runQueued();
+
+        ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(retry.capture(), any(Instant.class));
+
+        // 재시도 대기 중에 들어온 같은 키의 이벤트는 새 작업을 만들지 않음
+        listener.onInspectionEvent(new InspectionEvent.Submitted(inspection("user-1", 8, "PASS")));
+        assertEquals(0, queued.size());
+
+        retry.getValue().run();
+        runQueued();
+
+        verify(attendanceTableService, times(2)).updateAttendanceOnInspectionSubmit(
+                "user-1", INSPECTION_DATE.toLocalDate(), 8, "PASS");
+    }
+
+    private void runQueued() {
+        while (!queued.isEmpty()) {
+            queued.remove(0).run();
+        }
+    }
+
+    private static Inspection inspection(String userId, int score, String status) {
+        Inspection inspection = new Inspection(userId, "101", "inspections/" + userId + ".jpg", score, status, "피드백");
+        inspection.setId(1L);
+        inspection.setInspectionDate(INSPECTION_DATE);
+        return inspection;
+    }
+}
@@ -0,0 +1,149 @@
+package com.dormitory.SpringBoot.storage;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * S3ObjectStorage를 S3 호환 대역 서버(S3StandInServer, MinIO 대역)에 대해 검증
+ * ✅ 단일 PUT / 멀티파트 업로드 후 내용 일치
+ * ✅ 존재 확인, 스트림 읽기, 삭제
+ * ✅ 사전 서명 URL로 JVM을 거치지 않고 직접 다운로드
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class S3ObjectStorageTests {
+
+    private static final String BUCKET = "dormitory-test";
+    private static final long MULTIPART_THRESHOLD = 1024 * 1024;
+    private static final long PART_SIZE = 5L * 1024 * 1024;
+
+    private S3StandInServer server;
+    private S3ObjectStorage storage;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    void startServer() throws Exception {
+        server = new S3StandInServer();
+
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create("test-access-key", "test-secret-key"));
+        S3Configuration configuration = S3Configuration.builder().pathStyleAccessEnabled(true).build();
+
+        S3Client client = S3Client.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(configuration)
+                .endpointOverride(server.endpoint())
+                .build();
+        S3Presigner presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(configuration)
+                .endpointOverride(server.endpoint())
+                .build();
+
+        storage = new S3ObjectStorage(client, presigner, BUCKET, MULTIPART_THRESHOLD, PART_SIZE);
+    }
+
+    @AfterAll
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void smallFileIsStoredWithSinglePut() throws Exception {
+        byte[] content = randomBytes(64 * 1024, 1);
+        String key = "cas/ab/cd/small.jpg";
+
+        storage.put(key, writeTemp(content), "image/jpeg");
+
+        assertArrayEquals(content, server.object(BUCKET, key));
+        assertTrue(storage.exists(key));
+        try (InputStream in = storage.open(key)) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void largeFileIsStoredWithMultipartUpload() throws Exception {
+        // 5MB 파트 2개 + 나머지 1MB
+        byte[] content = randomBytes((int) (PART_SIZE * 2 + 1024 * 1024), 2);
+        String key = "cas/12/34/large.jpg";
+        int completionsBefore = server.multipartCompletions();
+
+        storage.put(key, writeTemp(content), "image/jpeg");
+
+        assertEquals(completionsBefore + 1, server.multipartCompletions());
+        assertEquals(0, server.pendingUploads());
+        assertArrayEquals(content, server.object(BUCKET, key));
+    }
+
+    @Test
+    void missingObjectDoesNotExist() {
+        assertFalse(storage.exists("cas/00/00/missing.jpg"));
+    }
+
+    @Test
+    void deleteRemovesObject() throws Exception {
+        String key = "cas/de/le/delete.png";
+        storage.put(key, writeTemp(randomBytes(1024, 3)), "image/png");
+
+        assertTrue(storage.delete(key));
+
+        assertFalse(storage.exists(key));
+    }
+
+    @Test
+    void presignedUrlDownloadsDirectlyFromStorage() throws Exception {
+        byte[] content = randomBytes(32 * 1024, 4);
+        String key = "cas/pr/es/presigned.jpg";
+        storage.put(key, writeTemp(content), "image/jpeg");
+
+        Optional<URI> url = storage.presignedReadUrl(key, Duration.ofMinutes(5));
+
+        assertTrue(url.isPresent());
+        assertTrue(url.get().getQuery().contains("X-Amz-Signature"));
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(url.get()).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode());
+        assertArrayEquals(content, response.body());
+    }
+
+    private Path writeTemp(byte[] content) throws Exception {
+        Path file = Files.createTempFile(tempDir, "upload-", ".bin");
+        Files.write(file, content);
+        return file;
+    }
+
+    private static byte[] randomBytes(int size, long seed) {
+        byte[] bytes = new byte[size];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,233 @@
+package com.dormitory.SpringBoot.storage;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 S3 호환 서버 (MinIO 대역, 메모리 저장)
+ * ✅ 경로 방식(/{버킷}/{키}) PUT/GET/HEAD/DELETE + 멀티파트 업로드(시작/파트/완료/취소)
+ * ✅ aws-chunked 본문(서명된 스트리밍 업로드) 해제, ETag는 S3와 같은 MD5 규칙
+ * ✅ 서명은 검증하지 않음 (사전 서명 URL도 그대로 통과)
+ */
+class S3StandInServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, TreeMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final AtomicInteger multipartCompletions = new AtomicInteger();
+
+    S3StandInServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    URI endpoint() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    byte[] object(String bucket, String key) {
+        return objects.get(bucket + "/" + key);
+    }
+
+    int multipartCompletions() {
+        return multipartCompletions.get();
+    }
+
+    int pendingUploads() {
+        return uploads.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String objectKey = URLDecoder.decode(exchange.getRequestURI().getRawPath().substring(1), StandardCharsets.UTF_8);
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            byte[] body = readBody(exchange);
+
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    String eTag = md5(body);
+                    if (query.containsKey("uploadId")) {
+                        TreeMap<Integer, byte[]> parts = uploads.get(query.get("uploadId"));
+                        if (parts == null) {
+                            sendError(exchange, 404, "NoSuchUpload");
+                            return;
+                        }
+                        parts.put(Integer.parseInt(query.get("partNumber")), body);
+                    } else {
+                        objects.put(objectKey, body);
+                    }
+                    exchange.getResponseHeaders().set("ETag", "\"" + eTag + "\"");
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                case "POST" -> {
+                    if (query.containsKey("uploads")) {
+                        String uploadId = UUID.randomUUID().toString();
+                        uploads.put(uploadId, new TreeMap<>());
+                        sendXml(exchange, "<InitiateMultipartUploadResult><Bucket>" + bucketOf(objectKey)
+                                + "</Bucket><Key>" + keyOf(objectKey) + "</Key><UploadId>" + uploadId
+                                + "</UploadId></InitiateMultipartUploadResult>");
+                    } else {
+                        TreeMap<Integer, byte[]> parts = uploads.remove(query.get("uploadId"));
+                        if (parts == null) {
+                            sendError(exchange, 404, "NoSuchUpload");
+                            return;
+                        }
+                        ByteArrayOutputStream content = new ByteArrayOutputStream();
+                        ByteArrayOutputStream partDigests = new ByteArrayOutputStream();
+                        for (byte[] part : parts.values()) {
+                            content.write(part);
+                            partDigests.write(HexFormat.of().parseHex(md5(part)));
+                        }
+                        objects.put(objectKey, content.toByteArray());
+                        multipartCompletions.incrementAndGet();
+                        sendXml(exchange, "<CompleteMultipartUploadResult><Bucket>" + bucketOf(objectKey)
+                                + "</Bucket><Key>" + keyOf(objectKey) + "</Key><ETag>\"" + md5(partDigests.toByteArray())
+                                + "-" + parts.size() + "\"</ETag></CompleteMultipartUploadResult>");
+                    }
+                }
+                case "GET", "HEAD" -> {
+                    byte[] content = objects.get(objectKey);
+                    if (content == null) {
+                        sendError(exchange, 404, "NoSuchKey");
+                        return;
+                    }
+                    exchange.getResponseHeaders().set("ETag", "\"" + md5(content) + "\"");
+                    exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+                    if ("HEAD".equals(exchange.getRequestMethod())) {
+                        exchange.getResponseHeaders().set("Content-Length", String.valueOf(content.length));
+                        exchange.sendResponseHeaders(200, -1);
+                    } else {
+                        exchange.sendResponseHeaders(200, content.length);
+                        exchange.getResponseBody().write(content);
+                    }
+                }
+                case "DELETE" -> {
+                    if (query.containsKey("uploadId")) {
+                        uploads.remove(query.get("uploadId"));
+                    } else {
+                        objects.remove(objectKey);
+                    }
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+        }
+    }
+
+    /**
+     * 요청 본문 읽기 (aws-chunked 인코딩이면 청크 헤더/서명 제거)
+     */
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        byte[] raw;
+        try (InputStream in = exchange.getRequestBody()) {
+            raw = in.readAllBytes();
+        }
+        String contentSha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        String contentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        boolean chunked = (contentSha != null && contentSha.startsWith("STREAMING-"))
+                || (contentEncoding != null && contentEncoding.contains("aws-chunked"));
+        return chunked ? decodeAwsChunked(raw) : raw;
+    }
+
+    private static byte[] decodeAwsChunked(byte[] raw) {
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        int position = 0;
+        while (position < raw.length) {
+            int lineEnd = indexOfCrLf(raw, position);
+            String header = new String(raw, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int separator = header.indexOf(';');
+            int size = Integer.parseInt(separator >= 0 ? header.substring(0, separator) : header, 16);
+            position = lineEnd + 2;
+            if (size == 0) {
+                break;
+            }
+            decoded.write(raw, position, size);
+            position += size + 2;
+        }
+        return decoded.toByteArray();
+    }
+
+    private static int indexOfCrLf(byte[] data, int from) {
+        for (int i = from; i + 1 < data.length; i++) {
+            if (data[i] == '\r' && data[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return data.length;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = URLDecoder.decode(equals >= 0 ? pair.substring(0, equals) : pair, StandardCharsets.UTF_8);
+            String value = equals >= 0 ? URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8) : "";
+            query.put(name, value);
+        }
+        return query;
+    }
+
+    private static String bucketOf(String objectKey) {
+        return objectKey.substring(0, objectKey.indexOf('/'));
+    }
+
+    private static String keyOf(String objectKey) {
+        return objectKey.substring(objectKey.indexOf('/') + 1);
+    }
+
+    private static void sendXml(HttpExchange exchange, String xml) throws IOException {
+        byte[] body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + xml).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String code) throws IOException {
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?><Error><Code>" + code
+                + "</Code><Message>" + code + "</Message></Error>").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static String md5(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}